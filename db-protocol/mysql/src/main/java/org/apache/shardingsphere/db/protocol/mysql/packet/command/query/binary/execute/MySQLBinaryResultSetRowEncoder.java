@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.List;
+
+/**
+ * Binary result set row encoder for MySQL.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_binary_resultset.html#sect_protocol_binary_resultset_row">Binary Protocol Resultset Row</a>
+ */
+public final class MySQLBinaryResultSetRowEncoder implements MySQLResultSetRowEncoder {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final MySQLBinaryProtocolValue[] protocolValues;
+    
+    public MySQLBinaryResultSetRowEncoder(final List<MySQLBinaryColumnType> columnTypes) {
+        protocolValues = new MySQLBinaryProtocolValue[columnTypes.size()];
+        for (int i = 0; i < protocolValues.length; i++) {
+            protocolValues[i] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i));
+        }
+    }
+    
+    @Override
+    public void write(final MySQLPacketPayload payload, final Object[] values) {
+        payload.writeInt1(PACKET_HEADER);
+        writeNullBitmap(payload, values);
+        for (int i = 0; i < values.length; i++) {
+            if (null != values[i]) {
+                protocolValues[i].write(payload, values[i]);
+            }
+        }
+    }
+    
+    private void writeNullBitmap(final MySQLPacketPayload payload, final Object[] values) {
+        int bitmapLength = (values.length + NULL_BITMAP_OFFSET + 7) / 8;
+        for (int bytePosition = 0; bytePosition < bitmapLength; bytePosition++) {
+            int bitmapByte = 0;
+            for (int bitPosition = 0; bitPosition < 8; bitPosition++) {
+                int index = bytePosition * 8 + bitPosition - NULL_BITMAP_OFFSET;
+                if (index >= 0 && index < values.length && null == values[index]) {
+                    bitmapByte |= 1 << bitPosition;
+                }
+            }
+            payload.writeInt1(bitmapByte);
+        }
+    }
+}
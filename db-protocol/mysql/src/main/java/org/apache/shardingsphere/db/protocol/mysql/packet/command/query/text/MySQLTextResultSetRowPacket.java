@@ -21,11 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
-import org.apache.shardingsphere.infra.util.datetime.DateTimeFormatterFactory;
 
-import java.math.BigDecimal;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -38,8 +34,6 @@ import java.util.Collection;
 @Getter
 public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     
-    private static final int NULL = 0xfb;
-    
     private final Collection<Object> data;
     
     public MySQLTextResultSetRowPacket(final MySQLPacketPayload payload, final int columnCount) {
@@ -52,27 +46,7 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     @Override
     protected void write(final MySQLPacketPayload payload) {
         for (Object each : data) {
-            if (null == each) {
-                payload.writeInt1(NULL);
-                continue;
-            }
-            writeDataIntoPayload(payload, each);
-        }
-    }
-    
-    private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
-            payload.writeBytesLenenc((byte[]) data);
-        } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
-            payload.writeStringLenenc(data.toString().split("\\.")[0]);
-        } else if (data instanceof BigDecimal) {
-            payload.writeStringLenenc(((BigDecimal) data).toPlainString());
-        } else if (data instanceof Boolean) {
-            payload.writeBytesLenenc((boolean) data ? new byte[]{1} : new byte[]{0});
-        } else if (data instanceof LocalDateTime) {
-            payload.writeStringLenenc(DateTimeFormatterFactory.getStandardFormatter().format((LocalDateTime) data));
-        } else {
-            payload.writeStringLenenc(data.toString());
+            MySQLTextResultSetRowEncoder.getInstance().writeValue(payload, each);
         }
     }
 }
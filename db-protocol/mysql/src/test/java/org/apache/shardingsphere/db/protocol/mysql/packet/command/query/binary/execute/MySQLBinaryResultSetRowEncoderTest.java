@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLBinaryResultSetRowEncoderTest {
+    
+    @Test
+    void assertWriteSameAsBinaryResultSetRowPacket() {
+        List<MySQLBinaryColumnType> columnTypes = new ArrayList<>(9);
+        Object[] values = new Object[9];
+        List<BinaryCell> cells = new ArrayList<>(9);
+        for (int i = 0; i < values.length; i++) {
+            MySQLBinaryColumnType columnType = 0 == i % 2 ? MySQLBinaryColumnType.LONGLONG : MySQLBinaryColumnType.VAR_STRING;
+            Object value = 0 == i % 3 ? null : 0 == i % 2 ? (Object) (long) i : "value_" + i;
+            columnTypes.add(columnType);
+            values[i] = value;
+            cells.add(new BinaryCell(columnType, value));
+        }
+        ByteBuf expected = Unpooled.buffer();
+        new MySQLBinaryResultSetRowPacket(new BinaryRow(cells)).write(new MySQLPacketPayload(expected, StandardCharsets.UTF_8));
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLBinaryResultSetRowEncoder(columnTypes).write(new MySQLPacketPayload(actual, StandardCharsets.UTF_8), values);
+        assertThat(ByteBufUtil.hexDump(actual), is(ByteBufUtil.hexDump(expected)));
+    }
+}
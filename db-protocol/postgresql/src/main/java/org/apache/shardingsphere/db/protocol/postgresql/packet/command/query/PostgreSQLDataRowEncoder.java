@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.util.List;
+
+/**
+ * Data row encoder for PostgreSQL, which writes row values into payload without intermediate row objects.
+ */
+public final class PostgreSQLDataRowEncoder {
+    
+    private static final int NULL_LENGTH = 0xFFFFFFFF;
+    
+    private final PostgreSQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    /**
+     * Create data row encoder with all columns in text format.
+     *
+     * @param columnCount column count
+     */
+    public PostgreSQLDataRowEncoder(final int columnCount) {
+        binaryProtocolValues = new PostgreSQLBinaryProtocolValue[columnCount];
+    }
+    
+    /**
+     * Create data row encoder.
+     *
+     * @param binaryColumnTypes column types of columns in binary format, {@code null} element means column in text format
+     */
+    public PostgreSQLDataRowEncoder(final List<PostgreSQLColumnType> binaryColumnTypes) {
+        binaryProtocolValues = new PostgreSQLBinaryProtocolValue[binaryColumnTypes.size()];
+        for (int i = 0; i < binaryProtocolValues.length; i++) {
+            PostgreSQLColumnType columnType = binaryColumnTypes.get(i);
+            binaryProtocolValues[i] = null == columnType ? null : PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnType);
+        }
+    }
+    
+    /**
+     * Write row values.
+     *
+     * @param payload payload operation for PostgreSQL packet
+     * @param values row values in order of columns
+     */
+    public void write(final PostgreSQLPacketPayload payload, final Object[] values) {
+        payload.writeInt2(values.length);
+        boolean utf8 = StandardCharsets.UTF_8.equals(payload.getCharset());
+        for (int i = 0; i < values.length; i++) {
+            if (null != binaryProtocolValues[i]) {
+                writeBinaryValue(payload, binaryProtocolValues[i], values[i]);
+            } else if (utf8 && isPlainTextValue(values[i])) {
+                writeUTF8Text(payload.getByteBuf(), values[i].toString());
+            } else {
+                writeTextValue(payload, values[i]);
+            }
+        }
+    }
+    
+    private boolean isPlainTextValue(final Object value) {
+        return null != value && !(value instanceof byte[]) && !(value instanceof SQLXML);
+    }
+    
+    private void writeUTF8Text(final ByteBuf byteBuf, final String value) {
+        int lengthIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        int length = byteBuf.writeCharSequence(value, StandardCharsets.UTF_8);
+        byteBuf.setInt(lengthIndex, length);
+    }
+    
+    static void writeBinaryValue(final PostgreSQLPacketPayload payload, final PostgreSQLBinaryProtocolValue binaryProtocolValue, final Object value) {
+        if (null == value) {
+            payload.writeInt4(NULL_LENGTH);
+            return;
+        }
+        payload.writeInt4(binaryProtocolValue.getColumnLength(value));
+        binaryProtocolValue.write(payload, value);
+    }
+    
+    static void writeTextValue(final PostgreSQLPacketPayload payload, final Object value) {
+        if (null == value) {
+            payload.writeInt4(NULL_LENGTH);
+        } else if (value instanceof byte[]) {
+            payload.writeInt4(((byte[]) value).length);
+            payload.writeBytes((byte[]) value);
+        } else if (value instanceof SQLXML) {
+            writeSQLXMLData(payload, (SQLXML) value);
+        } else {
+            byte[] columnData = value.toString().getBytes(payload.getCharset());
+            payload.writeInt4(columnData.length);
+            payload.writeBytes(columnData);
+        }
+    }
+    
+    private static void writeSQLXMLData(final PostgreSQLPacketPayload payload, final SQLXML data) {
+        try {
+            byte[] dataBytes = data.getString().getBytes(payload.getCharset());
+            payload.writeInt4(dataBytes.length);
+            payload.writeBytes(dataBytes);
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLDataRowEncoderTest {
+    
+    @Test
+    void assertWriteTextValuesSameAsDataRowPacket() {
+        Object[] values = {null, 1, "value", "中文", new byte[]{1, 2}};
+        assertThat(encode(new PostgreSQLDataRowEncoder(values.length), values, StandardCharsets.UTF_8),
+                is(encode(new PostgreSQLDataRowPacket(Arrays.asList(values)), StandardCharsets.UTF_8)));
+        assertThat(encode(new PostgreSQLDataRowEncoder(values.length), values, Charset.forName("GBK")),
+                is(encode(new PostgreSQLDataRowPacket(Arrays.asList(values)), Charset.forName("GBK"))));
+    }
+    
+    @Test
+    void assertWriteMixedFormatValuesSameAsDataRowPacket() {
+        PostgreSQLDataRowEncoder encoder = new PostgreSQLDataRowEncoder(Arrays.asList(null, PostgreSQLColumnType.INT4, PostgreSQLColumnType.INT8));
+        Object[] values = {"value", 1, null};
+        PostgreSQLDataRowPacket expected = new PostgreSQLDataRowPacket(Arrays.asList("value", new BinaryCell(PostgreSQLColumnType.INT4, 1), new BinaryCell(PostgreSQLColumnType.INT8, null)));
+        assertThat(encode(encoder, values, StandardCharsets.UTF_8), is(encode(expected, StandardCharsets.UTF_8)));
+    }
+    
+    private String encode(final PostgreSQLDataRowEncoder encoder, final Object[] values, final Charset charset) {
+        ByteBuf byteBuf = Unpooled.buffer();
+        encoder.write(new PostgreSQLPacketPayload(byteBuf, charset), values);
+        return ByteBufUtil.hexDump(byteBuf);
+    }
+    
+    private String encode(final PostgreSQLDataRowPacket packet, final Charset charset) {
+        ByteBuf byteBuf = Unpooled.buffer();
+        packet.write(new PostgreSQLPacketPayload(byteBuf, charset));
+        return ByteBufUtil.hexDump(byteBuf);
+    }
+}
@@ -40,7 +40,7 @@ import java.util.Properties;
 /**
  * AES encrypt algorithm.
  */
-@EqualsAndHashCode
+@EqualsAndHashCode(of = "secretKey")
 public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private static final String AES_KEY = "aes-key-value";
@@ -52,9 +52,15 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private byte[] secretKey;
     
+    private ThreadLocal<Cipher> encryptCiphers;
+    
+    private ThreadLocal<Cipher> decryptCiphers;
+    
     @Override
     public void init(final Properties props) {
         secretKey = getSecretKey(props);
+        encryptCiphers = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCiphers = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -70,7 +76,7 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCiphers, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
@@ -80,13 +86,23 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
+        byte[] result = doFinal(decryptCiphers, Base64.getDecoder().decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+    private byte[] doFinal(final ThreadLocal<Cipher> ciphers, final byte[] input) throws GeneralSecurityException {
+        try {
+            return ciphers.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            ciphers.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
@@ -49,4 +49,9 @@ public final class DecoratedEncryptShowColumnsMergedResult extends EncryptShowCo
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
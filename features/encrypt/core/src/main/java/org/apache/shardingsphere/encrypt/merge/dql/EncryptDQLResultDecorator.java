@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
@@ -30,22 +29,21 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 /**
  * DQL result decorator for encrypt.
  */
-@RequiredArgsConstructor
 public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptRule> {
     
-    private final ShardingSphereDatabase database;
+    private final EncryptDecryptPlan decryptPlan;
     
-    private final EncryptRule encryptRule;
-    
-    private final SelectStatementContext selectStatementContext;
+    public EncryptDQLResultDecorator(final ShardingSphereDatabase database, final EncryptRule encryptRule, final SelectStatementContext selectStatementContext) {
+        decryptPlan = new EncryptDecryptPlan(database, encryptRule, selectStatementContext);
+    }
     
     @Override
     public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(database, encryptRule, selectStatementContext, new TransparentMergedResult(queryResult));
+        return new EncryptMergedResult(decryptPlan, new TransparentMergedResult(queryResult));
     }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        return new EncryptMergedResult(decryptPlan, mergedResult);
     }
 }
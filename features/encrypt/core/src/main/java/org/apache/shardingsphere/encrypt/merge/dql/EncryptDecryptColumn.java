@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+
+/**
+ * Encrypt decrypt column, which is resolved from column projection of select statement.
+ */
+@RequiredArgsConstructor
+public final class EncryptDecryptColumn {
+    
+    private final CipherColumnItem cipher;
+    
+    private final AlgorithmSQLContext algorithmSQLContext;
+    
+    /**
+     * Decrypt.
+     *
+     * @param cipherValue cipher value
+     * @return decrypted value
+     */
+    public Object decrypt(final Object cipherValue) {
+        return cipher.decrypt(algorithmSQLContext, cipherValue);
+    }
+}
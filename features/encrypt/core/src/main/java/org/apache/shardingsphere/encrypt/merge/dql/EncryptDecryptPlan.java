@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encrypt decrypt plan, which resolves decrypt columns of select statement once and shares them with all rows.
+ */
+@RequiredArgsConstructor
+public final class EncryptDecryptPlan {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final EncryptRule encryptRule;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Map<Integer, Optional<EncryptDecryptColumn>> decryptColumns = new ConcurrentHashMap<>();
+    
+    /**
+     * Find decrypt column.
+     *
+     * @param columnIndex column index
+     * @return found decrypt column
+     */
+    public Optional<EncryptDecryptColumn> findDecryptColumn(final int columnIndex) {
+        Optional<EncryptDecryptColumn> result = decryptColumns.get(columnIndex);
+        return null == result ? decryptColumns.computeIfAbsent(columnIndex, this::createDecryptColumn) : result;
+    }
+    
+    private Optional<EncryptDecryptColumn> createDecryptColumn(final int columnIndex) {
+        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
+        if (!columnProjection.isPresent()) {
+            return Optional.empty();
+        }
+        String originalTableName = columnProjection.get().getOriginalTable().getValue();
+        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+        Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName);
+        if (!encryptTable.isPresent() || !encryptTable.get().isEncryptColumn(originalColumnName)) {
+            return Optional.empty();
+        }
+        String schemaName =
+                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+        AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(database.getName(), schemaName, originalTableName, originalColumnName);
+        return Optional.of(new EncryptDecryptColumn(encryptTable.get().getEncryptColumn(originalColumnName).getCipher(), algorithmSQLContext));
+    }
+}
@@ -22,7 +22,6 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -64,12 +63,7 @@ public final class CipherColumnItem {
      * @return encrypted values
      */
     public List<Object> encrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> originalValues) {
-        AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
-        List<Object> result = new LinkedList<>();
-        for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, algorithmSQLContext));
-        }
-        return result;
+        return encryptor.batchEncrypt(originalValues, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
     }
     
     /**
@@ -88,4 +82,15 @@ public final class CipherColumnItem {
         }
         return encryptor.decrypt(cipherValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
     }
+    
+    /**
+     * Decrypt.
+     *
+     * @param algorithmSQLContext algorithm SQL context
+     * @param cipherValue cipher value
+     * @return decrypted value
+     */
+    public Object decrypt(final AlgorithmSQLContext algorithmSQLContext, final Object cipherValue) {
+        return null == cipherValue ? null : encryptor.decrypt(cipherValue, algorithmSQLContext);
+    }
 }
@@ -28,8 +28,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,4 +100,21 @@ class AESEncryptAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(AlgorithmSQLContext.class)));
     }
+    
+    @Test
+    void assertBatchEncrypt() {
+        List<Object> actual = encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test"), mock(AlgorithmSQLContext.class));
+        assertThat(actual, is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null), mock(AlgorithmSQLContext.class)), is(Arrays.asList("test", null)));
+    }
+    
+    @Test
+    void assertDecryptAfterInvalidCipherValue() {
+        assertThrows(GeneralSecurityException.class, () -> encryptAlgorithm.decrypt("dSpPiyENQGDUXMKF", mock(AlgorithmSQLContext.class)));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(AlgorithmSQLContext.class)), is("test"));
+    }
 }
@@ -18,11 +18,19 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,11 +39,16 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,7 +60,7 @@ class EncryptMergedResultTest {
     @Mock
     private EncryptRule encryptRule;
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private SelectStatementContext selectStatementContext;
     
     @Mock
@@ -58,6 +71,33 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutColumnProjection() throws SQLException {
+        when(mergedResult.getValue(1, String.class)).thenReturn("foo");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, String.class), is("foo"));
+    }
+    
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        ColumnProjection columnProjection = new ColumnProjection(new IdentifierValue("t_user"), new IdentifierValue("name"), null, mock(DatabaseType.class));
+        columnProjection.setOriginalTable(new IdentifierValue("t_user"));
+        columnProjection.setOriginalColumn(new IdentifierValue("name"));
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(eq("cipher_foo"), any(AlgorithmSQLContext.class))).thenReturn("foo");
+        when(encryptAlgorithm.decrypt(eq("cipher_bar"), any(AlgorithmSQLContext.class))).thenReturn("bar");
+        EncryptTable encryptTable = mock(EncryptTable.class, RETURNS_DEEP_STUBS);
+        when(encryptTable.isEncryptColumn("name")).thenReturn(true);
+        when(encryptTable.getEncryptColumn("name").getCipher()).thenReturn(new CipherColumnItem("name_cipher", encryptAlgorithm));
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(encryptTable));
+        when(mergedResult.getValue(1, Object.class)).thenReturn("cipher_foo", "cipher_bar");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("foo"));
+        assertThat(actual.getValue(1, String.class), is("bar"));
+        verify(selectStatementContext).findColumnProjection(1);
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
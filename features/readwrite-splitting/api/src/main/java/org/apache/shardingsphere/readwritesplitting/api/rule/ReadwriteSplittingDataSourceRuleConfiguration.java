@@ -19,6 +19,7 @@ package org.apache.shardingsphere.readwritesplitting.api.rule;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.readwritesplitting.api.consistency.ReadQueryConsistency;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
 
 import java.util.List;
@@ -38,9 +39,16 @@ public final class ReadwriteSplittingDataSourceRuleConfiguration {
     
     private final TransactionalReadQueryStrategy transactionalReadQueryStrategy;
     
+    private final ReadQueryConsistency readQueryConsistency;
+    
     private final String loadBalancerName;
     
     public ReadwriteSplittingDataSourceRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames, final String loadBalancerName) {
         this(name, writeDataSourceName, readDataSourceNames, TransactionalReadQueryStrategy.DYNAMIC, loadBalancerName);
     }
+    
+    public ReadwriteSplittingDataSourceRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames,
+                                                         final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final String loadBalancerName) {
+        this(name, writeDataSourceName, readDataSourceNames, transactionalReadQueryStrategy, ReadQueryConsistency.EVENTUAL, loadBalancerName);
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReplicationPosition;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Replication position detector.
+ */
+@SingletonSPI
+public interface ReplicationPositionDetector extends DatabaseTypedSPI {
+    
+    /**
+     * Detect written position of primary.
+     *
+     * @param connection connection of primary
+     * @return written position
+     * @throws SQLException SQL exception
+     */
+    ReplicationPosition detectPrimaryPosition(Connection connection) throws SQLException;
+    
+    /**
+     * Detect applied position of replica.
+     *
+     * @param connection connection of replica
+     * @return applied position
+     * @throws SQLException SQL exception
+     */
+    ReplicationPosition detectReplicaPosition(Connection connection) throws SQLException;
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.database.core.type.UnsupportedStorageTypeException;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReplicationPosition;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replication position tracker of readwrite-splitting data source rule.
+ * 
+ * <p>Applied positions of read data sources are probed periodically and cached, so that reads only compare cached positions,
+ * while written position of primary is loaded on demand, because it must not be earlier than the write to be read.
+ * If position is not supported by storage, or loading position of primary failed within retry interval, no position is loaded.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ReplicationPositionTracker implements Runnable {
+    
+    /**
+     * Interval in milliseconds to probe applied positions of read data sources.
+     */
+    public static final long PROBE_INTERVAL_MILLISECONDS = 100L;
+    
+    private static final long PRIMARY_POSITION_RETRY_INTERVAL_MILLISECONDS = 1000L;
+    
+    private final DataSource writeDataSource;
+    
+    private final Map<String, DataSource> readDataSources;
+    
+    private final Map<String, ReplicationPosition> replicaPositions = new ConcurrentHashMap<>();
+    
+    private final Collection<String> probeFailedDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    private volatile Optional<ReplicationPositionDetector> positionDetector;
+    
+    private volatile long primaryPositionFailedMillis;
+    
+    @Override
+    public void run() {
+        if (isUnsupported()) {
+            return;
+        }
+        for (Entry<String, DataSource> entry : readDataSources.entrySet()) {
+            probe(entry.getKey(), entry.getValue());
+        }
+    }
+    
+    private void probe(final String dataSourceName, final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<ReplicationPositionDetector> detector = getDetector(connection);
+            if (detector.isPresent()) {
+                replicaPositions.put(dataSourceName, detector.get().detectReplicaPosition(connection));
+            }
+        } catch (final SQLException ex) {
+            replicaPositions.remove(dataSourceName);
+            if (probeFailedDataSourceNames.add(dataSourceName)) {
+                log.warn("Probe replication position of read data source `{}` failed, route reads after writes to other data sources until probe recovers.", dataSourceName, ex);
+            }
+            return;
+        }
+        probeFailedDataSourceNames.remove(dataSourceName);
+    }
+    
+    /**
+     * Load written position of primary.
+     *
+     * @return written position, empty if not supported or failed to load
+     */
+    public Optional<ReplicationPosition> loadPrimaryPosition() {
+        if (null == writeDataSource || isUnsupported() || isPrimaryPositionRetryPending()) {
+            return Optional.empty();
+        }
+        Optional<ReplicationPosition> result;
+        try (Connection connection = writeDataSource.getConnection()) {
+            Optional<ReplicationPositionDetector> detector = getDetector(connection);
+            result = detector.isPresent() ? Optional.of(detector.get().detectPrimaryPosition(connection)) : Optional.empty();
+        } catch (final SQLException ex) {
+            if (0L == primaryPositionFailedMillis) {
+                log.warn("Load replication position of write data source failed, route reads after writes to write data source until loading recovers.", ex);
+            }
+            primaryPositionFailedMillis = System.currentTimeMillis();
+            return Optional.empty();
+        }
+        primaryPositionFailedMillis = 0L;
+        return result;
+    }
+    
+    private boolean isUnsupported() {
+        Optional<ReplicationPositionDetector> detector = positionDetector;
+        return null != detector && !detector.isPresent();
+    }
+    
+    private boolean isPrimaryPositionRetryPending() {
+        long failedMillis = primaryPositionFailedMillis;
+        return 0L != failedMillis && System.currentTimeMillis() - failedMillis < PRIMARY_POSITION_RETRY_INTERVAL_MILLISECONDS;
+    }
+    
+    private Optional<ReplicationPositionDetector> getDetector(final Connection connection) throws SQLException {
+        if (null == positionDetector) {
+            positionDetector = findDetector(connection.getMetaData().getURL());
+        }
+        return positionDetector;
+    }
+    
+    private Optional<ReplicationPositionDetector> findDetector(final String url) {
+        try {
+            return DatabaseTypedSPILoader.findService(ReplicationPositionDetector.class, DatabaseTypeFactory.get(url));
+        } catch (final UnsupportedStorageTypeException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Judge whether position is reached by read data source.
+     *
+     * @param readDataSourceName read data source name
+     * @param position position to be reached
+     * @return reached or not
+     */
+    public boolean isReached(final String readDataSourceName, final ReplicationPosition position) {
+        ReplicationPosition replicaPosition = replicaPositions.get(readDataSourceName);
+        return null != replicaPosition && position.isReachedBy(replicaPosition);
+    }
+    
+    /**
+     * Judge whether position is reached by all read data sources.
+     *
+     * @param position position to be reached
+     * @return reached or not
+     */
+    public boolean isReachedByAll(final ReplicationPosition position) {
+        return readDataSources.keySet().stream().allMatch(each -> isReached(each, position));
+    }
+}
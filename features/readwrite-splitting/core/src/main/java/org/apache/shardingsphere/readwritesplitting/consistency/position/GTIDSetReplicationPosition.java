@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.position;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReplicationPosition;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * GTID set replication position of MySQL.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GTIDSetReplicationPosition implements ReplicationPosition {
+    
+    private final Map<String, Collection<long[]>> intervals;
+    
+    /**
+     * Create GTID set replication position from text form.
+     *
+     * @param text text form, such as {@code 3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5:11,3E11FA47-71CA-11E1-9E33-C80AA9429563:1-3}
+     * @return created position
+     */
+    public static GTIDSetReplicationPosition valueOf(final String text) {
+        Map<String, Collection<long[]>> intervals = new HashMap<>();
+        for (String each : text.split(",")) {
+            String[] segments = each.trim().split(":");
+            String sourceId = segments[0].toLowerCase();
+            String taggedSourceId = sourceId;
+            for (int i = 1; i < segments.length; i++) {
+                if (Character.isDigit(segments[i].charAt(0))) {
+                    intervals.computeIfAbsent(taggedSourceId, key -> new LinkedList<>()).add(parseInterval(segments[i]));
+                } else {
+                    taggedSourceId = sourceId + ":" + segments[i].toLowerCase();
+                }
+            }
+        }
+        return new GTIDSetReplicationPosition(intervals);
+    }
+    
+    private static long[] parseInterval(final String text) {
+        int index = text.indexOf('-');
+        return index < 0 ? new long[]{Long.parseLong(text), Long.parseLong(text)} : new long[]{Long.parseLong(text.substring(0, index)), Long.parseLong(text.substring(index + 1))};
+    }
+    
+    @Override
+    public boolean isReachedBy(final ReplicationPosition position) {
+        if (!(position instanceof GTIDSetReplicationPosition)) {
+            return false;
+        }
+        for (Entry<String, Collection<long[]>> entry : intervals.entrySet()) {
+            Collection<long[]> appliedIntervals = ((GTIDSetReplicationPosition) position).intervals.get(entry.getKey());
+            if (null == appliedIntervals || !entry.getValue().stream().allMatch(each -> isContained(each, appliedIntervals))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isContained(final long[] interval, final Collection<long[]> appliedIntervals) {
+        for (long[] each : appliedIntervals) {
+            if (each[0] <= interval[0] && interval[1] <= each[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
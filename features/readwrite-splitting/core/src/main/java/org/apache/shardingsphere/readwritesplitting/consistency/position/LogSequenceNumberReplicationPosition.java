@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.position;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReplicationPosition;
+
+/**
+ * Log sequence number replication position, such as LSN of PostgreSQL.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+public final class LogSequenceNumberReplicationPosition implements ReplicationPosition {
+    
+    private final long logSequenceNumber;
+    
+    /**
+     * Create log sequence number replication position from text form.
+     *
+     * @param text text form, such as {@code 16/B374D848}
+     * @return created position
+     */
+    public static LogSequenceNumberReplicationPosition valueOf(final String text) {
+        int index = text.indexOf('/');
+        return new LogSequenceNumberReplicationPosition(Long.parseLong(text.substring(0, index), 16) << 32 | Long.parseLong(text.substring(index + 1), 16));
+    }
+    
+    @Override
+    public boolean isReachedBy(final ReplicationPosition position) {
+        return position instanceof LogSequenceNumberReplicationPosition && Long.compareUnsigned(logSequenceNumber, ((LogSequenceNumberReplicationPosition) position).logSequenceNumber) <= 0;
+    }
+}
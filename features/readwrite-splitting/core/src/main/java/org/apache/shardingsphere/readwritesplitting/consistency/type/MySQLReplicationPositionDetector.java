@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.type;
+
+import org.apache.shardingsphere.infra.session.connection.consistency.ReplicationPosition;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionDetector;
+import org.apache.shardingsphere.readwritesplitting.consistency.position.GTIDSetReplicationPosition;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication position detector for MySQL, which requires GTID mode on.
+ */
+public final class MySQLReplicationPositionDetector implements ReplicationPositionDetector {
+    
+    private static final String GTID_EXECUTED_SQL = "SELECT @@GLOBAL.gtid_mode, @@GLOBAL.gtid_executed";
+    
+    @Override
+    public ReplicationPosition detectPrimaryPosition(final Connection connection) throws SQLException {
+        return detectGTIDExecuted(connection);
+    }
+    
+    @Override
+    public ReplicationPosition detectReplicaPosition(final Connection connection) throws SQLException {
+        return detectGTIDExecuted(connection);
+    }
+    
+    private ReplicationPosition detectGTIDExecuted(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(GTID_EXECUTED_SQL)) {
+            if (!resultSet.next() || !"ON".equalsIgnoreCase(resultSet.getString(1))) {
+                throw new SQLException("GTID mode should be ON to track replication position.");
+            }
+            return GTIDSetReplicationPosition.valueOf(resultSet.getString(2));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
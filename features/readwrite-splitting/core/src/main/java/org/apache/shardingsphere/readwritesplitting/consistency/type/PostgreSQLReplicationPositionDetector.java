@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.type;
+
+import org.apache.shardingsphere.infra.session.connection.consistency.ReplicationPosition;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionDetector;
+import org.apache.shardingsphere.readwritesplitting.consistency.position.LogSequenceNumberReplicationPosition;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication position detector for PostgreSQL.
+ */
+public final class PostgreSQLReplicationPositionDetector implements ReplicationPositionDetector {
+    
+    @Override
+    public ReplicationPosition detectPrimaryPosition(final Connection connection) throws SQLException {
+        return detectLogSequenceNumber(connection, "SELECT pg_current_wal_lsn()");
+    }
+    
+    @Override
+    public ReplicationPosition detectReplicaPosition(final Connection connection) throws SQLException {
+        return detectLogSequenceNumber(connection, "SELECT pg_last_wal_replay_lsn()");
+    }
+    
+    private ReplicationPosition detectLogSequenceNumber(final Connection connection, final String sql) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            String result = resultSet.next() ? resultSet.getString(1) : null;
+            if (null == result) {
+                throw new SQLException(String.format("Can not detect replication position by `%s`.", sql));
+            }
+            return LogSequenceNumberReplicationPosition.valueOf(result);
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.health;
+
+import lombok.Getter;
+
+/**
+ * Health of read data source.
+ */
+@Getter
+public final class ReadDataSourceHealth {
+    
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.3D;
+    
+    private volatile boolean available = true;
+    
+    private volatile long replicationLagMillis;
+    
+    private volatile double latencyNanos;
+    
+    /**
+     * Update health with probed sample.
+     *
+     * @param sampledLatencyNanos sampled latency in nanoseconds
+     * @param replicationLagMillis replication lag in milliseconds
+     */
+    public synchronized void update(final long sampledLatencyNanos, final long replicationLagMillis) {
+        latencyNanos = 0D == latencyNanos ? sampledLatencyNanos : LATENCY_SMOOTHING_FACTOR * sampledLatencyNanos + (1D - LATENCY_SMOOTHING_FACTOR) * latencyNanos;
+        this.replicationLagMillis = replicationLagMillis;
+        available = true;
+    }
+    
+    /**
+     * Mark read data source unavailable.
+     */
+    public void markUnavailable() {
+        available = false;
+    }
+    
+    /**
+     * Judge whether read data source is acceptable.
+     *
+     * @param maxReplicationLagMillis max replication lag in milliseconds
+     * @return is acceptable or not
+     */
+    public boolean isAcceptable(final long maxReplicationLagMillis) {
+        return available && replicationLagMillis <= maxReplicationLagMillis;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.health;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.database.core.type.UnsupportedStorageTypeException;
+import org.apache.shardingsphere.readwritesplitting.health.lag.ReplicationLagDetector;
+import org.apache.shardingsphere.readwritesplitting.loadbalancer.LatencyAwareLoadBalanceAlgorithm;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Health prober of read data sources of readwrite-splitting data source rule.
+ * 
+ * <p>Replication lag and latency of each read data source are sampled into health of latency aware load balance algorithm.
+ * If replication lag can not be detected, for example lacking privilege, but connection is still valid, only latency is sampled.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ReadDataSourceHealthProber implements Runnable {
+    
+    private static final int VALIDATION_TIMEOUT_SECONDS = 3;
+    
+    private final Map<String, DataSource> readDataSources;
+    
+    private final LatencyAwareLoadBalanceAlgorithm loadBalancer;
+    
+    private final Map<String, Optional<ReplicationLagDetector>> replicationLagDetectors = new ConcurrentHashMap<>();
+    
+    private final Collection<String> lagDetectionFailedDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    @Override
+    public void run() {
+        for (Entry<String, DataSource> entry : readDataSources.entrySet()) {
+            probe(entry.getKey(), entry.getValue());
+        }
+    }
+    
+    private void probe(final String dataSourceName, final DataSource dataSource) {
+        ReadDataSourceHealth health = loadBalancer.getHealth(dataSourceName);
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<ReplicationLagDetector> replicationLagDetector = getReplicationLagDetector(dataSourceName, connection);
+            if (!replicationLagDetector.isPresent() || !probeReplicationLag(dataSourceName, connection, replicationLagDetector.get(), health)) {
+                probeLatency(connection, health);
+            }
+        } catch (final SQLException ex) {
+            health.markUnavailable();
+            log.warn("Probe read data source `{}` failed.", dataSourceName, ex);
+        }
+    }
+    
+    private boolean probeReplicationLag(final String dataSourceName, final Connection connection, final ReplicationLagDetector replicationLagDetector, final ReadDataSourceHealth health) {
+        long startNanos = System.nanoTime();
+        long replicationLagMillis;
+        try {
+            replicationLagMillis = replicationLagDetector.detect(connection);
+        } catch (final SQLException ex) {
+            if (lagDetectionFailedDataSourceNames.add(dataSourceName)) {
+                log.warn("Detect replication lag of read data source `{}` failed, probe latency only until detection recovers.", dataSourceName, ex);
+            }
+            return false;
+        }
+        health.update(System.nanoTime() - startNanos, replicationLagMillis);
+        lagDetectionFailedDataSourceNames.remove(dataSourceName);
+        return true;
+    }
+    
+    private void probeLatency(final Connection connection, final ReadDataSourceHealth health) throws SQLException {
+        long startNanos = System.nanoTime();
+        if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+            health.update(System.nanoTime() - startNanos, 0L);
+        } else {
+            health.markUnavailable();
+        }
+    }
+    
+    private Optional<ReplicationLagDetector> getReplicationLagDetector(final String dataSourceName, final Connection connection) throws SQLException {
+        Optional<ReplicationLagDetector> result = replicationLagDetectors.get(dataSourceName);
+        if (null == result) {
+            result = findReplicationLagDetector(connection.getMetaData().getURL());
+            replicationLagDetectors.put(dataSourceName, result);
+        }
+        return result;
+    }
+    
+    private Optional<ReplicationLagDetector> findReplicationLagDetector(final String url) {
+        try {
+            return DatabaseTypedSPILoader.findService(ReplicationLagDetector.class, DatabaseTypeFactory.get(url));
+        } catch (final UnsupportedStorageTypeException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.health.lag.type;
+
+import org.apache.shardingsphere.readwritesplitting.health.lag.ReplicationLagDetector;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication lag detector for MySQL.
+ */
+public final class MySQLReplicationLagDetector implements ReplicationLagDetector {
+    
+    private static final String SHOW_REPLICA_STATUS = "SHOW REPLICA STATUS";
+    
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    
+    @Override
+    public long detect(final Connection connection) throws SQLException {
+        boolean replicaTerminology = isReplicaTerminologySupported(connection.getMetaData());
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(replicaTerminology ? SHOW_REPLICA_STATUS : SHOW_SLAVE_STATUS)) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long result = resultSet.getLong(getLagColumnIndex(resultSet.getMetaData()));
+            return resultSet.wasNull() ? Long.MAX_VALUE : result * 1000L;
+        }
+    }
+    
+    private int getLagColumnIndex(final ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String columnLabel = metaData.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(columnLabel) || "Seconds_Behind_Master".equalsIgnoreCase(columnLabel)) {
+                return i;
+            }
+        }
+        throw new SQLException("Can not find replication lag column in replica status.");
+    }
+    
+    private boolean isReplicaTerminologySupported(final DatabaseMetaData metaData) throws SQLException {
+        int majorVersion = metaData.getDatabaseMajorVersion();
+        if (8 != majorVersion) {
+            return majorVersion > 8;
+        }
+        int minorVersion = metaData.getDatabaseMinorVersion();
+        return minorVersion > 0 || metaData.getDatabaseProductVersion().matches("^8\\.0\\.(2[2-9]|[3-9]\\d).*");
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.loadbalancer;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.exception.type.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.readwritesplitting.health.ReadDataSourceHealth;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware load balance algorithm.
+ * 
+ * <p>Read data sources whose replication lag exceeds threshold or which failed last probe are skipped,
+ * others are chosen randomly with weight inversely proportional to their exponentially weighted moving average probe latency,
+ * and read data sources not probed yet take average weight.
+ * If no read data source is acceptable, the available one with least replication lag is chosen,
+ * and if none is available, one is chosen randomly.</p>
+ */
+public final class LatencyAwareLoadBalanceAlgorithm implements LoadBalanceAlgorithm {
+    
+    private static final String MAX_REPLICATION_LAG_MILLISECONDS_KEY = "max-replication-lag-milliseconds";
+    
+    private static final String PROBE_INTERVAL_MILLISECONDS_KEY = "probe-interval-milliseconds";
+    
+    private static final long DEFAULT_MAX_REPLICATION_LAG_MILLISECONDS = 10000L;
+    
+    private static final long DEFAULT_PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private static final double MIN_LATENCY_NANOS = 1000D;
+    
+    private final Map<String, ReadDataSourceHealth> healths = new ConcurrentHashMap<>();
+    
+    @Getter
+    private long maxReplicationLagMillis;
+    
+    @Getter
+    private long probeIntervalMillis;
+    
+    @Override
+    public void init(final Properties props) {
+        maxReplicationLagMillis = getPositiveLong(props, MAX_REPLICATION_LAG_MILLISECONDS_KEY, DEFAULT_MAX_REPLICATION_LAG_MILLISECONDS);
+        probeIntervalMillis = getPositiveLong(props, PROBE_INTERVAL_MILLISECONDS_KEY, DEFAULT_PROBE_INTERVAL_MILLISECONDS);
+    }
+    
+    private long getPositiveLong(final Properties props, final String key, final long defaultValue) {
+        String value = props.getProperty(key, String.valueOf(defaultValue));
+        long result;
+        try {
+            result = Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            throw new AlgorithmInitializationException(this, "`%s` of `%s` should be number.", value, key);
+        }
+        ShardingSpherePreconditions.checkState(result > 0L, () -> new AlgorithmInitializationException(this, "`%s` of `%s` should be positive.", value, key));
+        return result;
+    }
+    
+    /**
+     * Get health of read data source.
+     *
+     * @param dataSourceName read data source name
+     * @return health of read data source
+     */
+    public ReadDataSourceHealth getHealth(final String dataSourceName) {
+        return healths.computeIfAbsent(dataSourceName, key -> new ReadDataSourceHealth());
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        double probedTotalWeight = 0D;
+        int acceptableProbedCount = 0;
+        int unprobedCount = 0;
+        for (String each : availableTargetNames) {
+            ReadDataSourceHealth health = healths.get(each);
+            if (!isProbed(health)) {
+                unprobedCount++;
+            } else if (health.isAcceptable(maxReplicationLagMillis)) {
+                probedTotalWeight += getWeight(health);
+                acceptableProbedCount++;
+            }
+        }
+        double unprobedWeight = 0 == acceptableProbedCount ? 1D : probedTotalWeight / acceptableProbedCount;
+        double totalWeight = probedTotalWeight + unprobedWeight * unprobedCount;
+        if (0D == totalWeight) {
+            return getLeastLaggingTargetName(availableTargetNames);
+        }
+        double randomWeight = ThreadLocalRandom.current().nextDouble(totalWeight);
+        String result = null;
+        for (String each : availableTargetNames) {
+            ReadDataSourceHealth health = healths.get(each);
+            double weight = isProbed(health) ? getWeight(health) : unprobedWeight;
+            if (0D == weight) {
+                continue;
+            }
+            result = each;
+            randomWeight -= weight;
+            if (randomWeight < 0D) {
+                break;
+            }
+        }
+        return null == result ? getLeastLaggingTargetName(availableTargetNames) : result;
+    }
+    
+    private boolean isProbed(final ReadDataSourceHealth health) {
+        return null != health && (0D != health.getLatencyNanos() || !health.isAvailable());
+    }
+    
+    private double getWeight(final ReadDataSourceHealth health) {
+        return health.isAcceptable(maxReplicationLagMillis) ? 1D / Math.max(health.getLatencyNanos(), MIN_LATENCY_NANOS) : 0D;
+    }
+    
+    private String getLeastLaggingTargetName(final List<String> availableTargetNames) {
+        String result = availableTargetNames.get(ThreadLocalRandom.current().nextInt(availableTargetNames.size()));
+        long leastReplicationLagMillis = Long.MAX_VALUE;
+        for (String each : availableTargetNames) {
+            ReadDataSourceHealth health = healths.get(each);
+            if (null != health && health.isAvailable() && health.getReplicationLagMillis() < leastReplicationLagMillis) {
+                result = each;
+                leastReplicationLagMillis = health.getReplicationLagMillis();
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
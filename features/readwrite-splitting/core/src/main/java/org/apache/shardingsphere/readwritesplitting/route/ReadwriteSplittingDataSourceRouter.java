@@ -23,9 +23,14 @@ import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingPrimaryDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingReadYourWritesDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingTransactionalDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -48,6 +53,9 @@ public final class ReadwriteSplittingDataSourceRouter {
      * @return data source name
      */
     public String route(final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
+        if (rule.findReplicationPositionTracker().isPresent() && isWriteStatement(sqlStatementContext.getSqlStatement())) {
+            connectionContext.getReadYourWritesContext().markWritten(rule.getName());
+        }
         for (QualifiedReadwriteSplittingDataSourceRouter each : getQualifiedRouters(connectionContext)) {
             if (each.isQualified(sqlStatementContext, rule, hintValueContext)) {
                 return each.route(rule);
@@ -56,7 +64,12 @@ public final class ReadwriteSplittingDataSourceRouter {
         return new StandardReadwriteSplittingDataSourceRouter().route(rule);
     }
     
+    private boolean isWriteStatement(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof DMLStatement && !(sqlStatement instanceof SelectStatement) || sqlStatement instanceof DDLStatement;
+    }
+    
     private Collection<QualifiedReadwriteSplittingDataSourceRouter> getQualifiedRouters(final ConnectionContext connectionContext) {
-        return Arrays.asList(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(), new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext));
+        return Arrays.asList(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(), new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext),
+                new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext));
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReadYourWritesConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReplicationPosition;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionTracker;
+import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+
+import java.util.Optional;
+
+/**
+ * Qualified data source read your writes router for readwrite-splitting.
+ * 
+ * <p>Reads after writes of connection are routed to read data sources which have applied written position of primary, or to primary if none.</p>
+ */
+@RequiredArgsConstructor
+public final class QualifiedReadwriteSplittingReadYourWritesDataSourceRouter implements QualifiedReadwriteSplittingDataSourceRouter {
+    
+    private final ConnectionContext connectionContext;
+    
+    private final StandardReadwriteSplittingDataSourceRouter standardRouter = new StandardReadwriteSplittingDataSourceRouter();
+    
+    @Override
+    public boolean isQualified(final SQLStatementContext sqlStatementContext, final ReadwriteSplittingDataSourceRule rule, final HintValueContext hintValueContext) {
+        return rule.findReplicationPositionTracker().isPresent() && connectionContext.getReadYourWritesContext().isWritten(rule.getName());
+    }
+    
+    @Override
+    public String route(final ReadwriteSplittingDataSourceRule rule) {
+        ReplicationPositionTracker tracker = rule.findReplicationPositionTracker().orElseThrow(IllegalStateException::new);
+        ReadYourWritesConnectionContext readYourWritesContext = connectionContext.getReadYourWritesContext();
+        if (readYourWritesContext.getPendingGroupNames().contains(rule.getName())) {
+            Optional<ReplicationPosition> primaryPosition = tracker.loadPrimaryPosition();
+            if (!primaryPosition.isPresent()) {
+                return rule.getWriteDataSource();
+            }
+            readYourWritesContext.getWrittenPositions().put(rule.getName(), primaryPosition.get());
+            readYourWritesContext.getPendingGroupNames().remove(rule.getName());
+        }
+        ReplicationPosition writtenPosition = readYourWritesContext.getWrittenPositions().get(rule.getName());
+        if (tracker.isReachedByAll(writtenPosition)) {
+            readYourWritesContext.getWrittenPositions().remove(rule.getName());
+            return standardRouter.route(rule);
+        }
+        return standardRouter.route(rule, each -> tracker.isReached(each, writtenPosition)).orElseGet(rule::getWriteDataSource);
+    }
+}
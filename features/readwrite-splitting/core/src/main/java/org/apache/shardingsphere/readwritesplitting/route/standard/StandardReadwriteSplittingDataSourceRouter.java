@@ -22,6 +22,9 @@ import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDa
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Standard data source router for readwrite-splitting.
@@ -38,6 +41,18 @@ public final class StandardReadwriteSplittingDataSourceRouter {
         return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
     }
     
+    /**
+     * Route to data source within read data sources which match condition.
+     *
+     * @param rule Readwrite-splitting data source rule
+     * @param condition condition of read data source
+     * @return routed data source name, empty if no read data source matches condition
+     */
+    public Optional<String> route(final ReadwriteSplittingDataSourceRule rule, final Predicate<String> condition) {
+        List<String> readDataSources = getFilteredReadDataSources(rule).stream().filter(condition).collect(Collectors.toList());
+        return readDataSources.isEmpty() ? Optional.empty() : Optional.of(rule.getLoadBalancer().getTargetName(rule.getName(), readDataSources));
+    }
+    
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceRule rule) {
         List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
         for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
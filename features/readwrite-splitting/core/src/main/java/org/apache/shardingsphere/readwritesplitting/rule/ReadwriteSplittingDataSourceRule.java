@@ -17,15 +17,23 @@
 
 package org.apache.shardingsphere.readwritesplitting.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.consistency.ReadQueryConsistency;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionTracker;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
 
+import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Readwrite-splitting data source rule.
@@ -43,18 +51,56 @@ public final class ReadwriteSplittingDataSourceRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    @Getter(AccessLevel.NONE)
+    private final ReplicationPositionTracker replicationPositionTracker;
+    
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
                                             final LoadBalanceAlgorithm loadBalancer) {
+        this(config, transactionalReadQueryStrategy, loadBalancer, Collections.emptyMap());
+    }
+    
+    public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
+                                            final LoadBalanceAlgorithm loadBalancer, final Map<String, DataSource> dataSources) {
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        replicationPositionTracker = ReadQueryConsistency.READ_YOUR_WRITES == config.getReadQueryConsistency() ? createReplicationPositionTracker(dataSources) : null;
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceRuleConfiguration config) {
         return new StaticReadwriteSplittingGroup(config.getWriteDataSourceName(), config.getReadDataSourceNames());
     }
     
+    private ReplicationPositionTracker createReplicationPositionTracker(final Map<String, DataSource> dataSources) {
+        return new ReplicationPositionTracker(dataSources.get(readwriteSplittingGroup.getWriteDataSource()), getReadDataSources(dataSources));
+    }
+    
+    /**
+     * Get read data sources.
+     *
+     * @param dataSources data sources to be looked up
+     * @return read data sources found in given data sources
+     */
+    public Map<String, DataSource> getReadDataSources(final Map<String, DataSource> dataSources) {
+        Map<String, DataSource> result = new LinkedHashMap<>(readwriteSplittingGroup.getReadDataSources().size(), 1F);
+        for (String each : readwriteSplittingGroup.getReadDataSources()) {
+            if (dataSources.containsKey(each)) {
+                result.put(each, dataSources.get(each));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Find replication position tracker.
+     *
+     * @return found replication position tracker, present only if read query consistency is read your writes
+     */
+    public Optional<ReplicationPositionTracker> findReplicationPositionTracker() {
+        return Optional.ofNullable(replicationPositionTracker);
+    }
+    
     /**
      * Get write data source name.
      *
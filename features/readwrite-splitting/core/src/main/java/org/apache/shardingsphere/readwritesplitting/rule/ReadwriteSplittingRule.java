@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
@@ -28,23 +29,30 @@ import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionTracker;
 import org.apache.shardingsphere.readwritesplitting.exception.rule.InvalidInlineExpressionDataSourceNameException;
+import org.apache.shardingsphere.readwritesplitting.health.ReadDataSourceHealthProber;
+import org.apache.shardingsphere.readwritesplitting.loadbalancer.LatencyAwareLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingDataSourceMapperRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingExportableRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStorageConnectorReusableRuleAttribute;
 
+import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -57,10 +65,13 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     @Getter
     private final RuleAttributes attributes;
     
-    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final InstanceContext instanceContext) {
+    private final ScheduledExecutorService probeExecutor;
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final InstanceContext instanceContext) {
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
-        dataSourceRules = createDataSourceRules(ruleConfig);
+        dataSourceRules = createDataSourceRules(ruleConfig, dataSources);
+        probeExecutor = startProbers(databaseName, dataSources);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRules.values()), new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRules, instanceContext),
                 new ReadwriteSplittingExportableRuleAttribute(dataSourceRules), new ReadwriteSplittingStorageConnectorReusableRuleAttribute());
@@ -77,22 +88,22 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources) {
         Map<String, ReadwriteSplittingDataSourceRule> result = new HashMap<>(ruleConfig.getDataSources().size(), 1F);
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
-            result.putAll(createDataSourceRules(each));
+            result.putAll(createDataSourceRules(each, dataSources));
         }
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingDataSourceRuleConfiguration config) {
+    private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingDataSourceRuleConfiguration config, final Map<String, DataSource> dataSources) {
         LoadBalanceAlgorithm loadBalanceAlgorithm = loadBalancers.getOrDefault(
                 config.getName() + "." + config.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, null));
-        return createStaticDataSourceRules(config, loadBalanceAlgorithm);
+        return createStaticDataSourceRules(config, loadBalanceAlgorithm, dataSources);
     }
     
     private Map<String, ReadwriteSplittingDataSourceRule> createStaticDataSourceRules(final ReadwriteSplittingDataSourceRuleConfiguration config,
-                                                                                      final LoadBalanceAlgorithm loadBalanceAlgorithm) {
+                                                                                      final LoadBalanceAlgorithm loadBalanceAlgorithm, final Map<String, DataSource> dataSources) {
         List<String> inlineReadwriteDataSourceNames = InlineExpressionParserFactory.newInstance(config.getName()).splitAndEvaluate();
         List<String> inlineWriteDatasourceNames = InlineExpressionParserFactory.newInstance(config.getWriteDataSourceName()).splitAndEvaluate();
         List<List<String>> inlineReadDatasourceNames = config.getReadDataSourceNames().stream()
@@ -105,7 +116,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         for (int i = 0; i < inlineReadwriteDataSourceNames.size(); i++) {
             ReadwriteSplittingDataSourceRuleConfiguration staticConfig = createStaticDataSourceRuleConfiguration(
                     config, i, inlineReadwriteDataSourceNames, inlineWriteDatasourceNames, inlineReadDatasourceNames);
-            result.put(inlineReadwriteDataSourceNames.get(i), new ReadwriteSplittingDataSourceRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm));
+            result.put(inlineReadwriteDataSourceNames.get(i), new ReadwriteSplittingDataSourceRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm, dataSources));
         }
         return result;
     }
@@ -114,7 +125,26 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                                                                                                   final List<String> readwriteDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                   final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                config.getTransactionalReadQueryStrategy(), config.getReadQueryConsistency(), config.getLoadBalancerName());
+    }
+    
+    private ScheduledExecutorService startProbers(final String databaseName, final Map<String, DataSource> dataSources) {
+        Map<Runnable, Long> probers = new LinkedHashMap<>();
+        for (ReadwriteSplittingDataSourceRule each : dataSourceRules.values()) {
+            each.findReplicationPositionTracker().ifPresent(optional -> probers.put(optional, ReplicationPositionTracker.PROBE_INTERVAL_MILLISECONDS));
+            if (each.getLoadBalancer() instanceof LatencyAwareLoadBalanceAlgorithm) {
+                LatencyAwareLoadBalanceAlgorithm loadBalancer = (LatencyAwareLoadBalanceAlgorithm) each.getLoadBalancer();
+                probers.put(new ReadDataSourceHealthProber(each.getReadDataSources(dataSources), loadBalancer), loadBalancer.getProbeIntervalMillis());
+            }
+        }
+        if (probers.isEmpty()) {
+            return null;
+        }
+        ScheduledExecutorService result = Executors.newScheduledThreadPool(
+                Math.min(probers.size(), Runtime.getRuntime().availableProcessors()), ExecutorThreadFactoryBuilder.build("readwrite-splitting-probe-" + databaseName + "-%d"));
+        probers.forEach((key, value) -> result.scheduleWithFixedDelay(key, 0L, value, TimeUnit.MILLISECONDS));
+        return result;
     }
     
     /**
@@ -135,4 +165,11 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public Optional<ReadwriteSplittingDataSourceRule> findDataSourceRule(final String dataSourceName) {
         return Optional.ofNullable(dataSourceRules.get(dataSourceName));
     }
+    
+    @Override
+    public void close() {
+        if (null != probeExecutor) {
+            probeExecutor.shutdownNow();
+        }
+    }
 }
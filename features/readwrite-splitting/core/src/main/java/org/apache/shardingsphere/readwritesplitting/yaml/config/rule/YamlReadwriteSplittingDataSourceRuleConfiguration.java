@@ -36,5 +36,7 @@ public final class YamlReadwriteSplittingDataSourceRuleConfiguration implements
     
     private String transactionalReadQueryStrategy;
     
+    private String readQueryConsistency;
+    
     private String loadBalancerName;
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency;
+
+import org.apache.shardingsphere.readwritesplitting.consistency.position.LogSequenceNumberReplicationPosition;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicationPositionTrackerTest {
+    
+    @Test
+    void assertLoadPrimaryPosition() throws SQLException {
+        ReplicationPositionTracker tracker = new ReplicationPositionTracker(mockDataSource("jdbc:mock://127.0.0.1/foo_ds", "0/10"), Collections.emptyMap());
+        assertThat(tracker.loadPrimaryPosition().orElse(null), is(LogSequenceNumberReplicationPosition.valueOf("0/10")));
+    }
+    
+    @Test
+    void assertLoadPrimaryPositionWithUnsupportedStorage() throws SQLException {
+        DataSource writeDataSource = mockDataSource("jdbc:unknown://127.0.0.1/foo_ds", "0/10");
+        DataSource readDataSource = mockDataSource("jdbc:unknown://127.0.0.1/foo_ds", "0/10");
+        ReplicationPositionTracker tracker = new ReplicationPositionTracker(writeDataSource, Collections.singletonMap("read_ds", readDataSource));
+        assertFalse(tracker.loadPrimaryPosition().isPresent());
+        assertFalse(tracker.loadPrimaryPosition().isPresent());
+        tracker.run();
+        verify(writeDataSource).getConnection();
+        verify(readDataSource, times(0)).getConnection();
+    }
+    
+    @Test
+    void assertLoadPrimaryPositionWithinRetryIntervalAfterFailure() throws SQLException {
+        DataSource writeDataSource = mock(DataSource.class);
+        when(writeDataSource.getConnection()).thenThrow(new SQLException("foo"));
+        ReplicationPositionTracker tracker = new ReplicationPositionTracker(writeDataSource, Collections.emptyMap());
+        assertFalse(tracker.loadPrimaryPosition().isPresent());
+        assertFalse(tracker.loadPrimaryPosition().isPresent());
+        verify(writeDataSource).getConnection();
+    }
+    
+    @Test
+    void assertRun() throws SQLException {
+        ReplicationPositionTracker tracker = new ReplicationPositionTracker(null, Collections.singletonMap("read_ds", mockDataSource("jdbc:mock://127.0.0.1/foo_ds", "0/10")));
+        tracker.run();
+        assertTrue(tracker.isReached("read_ds", LogSequenceNumberReplicationPosition.valueOf("0/10")));
+        assertFalse(tracker.isReached("read_ds", LogSequenceNumberReplicationPosition.valueOf("0/11")));
+        assertTrue(tracker.isReachedByAll(LogSequenceNumberReplicationPosition.valueOf("0/5")));
+    }
+    
+    @Test
+    void assertRunWithProbeFailure() throws SQLException {
+        DataSource readDataSource = mockDataSource("jdbc:mock://127.0.0.1/foo_ds", "0/10");
+        ReplicationPositionTracker tracker = new ReplicationPositionTracker(null, Collections.singletonMap("read_ds", readDataSource));
+        tracker.run();
+        when(readDataSource.getConnection()).thenThrow(new SQLException("foo"));
+        tracker.run();
+        tracker.run();
+        assertFalse(tracker.isReached("read_ds", LogSequenceNumberReplicationPosition.valueOf("0/5")));
+    }
+    
+    private DataSource mockDataSource(final String url, final String position) throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getURL()).thenReturn(url);
+        when(connection.getSchema()).thenReturn(position);
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+}
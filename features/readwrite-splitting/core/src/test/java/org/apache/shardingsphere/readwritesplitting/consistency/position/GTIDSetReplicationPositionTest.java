@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.position;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GTIDSetReplicationPositionTest {
+    
+    private static final String SOURCE_ID = "3E11FA47-71CA-11E1-9E33-C80AA9429562";
+    
+    private static final String ANOTHER_SOURCE_ID = "3e11fa47-71ca-11e1-9e33-c80aa9429563";
+    
+    @Test
+    void assertIsReachedBy() {
+        GTIDSetReplicationPosition position = GTIDSetReplicationPosition.valueOf(SOURCE_ID + ":1-5:11,\n" + ANOTHER_SOURCE_ID + ":1-3");
+        assertTrue(position.isReachedBy(GTIDSetReplicationPosition.valueOf(SOURCE_ID.toLowerCase() + ":1-20,\n" + ANOTHER_SOURCE_ID + ":1-3")));
+        assertFalse(position.isReachedBy(GTIDSetReplicationPosition.valueOf(SOURCE_ID + ":1-10," + ANOTHER_SOURCE_ID + ":1-3")));
+        assertFalse(position.isReachedBy(GTIDSetReplicationPosition.valueOf(SOURCE_ID + ":1-20")));
+        assertFalse(position.isReachedBy(new LogSequenceNumberReplicationPosition(100L)));
+    }
+    
+    @Test
+    void assertIsReachedByWithTaggedGTID() {
+        GTIDSetReplicationPosition position = GTIDSetReplicationPosition.valueOf(SOURCE_ID + ":1-5:foo:1-2");
+        assertTrue(position.isReachedBy(GTIDSetReplicationPosition.valueOf(SOURCE_ID + ":1-5:FOO:1-3")));
+        assertFalse(position.isReachedBy(GTIDSetReplicationPosition.valueOf(SOURCE_ID + ":1-5:bar:1-3")));
+    }
+    
+    @Test
+    void assertIsReachedByWithEmptyGTIDSet() {
+        assertTrue(GTIDSetReplicationPosition.valueOf("").isReachedBy(GTIDSetReplicationPosition.valueOf(SOURCE_ID + ":1")));
+    }
+}
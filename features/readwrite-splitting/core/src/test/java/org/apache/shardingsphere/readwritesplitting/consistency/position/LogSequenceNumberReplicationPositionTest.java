@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.consistency.position;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogSequenceNumberReplicationPositionTest {
+    
+    @Test
+    void assertValueOf() {
+        assertThat(LogSequenceNumberReplicationPosition.valueOf("16/B374D848").getLogSequenceNumber(), is(0x16B374D848L));
+    }
+    
+    @Test
+    void assertIsReachedBy() {
+        LogSequenceNumberReplicationPosition position = LogSequenceNumberReplicationPosition.valueOf("16/B374D848");
+        assertTrue(position.isReachedBy(LogSequenceNumberReplicationPosition.valueOf("16/B374D848")));
+        assertTrue(position.isReachedBy(LogSequenceNumberReplicationPosition.valueOf("17/0")));
+        assertFalse(position.isReachedBy(LogSequenceNumberReplicationPosition.valueOf("16/B374D847")));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.fixture;
+
+import org.apache.shardingsphere.infra.session.connection.consistency.ReplicationPosition;
+import org.apache.shardingsphere.readwritesplitting.consistency.ReplicationPositionDetector;
+import org.apache.shardingsphere.readwritesplitting.consistency.position.LogSequenceNumberReplicationPosition;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public final class ReplicationPositionDetectorFixture implements ReplicationPositionDetector {
+    
+    @Override
+    public ReplicationPosition detectPrimaryPosition(final Connection connection) throws SQLException {
+        return LogSequenceNumberReplicationPosition.valueOf(connection.getSchema());
+    }
+    
+    @Override
+    public ReplicationPosition detectReplicaPosition(final Connection connection) throws SQLException {
+        return LogSequenceNumberReplicationPosition.valueOf(connection.getSchema());
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "FIXTURE";
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.health;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.loadbalancer.LatencyAwareLoadBalanceAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadDataSourceHealthProberTest {
+    
+    @Test
+    void assertRun() throws SQLException {
+        Map<String, DataSource> readDataSources = new LinkedHashMap<>(3, 1F);
+        readDataSources.put("read_ds_0", mockDataSource(true));
+        readDataSources.put("read_ds_1", mockDataSource(false));
+        DataSource brokenDataSource = mock(DataSource.class);
+        when(brokenDataSource.getConnection()).thenThrow(SQLException.class);
+        readDataSources.put("read_ds_2", brokenDataSource);
+        LatencyAwareLoadBalanceAlgorithm loadBalancer = (LatencyAwareLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE");
+        new ReadDataSourceHealthProber(readDataSources, loadBalancer).run();
+        assertTrue(loadBalancer.getHealth("read_ds_0").isAcceptable(0L));
+        assertTrue(loadBalancer.getHealth("read_ds_0").getLatencyNanos() > 0D);
+        assertFalse(loadBalancer.getHealth("read_ds_1").isAvailable());
+        assertFalse(loadBalancer.getHealth("read_ds_2").isAvailable());
+    }
+    
+    @Test
+    void assertRunWithReplicationLag() throws SQLException {
+        DataSource dataSource = mockDataSource(true);
+        when(dataSource.getConnection().getSchema()).thenReturn("2000");
+        LatencyAwareLoadBalanceAlgorithm loadBalancer = (LatencyAwareLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE");
+        new ReadDataSourceHealthProber(Collections.singletonMap("read_ds_0", dataSource), loadBalancer).run();
+        assertThat(loadBalancer.getHealth("read_ds_0").getReplicationLagMillis(), is(2000L));
+        assertTrue(loadBalancer.getHealth("read_ds_0").isAvailable());
+    }
+    
+    @Test
+    void assertRunWhenDetectReplicationLagFailed() throws SQLException {
+        DataSource dataSource = mockDataSource(true);
+        LatencyAwareLoadBalanceAlgorithm loadBalancer = (LatencyAwareLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE");
+        ReadDataSourceHealthProber prober = new ReadDataSourceHealthProber(Collections.singletonMap("read_ds_0", dataSource), loadBalancer);
+        prober.run();
+        prober.run();
+        assertTrue(loadBalancer.getHealth("read_ds_0").isAcceptable(0L));
+        assertTrue(loadBalancer.getHealth("read_ds_0").getLatencyNanos() > 0D);
+    }
+    
+    private DataSource mockDataSource(final boolean valid) throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getURL()).thenReturn("jdbc:mock://127.0.0.1/foo_ds");
+        when(connection.isValid(anyInt())).thenReturn(valid);
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+}
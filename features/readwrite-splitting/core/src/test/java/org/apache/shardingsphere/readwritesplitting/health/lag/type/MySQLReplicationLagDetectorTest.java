@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.health.lag.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MySQLReplicationLagDetectorTest {
+    
+    @Test
+    void assertDetectWithReplicaStatus() throws SQLException {
+        Connection connection = mockConnection(8, 0, "8.0.35");
+        ResultSet resultSet = mockResultSet(connection, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(2)).thenReturn(3L);
+        assertThat(new MySQLReplicationLagDetector().detect(connection), is(3000L));
+    }
+    
+    @Test
+    void assertDetectWithSlaveStatusWhenReplicationStopped() throws SQLException {
+        Connection connection = mockConnection(5, 7, "5.7.44");
+        ResultSet resultSet = mockResultSet(connection, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(true);
+        assertThat(new MySQLReplicationLagDetector().detect(connection), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    void assertDetectWhenNotReplica() throws SQLException {
+        Connection connection = mockConnection(8, 0, "8.0.11");
+        mockResultSet(connection, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        assertThat(new MySQLReplicationLagDetector().detect(connection), is(0L));
+    }
+    
+    private Connection mockConnection(final int majorVersion, final int minorVersion, final String productVersion) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getDatabaseMajorVersion()).thenReturn(majorVersion);
+        when(result.getMetaData().getDatabaseMinorVersion()).thenReturn(minorVersion);
+        when(result.getMetaData().getDatabaseProductVersion()).thenReturn(productVersion);
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final Connection connection, final String sql, final String lagColumnLabel) throws SQLException {
+        ResultSet result = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(2);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("Relay_Log_File");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn(lagColumnLabel);
+        when(connection.createStatement().executeQuery(sql)).thenReturn(result);
+        return result;
+    }
+}
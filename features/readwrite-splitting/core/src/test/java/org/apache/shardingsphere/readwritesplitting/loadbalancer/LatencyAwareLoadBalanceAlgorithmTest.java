@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.loadbalancer;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.type.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyAwareLoadBalanceAlgorithmTest {
+    
+    private final List<String> readDataSourceNames = Arrays.asList("read_ds_0", "read_ds_1");
+    
+    @Test
+    void assertInitWithDefaultProperties() {
+        LatencyAwareLoadBalanceAlgorithm actual = (LatencyAwareLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE");
+        assertThat(actual.getMaxReplicationLagMillis(), is(10000L));
+        assertThat(actual.getProbeIntervalMillis(), is(1000L));
+    }
+    
+    @Test
+    void assertInitWithInvalidProperties() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("probe-interval-milliseconds", "0"))));
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("max-replication-lag-milliseconds", "foo"))));
+    }
+    
+    @Test
+    void assertGetTargetNameWithLaggingReadDataSource() {
+        LatencyAwareLoadBalanceAlgorithm algorithm = createAlgorithm();
+        algorithm.getHealth("read_ds_0").update(1000L, 5000L);
+        algorithm.getHealth("read_ds_1").update(1000000L, 0L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getTargetName("ds", readDataSourceNames), is("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithUnavailableReadDataSource() {
+        LatencyAwareLoadBalanceAlgorithm algorithm = createAlgorithm();
+        algorithm.getHealth("read_ds_0").update(1000L, 0L);
+        algorithm.getHealth("read_ds_1").update(1000L, 0L);
+        algorithm.getHealth("read_ds_0").markUnavailable();
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getTargetName("ds", readDataSourceNames), is("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithSlowReadDataSource() {
+        LatencyAwareLoadBalanceAlgorithm algorithm = createAlgorithm();
+        algorithm.getHealth("read_ds_0").update(Long.MAX_VALUE, 0L);
+        algorithm.getHealth("read_ds_1").update(1000L, 0L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getTargetName("ds", readDataSourceNames), is("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWhenAllReadDataSourcesLagging() {
+        LatencyAwareLoadBalanceAlgorithm algorithm = createAlgorithm();
+        algorithm.getHealth("read_ds_0").update(1000L, 5000L);
+        algorithm.getHealth("read_ds_1").update(1000L, 3000L);
+        assertThat(algorithm.getTargetName("ds", readDataSourceNames), is("read_ds_1"));
+    }
+    
+    @Test
+    void assertGetTargetNameWhenAllReadDataSourcesUnavailable() {
+        LatencyAwareLoadBalanceAlgorithm algorithm = createAlgorithm();
+        algorithm.getHealth("read_ds_0").markUnavailable();
+        algorithm.getHealth("read_ds_1").markUnavailable();
+        Collection<String> actual = new HashSet<>(2, 1F);
+        for (int i = 0; i < 100; i++) {
+            actual.add(algorithm.getTargetName("ds", readDataSourceNames));
+        }
+        assertThat(actual, is(new HashSet<>(readDataSourceNames)));
+    }
+    
+    private LatencyAwareLoadBalanceAlgorithm createAlgorithm() {
+        return (LatencyAwareLoadBalanceAlgorithm) TypedSPILoader.getService(
+                LoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("max-replication-lag-milliseconds", "1000")));
+    }
+}
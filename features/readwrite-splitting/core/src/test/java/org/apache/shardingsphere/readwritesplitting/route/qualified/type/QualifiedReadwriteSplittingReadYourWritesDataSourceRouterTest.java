@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.round.robin.RoundRobinLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.api.consistency.ReadQueryConsistency;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QualifiedReadwriteSplittingReadYourWritesDataSourceRouterTest {
+    
+    private final ConnectionContext connectionContext = new ConnectionContext();
+    
+    private ReadwriteSplittingDataSourceRule rule;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(3, 1F);
+        dataSources.put("write_ds", mockDataSource("0/10"));
+        dataSources.put("read_ds_0", mockDataSource("0/5"));
+        dataSources.put("read_ds_1", mockDataSource("0/10"));
+        rule = new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_config", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"),
+                TransactionalReadQueryStrategy.DYNAMIC, ReadQueryConsistency.READ_YOUR_WRITES, null), TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinLoadBalanceAlgorithm(), dataSources);
+    }
+    
+    private DataSource mockDataSource(final String position) throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getURL()).thenReturn("jdbc:mock://127.0.0.1/foo_ds");
+        when(connection.getSchema()).thenReturn(position);
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
+    @Test
+    void assertIsQualified() {
+        QualifiedReadwriteSplittingReadYourWritesDataSourceRouter router = new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext);
+        assertFalse(router.isQualified(null, rule, null));
+        connectionContext.getReadYourWritesContext().markWritten("test_config");
+        assertTrue(router.isQualified(null, rule, null));
+    }
+    
+    @Test
+    void assertRouteToReadDataSourceWhichReachedWrittenPosition() {
+        rule.findReplicationPositionTracker().ifPresent(Runnable::run);
+        connectionContext.getReadYourWritesContext().markWritten("test_config");
+        QualifiedReadwriteSplittingReadYourWritesDataSourceRouter router = new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext);
+        assertThat(router.route(rule), is("read_ds_1"));
+        assertThat(router.route(rule), is("read_ds_1"));
+        assertTrue(connectionContext.getReadYourWritesContext().getPendingGroupNames().isEmpty());
+        assertTrue(connectionContext.getReadYourWritesContext().isWritten("test_config"));
+    }
+    
+    @Test
+    void assertRouteToWriteDataSourceWithoutProbedReadDataSources() {
+        connectionContext.getReadYourWritesContext().markWritten("test_config");
+        assertThat(new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext).route(rule), is("write_ds"));
+    }
+    
+    @Test
+    void assertRouteWhenAllReadDataSourcesReachedWrittenPosition() throws SQLException {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(2, 1F);
+        dataSources.put("write_ds", mockDataSource("0/10"));
+        dataSources.put("read_ds_0", mockDataSource("1/0"));
+        ReadwriteSplittingDataSourceRule rule = new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_config", "write_ds", Arrays.asList("read_ds_0"),
+                TransactionalReadQueryStrategy.DYNAMIC, ReadQueryConsistency.READ_YOUR_WRITES, null), TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinLoadBalanceAlgorithm(), dataSources);
+        rule.findReplicationPositionTracker().ifPresent(Runnable::run);
+        connectionContext.getReadYourWritesContext().markWritten("test_config");
+        assertThat(new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext).route(rule), is("read_ds_0"));
+        assertFalse(connectionContext.getReadYourWritesContext().isWritten("test_config"));
+    }
+}
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleCo
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
@@ -38,6 +40,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ReadwriteSplittingRuleTest {
     
@@ -57,7 +62,7 @@ class ReadwriteSplittingRuleTest {
         ReadwriteSplittingDataSourceRuleConfiguration config =
                 new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "random");
         return new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(
-                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), mock(InstanceContext.class));
+                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), Collections.emptyMap(), mock(InstanceContext.class));
     }
     
     private void assertDataSourceRule(final ReadwriteSplittingDataSourceRule actual) {
@@ -102,7 +107,7 @@ class ReadwriteSplittingRuleTest {
                 Arrays.asList("<GROOVY>read_ds_${['0']}", "read_ds_${['1']}", "read_ds_2", "<LITERAL>read_ds_3"),
                 "random");
         ReadwriteSplittingRule readwriteSplittingRule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(
-                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), mock(InstanceContext.class));
+                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), Collections.emptyMap(), mock(InstanceContext.class));
         Optional<ReadwriteSplittingDataSourceRule> actual = readwriteSplittingRule.findDataSourceRule("readwrite_ds");
         assertTrue(actual.isPresent());
         assertThat(actual.get().getName(), is("readwrite_ds"));
@@ -110,4 +115,19 @@ class ReadwriteSplittingRuleTest {
         assertThat(actual.get().getReadwriteSplittingGroup().getReadDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2", "read_ds_3")));
         assertThat(actual.get().getLoadBalancer().getType(), is("RANDOM"));
     }
+    
+    @Test
+    void assertProbeReadDataSourcesWithLatencyAwareLoadBalancer() throws SQLException {
+        ReadwriteSplittingDataSourceRuleConfiguration config =
+                new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "latency_aware");
+        DataSource readDataSource = mock(DataSource.class);
+        when(readDataSource.getConnection()).thenThrow(SQLException.class);
+        try (
+                ReadwriteSplittingRule rule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(Collections.singleton(config),
+                        Collections.singletonMap("latency_aware", new AlgorithmConfiguration("LATENCY_AWARE", new Properties()))), Collections.singletonMap("read_ds_0", readDataSource),
+                        mock(InstanceContext.class))) {
+            verify(readDataSource, timeout(5000L)).getConnection();
+            assertThat(rule.getSingleDataSourceRule().getLoadBalancer().getType(), is("LATENCY_AWARE"));
+        }
+    }
 }
@@ -32,4 +32,10 @@ public final class ShardingCacheConfiguration {
     private final int allowedMaxSqlLength;
     
     private final ShardingCacheOptionsConfiguration routeCache;
+    
+    private final boolean adaptive;
+    
+    public ShardingCacheConfiguration(final int allowedMaxSqlLength, final ShardingCacheOptionsConfiguration routeCache) {
+        this(allowedMaxSqlLength, routeCache, false);
+    }
 }
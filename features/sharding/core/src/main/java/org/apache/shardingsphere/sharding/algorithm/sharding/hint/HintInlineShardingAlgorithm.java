@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.hint;
 import org.apache.shardingsphere.infra.algorithm.core.exception.type.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression.CompiledInlineExpression;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression.InlineExpressionCompiler;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
@@ -41,11 +43,11 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     
     private static final String HINT_INLINE_VALUE_PROPERTY_NAME = "value";
     
-    private String algorithmExpression;
+    private CompiledInlineExpression compiledAlgorithmExpression;
     
     @Override
     public void init(final Properties props) {
-        algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = InlineExpressionCompiler.compile(getAlgorithmExpression(props));
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -63,7 +65,7 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue, NullShardingValueException::new);
         Map<String, Comparable<?>> map = new LinkedHashMap<>();
         map.put(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
-        return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(map);
+        return compiledAlgorithmExpression.evaluate(map);
     }
     
     @Override
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.type.AlgorithmIn
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression.CompiledInlineExpression;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression.InlineExpressionCompiler;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -46,11 +48,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private String algorithmExpression;
     
+    private CompiledInlineExpression compiledAlgorithmExpression;
+    
     private boolean allowRangeQuery;
     
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        compiledAlgorithmExpression = InlineExpressionCompiler.compile(algorithmExpression);
         allowRangeQuery = isAllowRangeQuery(props);
     }
     
@@ -72,7 +77,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         Map<String, Comparable<?>> map = new LinkedHashMap<>();
         map.put(columnName, shardingValue.getValue());
         try {
-            return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(map);
+            return compiledAlgorithmExpression.evaluate(map);
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
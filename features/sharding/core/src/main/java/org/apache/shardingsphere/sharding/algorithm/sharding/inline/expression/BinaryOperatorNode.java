@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Binary operator node.
+ */
+@RequiredArgsConstructor
+final class BinaryOperatorNode implements InlineExpressionNode {
+    
+    private final char operator;
+    
+    private final InlineExpressionNode left;
+    
+    private final InlineExpressionNode right;
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object leftValue = left.evaluate(args);
+        if (UNRESOLVED == leftValue) {
+            return UNRESOLVED;
+        }
+        Object rightValue = right.evaluate(args);
+        if (UNRESOLVED == rightValue) {
+            return UNRESOLVED;
+        }
+        if ('+' == operator && isConcatenation(leftValue, rightValue)) {
+            return InlineExpressionArithmetic.isScalar(rightValue) ? leftValue.toString() + rightValue : UNRESOLVED;
+        }
+        return InlineExpressionArithmetic.isIntegral(leftValue) && InlineExpressionArithmetic.isIntegral(rightValue)
+                ? InlineExpressionArithmetic.calculate(operator, (Number) leftValue, (Number) rightValue)
+                : UNRESOLVED;
+    }
+    
+    private boolean isConcatenation(final Object leftValue, final Object rightValue) {
+        return leftValue instanceof String || leftValue instanceof Number && rightValue instanceof String;
+    }
+}
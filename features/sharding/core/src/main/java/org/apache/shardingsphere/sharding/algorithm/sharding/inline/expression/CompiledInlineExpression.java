@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Evaluates natively when inline expression was compiled and arguments are supported, otherwise falls back to inline expression parser.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final String inlineExpression;
+    
+    private final List<InlineExpressionNode> segments;
+    
+    /**
+     * Judge whether inline expression is compiled.
+     *
+     * @return is compiled or not
+     */
+    public boolean isCompiled() {
+        return !segments.isEmpty();
+    }
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, Comparable<?>> args) {
+        if (isCompiled()) {
+            Optional<String> result = evaluateNatively(args);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return InlineExpressionParserFactory.newInstance(inlineExpression).evaluateWithArgs(args);
+    }
+    
+    private Optional<String> evaluateNatively(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder();
+        for (InlineExpressionNode each : segments) {
+            Object value = each.evaluate(args);
+            if (InlineExpressionNode.UNRESOLVED == value || !InlineExpressionArithmetic.isScalar(value)) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression;
+
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Date format node, which formats {@link Date} with {@link SimpleDateFormat} and {@link TemporalAccessor} with {@link DateTimeFormatter}.
+ */
+final class DateFormatNode implements InlineExpressionNode {
+    
+    private final InlineExpressionNode target;
+    
+    private final ThreadLocal<SimpleDateFormat> dateFormat;
+    
+    private final DateTimeFormatter dateTimeFormatter;
+    
+    DateFormatNode(final InlineExpressionNode target, final String pattern) {
+        this.target = target;
+        SimpleDateFormat prototype = new SimpleDateFormat(pattern);
+        dateFormat = ThreadLocal.withInitial(() -> (SimpleDateFormat) prototype.clone());
+        dateTimeFormatter = DateTimeFormatter.ofPattern(pattern);
+    }
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object value = target.evaluate(args);
+        if (value instanceof Date) {
+            return dateFormat.get().format((Date) value);
+        }
+        if (value instanceof TemporalAccessor) {
+            try {
+                return dateTimeFormatter.format((TemporalAccessor) value);
+            } catch (final DateTimeException ignored) {
+                return UNRESOLVED;
+            }
+        }
+        return UNRESOLVED;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Inline expression arithmetic, which follows integer type promotion of Groovy.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class InlineExpressionArithmetic {
+    
+    /**
+     * Judge whether value is integral number which can be calculated natively.
+     *
+     * @param value value
+     * @return is integral or not
+     */
+    static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Judge whether value is scalar which has same string representation in Java and Groovy.
+     *
+     * @param value value
+     * @return is scalar or not
+     */
+    static boolean isScalar(final Object value) {
+        return !(value instanceof Collection) && !(value instanceof Map) && !value.getClass().isArray();
+    }
+    
+    /**
+     * Calculate integral numbers.
+     *
+     * @param operator operator
+     * @param left left number
+     * @param right right number
+     * @return calculated number, or {@link InlineExpressionNode#UNRESOLVED} if it can not be calculated natively
+     */
+    static Object calculate(final char operator, final Number left, final Number right) {
+        if (left instanceof Long || right instanceof Long) {
+            return calculate(operator, left.longValue(), right.longValue());
+        }
+        return calculate(operator, left.intValue(), right.intValue());
+    }
+    
+    private static Object calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            case '%':
+                return 0L == right ? InlineExpressionNode.UNRESOLVED : left % right;
+            case '/':
+                return 0L == right ? InlineExpressionNode.UNRESOLVED : left / right;
+            default:
+                return InlineExpressionNode.UNRESOLVED;
+        }
+    }
+    
+    private static Object calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            case '%':
+                return 0 == right ? InlineExpressionNode.UNRESOLVED : left % right;
+            case '/':
+                return 0 == right ? InlineExpressionNode.UNRESOLVED : left / right;
+            default:
+                return InlineExpressionNode.UNRESOLVED;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Compiles inline expression such as {@code t_order_${order_id % 16}} into a tree of Java nodes once, to avoid building Groovy closure for every sharding value.
+ * Supported syntax includes integer literal, string literal, variable, {@code + - * %}, parentheses,
+ * {@code hashCode()}, {@code toString()}, {@code abs()}, {@code intdiv()}, {@code substring()}, {@code format()}, {@code Math.abs()} and {@code Math.floorMod()}.
+ * Inline expression with other syntax is still evaluated by inline expression parser.</p>
+ */
+public final class InlineExpressionCompiler {
+    
+    private static final String PLACEHOLDER_BEGIN = "${";
+    
+    private static final char PLACEHOLDER_END = '}';
+    
+    private final String expression;
+    
+    private int position;
+    
+    private InlineExpressionCompiler(final String expression) {
+        this.expression = expression;
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with placeholder handled
+     * @return compiled inline expression
+     */
+    public static CompiledInlineExpression compile(final String inlineExpression) {
+        return new CompiledInlineExpression(inlineExpression, compileSegments(inlineExpression).orElse(Collections.emptyList()));
+    }
+    
+    private static Optional<List<InlineExpressionNode>> compileSegments(final String inlineExpression) {
+        List<InlineExpressionNode> result = new ArrayList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int beginIndex = inlineExpression.indexOf(PLACEHOLDER_BEGIN, index);
+            String text = inlineExpression.substring(index, -1 == beginIndex ? inlineExpression.length() : beginIndex);
+            if (!isPlainText(text)) {
+                return Optional.empty();
+            }
+            if (!text.isEmpty()) {
+                result.add(new LiteralNode(text));
+            }
+            if (-1 == beginIndex) {
+                break;
+            }
+            int endIndex = inlineExpression.indexOf(PLACEHOLDER_END, beginIndex);
+            if (-1 == endIndex) {
+                return Optional.empty();
+            }
+            Optional<InlineExpressionNode> node = new InlineExpressionCompiler(inlineExpression.substring(beginIndex + PLACEHOLDER_BEGIN.length(), endIndex)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(node.get());
+            index = endIndex + 1;
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private static boolean isPlainText(final String text) {
+        return -1 == text.indexOf('$') && -1 == text.indexOf('"') && -1 == text.indexOf('\\');
+    }
+    
+    private Optional<InlineExpressionNode> parse() {
+        if (-1 != expression.indexOf('{')) {
+            return Optional.empty();
+        }
+        try {
+            InlineExpressionNode result = parseAdditive();
+            skipWhitespace();
+            return position == expression.length() ? Optional.of(result) : Optional.empty();
+        } catch (final IllegalArgumentException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private InlineExpressionNode parseAdditive() {
+        InlineExpressionNode result = parseMultiplicative();
+        while (peek('+') || peek('-')) {
+            char operator = expression.charAt(position++);
+            result = new BinaryOperatorNode(operator, result, parseMultiplicative());
+        }
+        return result;
+    }
+    
+    private InlineExpressionNode parseMultiplicative() {
+        InlineExpressionNode result = parseUnary();
+        while (peek('*') || peek('%')) {
+            char operator = expression.charAt(position++);
+            result = new BinaryOperatorNode(operator, result, parseUnary());
+        }
+        return result;
+    }
+    
+    private InlineExpressionNode parseUnary() {
+        if (peek('-')) {
+            position++;
+            return new BinaryOperatorNode('-', new LiteralNode(0), parseUnary());
+        }
+        return parsePostfix(parsePrimary());
+    }
+    
+    private InlineExpressionNode parsePostfix(final InlineExpressionNode target) {
+        InlineExpressionNode result = target;
+        while (peek('.')) {
+            position++;
+            String methodName = parseIdentifier();
+            List<InlineExpressionNode> arguments = parseArguments();
+            if ("format".equals(methodName) && 1 == arguments.size() && arguments.get(0) instanceof LiteralNode) {
+                Object pattern = arguments.get(0).evaluate(null);
+                checkSyntax(pattern instanceof String);
+                result = new DateFormatNode(result, (String) pattern);
+            } else {
+                checkSyntax(MethodInvocationNode.isSupported(methodName, arguments.size()));
+                result = new MethodInvocationNode(result, methodName, arguments);
+            }
+        }
+        return result;
+    }
+    
+    private InlineExpressionNode parsePrimary() {
+        skipWhitespace();
+        checkSyntax(position < expression.length());
+        char current = expression.charAt(position);
+        if ('(' == current) {
+            position++;
+            InlineExpressionNode result = parseAdditive();
+            checkSyntax(peek(')'));
+            position++;
+            return result;
+        }
+        if ('\'' == current || '"' == current) {
+            return parseStringLiteral(current);
+        }
+        if (Character.isDigit(current)) {
+            return parseNumberLiteral();
+        }
+        String identifier = parseIdentifier();
+        if ("Math".equals(identifier) && peek('.')) {
+            position++;
+            String methodName = parseIdentifier();
+            List<InlineExpressionNode> arguments = parseArguments();
+            checkSyntax(MathInvocationNode.isSupported(methodName, arguments.size()));
+            return new MathInvocationNode(methodName, arguments);
+        }
+        return new VariableNode(identifier);
+    }
+    
+    private List<InlineExpressionNode> parseArguments() {
+        checkSyntax(peek('('));
+        position++;
+        List<InlineExpressionNode> result = new LinkedList<>();
+        if (peek(')')) {
+            position++;
+            return result;
+        }
+        result.add(parseAdditive());
+        while (peek(',')) {
+            position++;
+            result.add(parseAdditive());
+        }
+        checkSyntax(peek(')'));
+        position++;
+        return result;
+    }
+    
+    private InlineExpressionNode parseStringLiteral(final char quote) {
+        int endIndex = expression.indexOf(quote, position + 1);
+        checkSyntax(-1 != endIndex);
+        String result = expression.substring(position + 1, endIndex);
+        checkSyntax(-1 == result.indexOf('\\') && -1 == result.indexOf('$'));
+        position = endIndex + 1;
+        return new LiteralNode(result);
+    }
+    
+    private InlineExpressionNode parseNumberLiteral() {
+        int beginIndex = position;
+        while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+            position++;
+        }
+        String digits = expression.substring(beginIndex, position);
+        if (position < expression.length() && ('L' == expression.charAt(position) || 'l' == expression.charAt(position))) {
+            position++;
+            return new LiteralNode(Long.parseLong(digits));
+        }
+        checkSyntax(position >= expression.length() || '.' != expression.charAt(position) || !isDigitAt(position + 1));
+        long result = Long.parseLong(digits);
+        if (result > Integer.MAX_VALUE) {
+            return new LiteralNode(result);
+        }
+        return new LiteralNode((int) result);
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespace();
+        int beginIndex = position;
+        while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position))) {
+            position++;
+        }
+        checkSyntax(position > beginIndex && !Character.isDigit(expression.charAt(beginIndex)));
+        return expression.substring(beginIndex, position);
+    }
+    
+    private boolean isDigitAt(final int index) {
+        return index < expression.length() && Character.isDigit(expression.charAt(index));
+    }
+    
+    private boolean peek(final char expected) {
+        skipWhitespace();
+        return position < expression.length() && expected == expression.charAt(position);
+    }
+    
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private void checkSyntax(final boolean expected) {
+        if (!expected) {
+            throw new IllegalArgumentException(String.format("Unsupported syntax in inline expression `%s`.", expression));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Math static method invocation node.
+ */
+@RequiredArgsConstructor
+final class MathInvocationNode implements InlineExpressionNode {
+    
+    private final String methodName;
+    
+    private final List<InlineExpressionNode> arguments;
+    
+    /**
+     * Judge whether method is supported.
+     *
+     * @param methodName method name
+     * @param argumentCount argument count
+     * @return is supported or not
+     */
+    static boolean isSupported(final String methodName, final int argumentCount) {
+        switch (methodName) {
+            case "abs":
+                return 1 == argumentCount;
+            case "floorMod":
+                return 2 == argumentCount;
+            default:
+                return false;
+        }
+    }
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object first = arguments.get(0).evaluate(args);
+        if (!InlineExpressionArithmetic.isIntegral(first)) {
+            return UNRESOLVED;
+        }
+        if ("abs".equals(methodName)) {
+            return abs((Number) first);
+        }
+        Object second = arguments.get(1).evaluate(args);
+        if (!InlineExpressionArithmetic.isIntegral(second) || 0L == ((Number) second).longValue()) {
+            return UNRESOLVED;
+        }
+        return floorMod((Number) first, (Number) second);
+    }
+    
+    private Object abs(final Number value) {
+        if (value instanceof Long) {
+            return Math.abs(value.longValue());
+        }
+        return Math.abs(value.intValue());
+    }
+    
+    private Object floorMod(final Number dividend, final Number divisor) {
+        if (dividend instanceof Long || divisor instanceof Long) {
+            return Math.floorMod(dividend.longValue(), divisor.longValue());
+        }
+        return Math.floorMod(dividend.intValue(), divisor.intValue());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Method invocation node.
+ */
+@RequiredArgsConstructor
+final class MethodInvocationNode implements InlineExpressionNode {
+    
+    private final InlineExpressionNode target;
+    
+    private final String methodName;
+    
+    private final List<InlineExpressionNode> arguments;
+    
+    /**
+     * Judge whether method is supported.
+     *
+     * @param methodName method name
+     * @param argumentCount argument count
+     * @return is supported or not
+     */
+    static boolean isSupported(final String methodName, final int argumentCount) {
+        switch (methodName) {
+            case "hashCode":
+            case "toString":
+            case "abs":
+                return 0 == argumentCount;
+            case "intdiv":
+                return 1 == argumentCount;
+            case "substring":
+                return 1 == argumentCount || 2 == argumentCount;
+            default:
+                return false;
+        }
+    }
+    
+    @Override
+    public Object evaluate(final Map<String, Comparable<?>> args) {
+        Object targetValue = target.evaluate(args);
+        if (UNRESOLVED == targetValue) {
+            return UNRESOLVED;
+        }
+        switch (methodName) {
+            case "hashCode":
+                return InlineExpressionArithmetic.isScalar(targetValue) ? targetValue.hashCode() : UNRESOLVED;
+            case "toString":
+                return InlineExpressionArithmetic.isScalar(targetValue) ? targetValue.toString() : UNRESOLVED;
+            case "abs":
+                return abs(targetValue);
+            case "intdiv":
+                return intdiv(targetValue, arguments.get(0).evaluate(args));
+            case "substring":
+                return substring(targetValue, args);
+            default:
+                return UNRESOLVED;
+        }
+    }
+    
+    private Object abs(final Object value) {
+        if (value instanceof Long) {
+            return Math.abs((long) value);
+        }
+        return InlineExpressionArithmetic.isIntegral(value) ? Math.abs(((Number) value).intValue()) : UNRESOLVED;
+    }
+    
+    private Object intdiv(final Object value, final Object divisor) {
+        return InlineExpressionArithmetic.isIntegral(value) && InlineExpressionArithmetic.isIntegral(divisor)
+                ? InlineExpressionArithmetic.calculate('/', (Number) value, (Number) divisor)
+                : UNRESOLVED;
+    }
+    
+    private Object substring(final Object value, final Map<String, Comparable<?>> args) {
+        if (!(value instanceof String)) {
+            return UNRESOLVED;
+        }
+        String text = (String) value;
+        Object beginIndex = arguments.get(0).evaluate(args);
+        Object endIndex = 1 == arguments.size() ? text.length() : arguments.get(1).evaluate(args);
+        if (!(beginIndex instanceof Integer) || !(endIndex instanceof Integer)) {
+            return UNRESOLVED;
+        }
+        int begin = (int) beginIndex;
+        int end = (int) endIndex;
+        return begin < 0 || end > text.length() || begin > end ? UNRESOLVED : text.substring(begin, end);
+    }
+}
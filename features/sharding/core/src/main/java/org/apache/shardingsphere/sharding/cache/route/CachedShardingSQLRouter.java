@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
@@ -56,6 +57,11 @@ public final class CachedShardingSQLRouter {
         if (queryContext.getSql().length() > shardingCache.getConfiguration().getAllowedMaxSqlLength()) {
             return Optional.empty();
         }
+        boolean adaptive = shardingCache.getConfiguration().isAdaptive();
+        ShardingRouteCacheStatistics statistics = adaptive ? shardingCache.getRouteCache().getStatistics(queryContext.getSql()) : null;
+        if (null != statistics && !statistics.isEnabled()) {
+            return Optional.empty();
+        }
         ShardingRouteCacheableCheckResult cacheableCheckResult = shardingCache.getRouteCacheableChecker().check(database, queryContext);
         if (!cacheableCheckResult.isProbablyCacheable()) {
             return Optional.empty();
@@ -67,12 +73,24 @@ public final class CachedShardingSQLRouter {
             }
             shardingConditionParams.add(queryContext.getParameters().get(each));
         }
-        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
-                .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
-        RouteContext result = cachedResult.orElseGet(
-                () -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
-            shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
+        long startNanos = System.nanoTime();
+        ShardingRouteCacheKey cacheKey = new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams);
+        Optional<ShardingRouteCacheValue> cachedValue = shardingCache.getRouteCache().get(cacheKey);
+        Optional<RouteContext> cachedResult = cachedValue.flatMap(ShardingRouteCacheValue::getCachedRouteContext);
+        if (cachedResult.isPresent()) {
+            if (null != statistics) {
+                statistics.recordHit(cachedValue.get().getRouteNanos(), System.nanoTime() - startNanos);
+            }
+            return cachedResult;
+        }
+        long routeStartNanos = System.nanoTime();
+        RouteContext result = originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext);
+        long routeNanos = System.nanoTime() - routeStartNanos;
+        if (adaptive ? !result.getRouteUnits().isEmpty() : hitOneShardOnly(result)) {
+            shardingCache.getRouteCache().put(cacheKey, new ShardingRouteCacheValue(result, routeNanos));
+        }
+        if (null != statistics) {
+            statistics.recordMiss(System.nanoTime() - startNanos - routeNanos);
         }
         return Optional.of(result);
     }
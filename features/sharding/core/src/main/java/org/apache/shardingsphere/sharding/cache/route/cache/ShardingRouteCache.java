@@ -30,8 +30,11 @@ public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final Cache<String, ShardingRouteCacheStatistics> statistics;
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
+        statistics = Caffeine.newBuilder().maximumSize(cacheOptions.getMaximumSize()).build();
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
@@ -42,6 +45,16 @@ public final class ShardingRouteCache {
         return result.build();
     }
     
+    /**
+     * Get route cache statistics of SQL.
+     *
+     * @param sql SQL
+     * @return route cache statistics
+     */
+    public ShardingRouteCacheStatistics getStatistics(final String sql) {
+        return statistics.get(sql, unused -> new ShardingRouteCacheStatistics());
+    }
+    
     /**
      * Cache route result.
      *
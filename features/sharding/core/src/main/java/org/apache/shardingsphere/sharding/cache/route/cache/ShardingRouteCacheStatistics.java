@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of sharding route cache for one SQL, which disables route cache of the SQL when caching does not pay off.
+ */
+public final class ShardingRouteCacheStatistics {
+    
+    private static final int EVALUATE_INTERVAL = 1024;
+    
+    private static final int REENABLE_INTERVAL = 65536;
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    private final LongAdder savedNanos = new LongAdder();
+    
+    private final LongAdder missOverheadNanos = new LongAdder();
+    
+    private final AtomicLong lookupCount = new AtomicLong();
+    
+    private final AtomicLong bypassCount = new AtomicLong();
+    
+    private volatile boolean disabled;
+    
+    /**
+     * Judge whether route cache is enabled for the SQL.
+     * Disabled route cache will be enabled again after bypassing enough times, to probe whether caching pays off now.
+     *
+     * @return enabled or not
+     */
+    public boolean isEnabled() {
+        if (!disabled) {
+            return true;
+        }
+        if (bypassCount.incrementAndGet() < REENABLE_INTERVAL) {
+            return false;
+        }
+        reset();
+        return true;
+    }
+    
+    /**
+     * Record cache hit.
+     *
+     * @param routeNanos nanoseconds to calculate cached route context
+     * @param hitNanos nanoseconds to load route context from cache
+     */
+    public void recordHit(final long routeNanos, final long hitNanos) {
+        hitCount.increment();
+        savedNanos.add(routeNanos - hitNanos);
+        evaluate();
+    }
+    
+    /**
+     * Record cache miss.
+     *
+     * @param overheadNanos nanoseconds spent on cache lookup and put besides route calculation
+     */
+    public void recordMiss(final long overheadNanos) {
+        missCount.increment();
+        missOverheadNanos.add(overheadNanos);
+        evaluate();
+    }
+    
+    private void evaluate() {
+        if (0L == lookupCount.incrementAndGet() % EVALUATE_INTERVAL && savedNanos.sum() <= missOverheadNanos.sum()) {
+            disabled = true;
+        }
+    }
+    
+    private void reset() {
+        hitCount.reset();
+        missCount.reset();
+        savedNanos.reset();
+        missOverheadNanos.reset();
+        lookupCount.set(0L);
+        bypassCount.set(0L);
+        disabled = false;
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
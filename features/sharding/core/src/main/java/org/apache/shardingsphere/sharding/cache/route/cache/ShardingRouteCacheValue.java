@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -40,8 +41,15 @@ public final class ShardingRouteCacheValue {
     
     private final RouteContext cachedRouteContext;
     
+    @Getter
+    private final long routeNanos;
+    
     public ShardingRouteCacheValue(final RouteContext routeContext) {
-        this(null != routeContext, routeContext);
+        this(routeContext, 0L);
+    }
+    
+    public ShardingRouteCacheValue(final RouteContext routeContext, final long routeNanos) {
+        this(null != routeContext, routeContext, routeNanos);
     }
     
     /**
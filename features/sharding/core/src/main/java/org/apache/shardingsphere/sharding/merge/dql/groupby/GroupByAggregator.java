@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationColumn;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Group by aggregator, which aggregates rows of same group by value in memory.
+ */
+@RequiredArgsConstructor
+public final class GroupByAggregator {
+    
+    private static final int GROUP_OVERHEAD_BYTES = 160;
+    
+    private static final int AGGREGATION_UNIT_OVERHEAD_BYTES = 64;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Map<GroupByValue, AggregatedRow> aggregatedRows = new HashMap<>(1024, 1F);
+    
+    private List<AggregationColumn> aggregationColumns;
+    
+    @Getter
+    private long estimatedBytes;
+    
+    /**
+     * Judge whether group by value is aggregated.
+     *
+     * @param groupByValue group by value
+     * @return is aggregated or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return aggregatedRows.containsKey(groupByValue);
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        if (null == aggregationColumns) {
+            aggregationColumns = createAggregationColumns(queryResult);
+        }
+        AggregatedRow aggregatedRow = aggregatedRows.get(groupByValue);
+        if (null == aggregatedRow) {
+            aggregatedRow = createAggregatedRow(queryResult, groupByValue);
+            aggregatedRows.put(groupByValue, aggregatedRow);
+        }
+        AggregationUnit[] aggregationUnits = aggregatedRow.getAggregationUnits();
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationColumn aggregationColumn = aggregationColumns.get(i);
+            if (aggregationColumn.getProjection() instanceof AggregationDistinctProjection) {
+                estimatedBytes += estimateBytes(queryResult.getValue(aggregationColumn.getProjection().getIndex(), Object.class));
+            }
+            aggregationColumn.merge(aggregationUnits[i], queryResult);
+        }
+    }
+    
+    private List<AggregationColumn> createAggregationColumns(final QueryResult queryResult) throws SQLException {
+        Collection<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        List<AggregationColumn> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(new AggregationColumn(each, queryResult.getMetaData()));
+        }
+        return result;
+    }
+    
+    private AggregatedRow createAggregatedRow(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        MemoryQueryResultRow row = new MemoryQueryResultRow(queryResult);
+        AggregationUnit[] aggregationUnits = new AggregationUnit[aggregationColumns.size()];
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i] = aggregationColumns.get(i).createAggregationUnit();
+        }
+        estimatedBytes += GROUP_OVERHEAD_BYTES + (long) AGGREGATION_UNIT_OVERHEAD_BYTES * aggregationUnits.length + estimateBytes(row, queryResult.getMetaData().getColumnCount(), groupByValue);
+        return new AggregatedRow(row, aggregationUnits);
+    }
+    
+    private long estimateBytes(final MemoryQueryResultRow row, final int columnCount, final GroupByValue groupByValue) {
+        long result = 16L + 8L * columnCount;
+        for (int i = 1; i <= columnCount; i++) {
+            result += estimateBytes(row.getCell(i));
+        }
+        for (Object each : groupByValue.getGroupValues()) {
+            result += 8L + estimateBytes(each);
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 64L;
+        }
+        return 24L;
+    }
+    
+    /**
+     * Get aggregated rows.
+     *
+     * @return aggregated rows
+     */
+    public Collection<MemoryQueryResultRow> getRows() {
+        Collection<MemoryQueryResultRow> result = new ArrayList<>(aggregatedRows.size());
+        for (AggregatedRow each : aggregatedRows.values()) {
+            for (int i = 0; i < each.getAggregationUnits().length; i++) {
+                each.getRow().setCell(aggregationColumns.get(i).getProjection().getIndex(), each.getAggregationUnits()[i].getResult());
+            }
+            result.add(each.getRow());
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AggregatedRow {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
+}
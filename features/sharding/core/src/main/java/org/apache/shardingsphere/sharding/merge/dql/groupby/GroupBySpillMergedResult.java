@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillFile;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillQueryResult;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Group by merged result which spills to disk when memory limit is reached.
+ * 
+ * <p>Groups are aggregated in memory until their estimated size exceeds memory limit.
+ * After that, groups already in memory keep aggregating and rows of new groups are hash partitioned into spill files.
+ * Each partition is aggregated the same way with next bits of hash, every aggregated part is sorted and spilled as a run, and runs are merged by order.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_SPILL_DEPTH = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryLimitBytes;
+    
+    private final Path spillDirectory;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private SortedRun currentRun;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                    final long memoryLimitBytes, final Path spillDirectory) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryLimitBytes = memoryLimitBytes;
+        this.spillDirectory = spillDirectory;
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        sortedRuns = new PriorityQueue<>(PARTITION_COUNT, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        boolean initialized = false;
+        try {
+            init(queryResults);
+            initialized = true;
+        } finally {
+            if (!initialized) {
+                spillFiles.forEach(GroupBySpillFile::close);
+            }
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
+        GroupBySpillFile[] partitions = new GroupBySpillFile[PARTITION_COUNT];
+        aggregate(queryResults, 0, aggregator, partitions);
+        if (Arrays.stream(partitions).allMatch(each -> null == each)) {
+            memoryRows = GroupByMemoryMergedResult.getMemoryResultSetRows(selectStatementContext, aggregator.getRows(), rowComparator).iterator();
+            return;
+        }
+        QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+        int columnCount = metaData.getColumnCount();
+        Collection<GroupBySpillFile> runFiles = new LinkedList<>();
+        runFiles.add(spillSortedRun(aggregator, columnCount));
+        aggregatePartitions(partitions, 1, metaData, runFiles);
+        for (GroupBySpillFile each : runFiles) {
+            SortedRun sortedRun = new SortedRun(each);
+            if (sortedRun.next()) {
+                sortedRuns.add(sortedRun);
+            } else {
+                each.close();
+            }
+        }
+    }
+    
+    private void aggregate(final Collection<? extends QueryResult> queryResults, final int depth, final GroupByAggregator aggregator, final GroupBySpillFile[] partitions) throws SQLException {
+        boolean spilling = false;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (spilling && !aggregator.contains(groupByValue)) {
+                    spillRow(each, partitions, getPartitionIndex(groupByValue, depth));
+                    continue;
+                }
+                aggregator.aggregate(each, groupByValue);
+                spilling = spilling || depth < MAX_SPILL_DEPTH && aggregator.getEstimatedBytes() > memoryLimitBytes;
+            }
+        }
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                each.finishWriting();
+            }
+        }
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hashCode = groupByValue.hashCode() * 0x9E3779B9;
+        hashCode ^= hashCode >>> 16;
+        return (hashCode >>> (depth * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+    
+    private void spillRow(final QueryResult queryResult, final GroupBySpillFile[] partitions, final int partitionIndex) throws SQLException {
+        if (null == partitions[partitionIndex]) {
+            partitions[partitionIndex] = createSpillFile();
+        }
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        partitions[partitionIndex].write(row);
+    }
+    
+    private void aggregatePartitions(final GroupBySpillFile[] partitions, final int depth, final QueryResultMetaData metaData, final Collection<GroupBySpillFile> runFiles) throws SQLException {
+        for (GroupBySpillFile each : partitions) {
+            if (null == each) {
+                continue;
+            }
+            GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
+            GroupBySpillFile[] subPartitions = new GroupBySpillFile[PARTITION_COUNT];
+            try (GroupBySpillQueryResult queryResult = new GroupBySpillQueryResult(each, metaData)) {
+                aggregate(Collections.singleton(queryResult), depth, aggregator, subPartitions);
+            }
+            runFiles.add(spillSortedRun(aggregator, metaData.getColumnCount()));
+            aggregatePartitions(subPartitions, depth + 1, metaData, runFiles);
+        }
+    }
+    
+    private GroupBySpillFile spillSortedRun(final GroupByAggregator aggregator, final int columnCount) {
+        List<MemoryQueryResultRow> rows = new ArrayList<>(aggregator.getRows());
+        rows.sort(rowComparator);
+        GroupBySpillFile result = createSpillFile();
+        for (MemoryQueryResultRow each : rows) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            result.write(row);
+        }
+        result.finishWriting();
+        return result;
+    }
+    
+    private GroupBySpillFile createSpillFile() {
+        GroupBySpillFile result = new GroupBySpillFile(spillDirectory);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        if (null != memoryRows) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        if (null != currentRun) {
+            if (currentRun.next()) {
+                sortedRuns.add(currentRun);
+            } else {
+                currentRun.getSpillFile().close();
+            }
+        }
+        currentRun = sortedRuns.poll();
+        if (null == currentRun) {
+            return false;
+        }
+        currentRow = currentRun.getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkState(!INVALID_MEMORY_TYPES.contains(type), () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        sortedRuns.clear();
+        currentRun = null;
+        spillFiles.forEach(GroupBySpillFile::close);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SortedRun {
+        
+        private final GroupBySpillFile spillFile;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() {
+            Object[] row = spillFile.read();
+            currentRow = null == row ? null : new MemoryQueryResultRow(row);
+            return null != currentRow;
+        }
+    }
+}
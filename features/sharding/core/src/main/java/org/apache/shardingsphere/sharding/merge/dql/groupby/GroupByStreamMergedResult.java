@@ -17,16 +17,13 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.collect.Maps;
-import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
-import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationBatchMerger;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationColumn;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 
 import java.sql.SQLException;
@@ -35,7 +32,6 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Stream merged result for group by.
@@ -46,6 +42,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final List<AggregationColumn> aggregationColumns;
+    
+    private final AggregationBatchMerger aggregationBatchMerger;
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
@@ -53,11 +53,24 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
+        aggregationColumns = createAggregationColumns(queryResults, selectStatementContext);
+        aggregationBatchMerger = new AggregationBatchMerger(aggregationColumns);
         currentGroupByValues = getOrderByValuesQueue().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
     
+    private static List<AggregationColumn> createAggregationColumns(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<AggregationColumn> result = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections().size());
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            result.add(new AggregationColumn(each, queryResults.get(0).getMetaData()));
+        }
+        return result;
+    }
+    
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
@@ -76,10 +89,13 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        AggregationUnit[] aggregationUnits = new AggregationUnit[aggregationColumns.size()];
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i] = aggregationColumns.get(i).createAggregationUnit();
+        }
+        aggregationBatchMerger.start(aggregationUnits);
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
-            aggregate(aggregationUnitMap);
+            aggregationBatchMerger.add(getCurrentQueryResult());
             if (!cachedRow) {
                 cacheCurrentRow();
                 cachedRow = true;
@@ -89,39 +105,20 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                 break;
             }
         }
-        setAggregationValueToCurrentRow(aggregationUnitMap);
+        aggregationBatchMerger.finish();
+        setAggregationValueToCurrentRow(aggregationUnits);
         return result;
     }
     
-    private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
-        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
-            } else {
-                for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(each));
-                }
-            }
-            entry.getValue().merge(values);
-        }
-    }
-    
     private void cacheCurrentRow() throws SQLException {
         for (int i = 0; i < getCurrentQueryResult().getMetaData().getColumnCount(); i++) {
             currentRow.add(getCurrentQueryResult().getValue(i + 1, Object.class));
         }
     }
     
-    private Comparable<?> getAggregationValue(final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = getCurrentQueryResult().getValue(aggregationProjection.getIndex(), Object.class);
-        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToCurrentRow(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) {
-        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+    private void setAggregationValueToCurrentRow(final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            currentRow.set(aggregationColumns.get(i).getProjection().getIndex() - 1, aggregationUnits[i].getResult());
         }
     }
     
@@ -38,7 +38,7 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         if (null == result) {
             result = BigDecimal.ZERO;
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result = result.add(AggregationValueUtils.toBigDecimal(values.get(0)));
     }
     
     @Override
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Aggregation batch merger, which buffers primitive aggregation values of consecutive rows and merges them in batch.
+ */
+public final class AggregationBatchMerger {
+    
+    private static final int BATCH_SIZE = 1024;
+    
+    private final List<AggregationColumn> aggregationColumns;
+    
+    private final long[][] longValues;
+    
+    private final double[][] doubleValues;
+    
+    private final int[] sizes;
+    
+    private AggregationUnit[] aggregationUnits;
+    
+    public AggregationBatchMerger(final List<AggregationColumn> aggregationColumns) {
+        this.aggregationColumns = aggregationColumns;
+        longValues = new long[aggregationColumns.size()][];
+        doubleValues = new double[aggregationColumns.size()][];
+        sizes = new int[aggregationColumns.size()];
+        for (int i = 0; i < aggregationColumns.size(); i++) {
+            AggregationValueType valueType = aggregationColumns.get(i).getValueType();
+            if (AggregationValueType.LONG == valueType) {
+                longValues[i] = new long[BATCH_SIZE];
+            } else if (AggregationValueType.DOUBLE == valueType) {
+                doubleValues[i] = new double[BATCH_SIZE];
+            }
+        }
+    }
+    
+    /**
+     * Start batch for aggregation units.
+     *
+     * @param aggregationUnits aggregation units, whose index are same as aggregation columns
+     */
+    public void start(final AggregationUnit[] aggregationUnits) {
+        this.aggregationUnits = aggregationUnits;
+    }
+    
+    /**
+     * Add current row of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void add(final QueryResult queryResult) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationColumn aggregationColumn = aggregationColumns.get(i);
+            if (AggregationValueType.OBJECT == aggregationColumn.getValueType()) {
+                aggregationColumn.merge(aggregationUnits[i], queryResult);
+                continue;
+            }
+            Number value = aggregationColumn.getNumberValue(queryResult);
+            if (null == value) {
+                continue;
+            }
+            if (AggregationValueType.LONG == aggregationColumn.getValueType()) {
+                longValues[i][sizes[i]++] = value.longValue();
+            } else {
+                doubleValues[i][sizes[i]++] = value.doubleValue();
+            }
+            if (BATCH_SIZE == sizes[i]) {
+                flush(i);
+            }
+        }
+    }
+    
+    /**
+     * Finish batch and merge buffered values into aggregation units.
+     */
+    public void finish() {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            flush(i);
+        }
+        aggregationUnits = null;
+    }
+    
+    private void flush(final int index) {
+        if (0 == sizes[index]) {
+            return;
+        }
+        if (null == longValues[index]) {
+            ((DoubleAggregationUnit) aggregationUnits[index]).merge(doubleValues[index], sizes[index]);
+        } else {
+            ((LongAggregationUnit) aggregationUnits[index]).merge(longValues[index], sizes[index]);
+        }
+        sizes[index] = 0;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregation column, which reads aggregation values of projection from query result.
+ */
+@Getter
+public final class AggregationColumn {
+    
+    private final AggregationProjection projection;
+    
+    private final AggregationValueType valueType;
+    
+    public AggregationColumn(final AggregationProjection projection, final QueryResultMetaData metaData) throws SQLException {
+        this.projection = projection;
+        valueType = getValueType(projection, metaData);
+    }
+    
+    private static AggregationValueType getValueType(final AggregationProjection projection, final QueryResultMetaData metaData) throws SQLException {
+        if (projection instanceof AggregationDistinctProjection || !projection.getDerivedAggregationProjections().isEmpty() || projection.getIndex() < 1) {
+            return AggregationValueType.OBJECT;
+        }
+        int columnType = metaData.getColumnType(projection.getIndex());
+        switch (projection.getType()) {
+            case SUM:
+            case COUNT:
+                if (isIntegerType(columnType) || isSignedBigintType(columnType, metaData, projection.getIndex())) {
+                    return AggregationValueType.LONG;
+                }
+                return isDoubleType(columnType) ? AggregationValueType.DOUBLE : AggregationValueType.OBJECT;
+            case MAX:
+            case MIN:
+                if (isSignedBigintType(columnType, metaData, projection.getIndex())) {
+                    return AggregationValueType.LONG;
+                }
+                return Types.DOUBLE == columnType ? AggregationValueType.DOUBLE : AggregationValueType.OBJECT;
+            default:
+                return AggregationValueType.OBJECT;
+        }
+    }
+    
+    private static boolean isIntegerType(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType;
+    }
+    
+    private static boolean isSignedBigintType(final int columnType, final QueryResultMetaData metaData, final int columnIndex) throws SQLException {
+        return Types.BIGINT == columnType && metaData.isSigned(columnIndex);
+    }
+    
+    private static boolean isDoubleType(final int columnType) {
+        return Types.FLOAT == columnType || Types.REAL == columnType || Types.DOUBLE == columnType;
+    }
+    
+    /**
+     * Create aggregation unit.
+     *
+     * @return created aggregation unit
+     */
+    public AggregationUnit createAggregationUnit() {
+        return AggregationUnitFactory.create(projection.getType(), projection instanceof AggregationDistinctProjection, valueType);
+    }
+    
+    /**
+     * Merge aggregation value of current row of query result into aggregation unit.
+     *
+     * @param aggregationUnit aggregation unit created by this column
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void merge(final AggregationUnit aggregationUnit, final QueryResult queryResult) throws SQLException {
+        if (AggregationValueType.OBJECT == valueType) {
+            aggregationUnit.merge(getAggregationValues(queryResult));
+            return;
+        }
+        Number value = getNumberValue(queryResult);
+        if (null == value) {
+            return;
+        }
+        if (AggregationValueType.LONG == valueType) {
+            ((LongAggregationUnit) aggregationUnit).merge(value.longValue());
+        } else {
+            ((DoubleAggregationUnit) aggregationUnit).merge(value.doubleValue());
+        }
+    }
+    
+    /**
+     * Get number value of current row of query result for primitive value type.
+     *
+     * @param queryResult query result
+     * @return number value, null if SQL NULL
+     * @throws SQLException SQL exception
+     */
+    public Number getNumberValue(final QueryResult queryResult) throws SQLException {
+        Object result = queryResult.getValue(projection.getIndex(), AggregationValueType.LONG == valueType ? long.class : double.class);
+        return null == result || queryResult.wasNull() ? null : (Number) result;
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final QueryResult queryResult) throws SQLException {
+        if (projection.getDerivedAggregationProjections().isEmpty()) {
+            return Collections.singletonList(getAggregationValue(queryResult, projection));
+        }
+        List<Comparable<?>> result = new ArrayList<>(projection.getDerivedAggregationProjections().size());
+        for (AggregationProjection each : projection.getDerivedAggregationProjections()) {
+            result.add(getAggregationValue(queryResult, each));
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+}
@@ -54,4 +54,31 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance for aggregation value type.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param valueType aggregation value type
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final AggregationValueType valueType) {
+        if (isDistinct || AggregationValueType.OBJECT == valueType) {
+            return create(type, isDistinct);
+        }
+        boolean isLongValue = AggregationValueType.LONG == valueType;
+        switch (type) {
+            case MAX:
+                return isLongValue ? new LongComparableAggregationUnit(false) : new DoubleComparableAggregationUnit(false);
+            case MIN:
+                return isLongValue ? new LongComparableAggregationUnit(true) : new DoubleComparableAggregationUnit(true);
+            case SUM:
+            case COUNT:
+                return isLongValue ? new LongSumAggregationUnit() : new DoubleSumAggregationUnit();
+            default:
+                return create(type, isDistinct);
+        }
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Comparable aggregation unit for double values.
+ */
+@RequiredArgsConstructor
+public final class DoubleComparableAggregationUnit implements DoubleAggregationUnit {
+    
+    private final boolean asc;
+    
+    private boolean merged;
+    
+    private double result;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        merge(((Number) values.get(0)).doubleValue());
+    }
+    
+    @Override
+    public void merge(final double value) {
+        if (!merged) {
+            result = value;
+            merged = true;
+            return;
+        }
+        int comparedValue = Double.compare(value, result);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            result = value;
+        }
+    }
+    
+    @Override
+    public void merge(final double[] values, final int length) {
+        for (int i = 0; i < length; i++) {
+            merge(values[i]);
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return merged ? result : null;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Sum aggregation unit for double values, which uses compensated summation to reduce rounding errors.
+ */
+public final class DoubleSumAggregationUnit implements DoubleAggregationUnit {
+    
+    private boolean merged;
+    
+    private double sum;
+    
+    private double compensation;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        merge(((Number) values.get(0)).doubleValue());
+    }
+    
+    @Override
+    public void merge(final double value) {
+        merged = true;
+        add(value);
+    }
+    
+    @Override
+    public void merge(final double[] values, final int length) {
+        if (0 == length) {
+            return;
+        }
+        merged = true;
+        for (int i = 0; i < length; i++) {
+            add(values[i]);
+        }
+    }
+    
+    private void add(final double value) {
+        double result = sum + value;
+        compensation += Math.abs(sum) >= Math.abs(value) ? sum - result + value : value - result + sum;
+        sum = result;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return merged ? BigDecimal.valueOf(sum + compensation) : null;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Comparable aggregation unit for long values.
+ */
+@RequiredArgsConstructor
+public final class LongComparableAggregationUnit implements LongAggregationUnit {
+    
+    private final boolean asc;
+    
+    private boolean merged;
+    
+    private long result;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        merge(((Number) values.get(0)).longValue());
+    }
+    
+    @Override
+    public void merge(final long value) {
+        if (!merged || (asc ? value < result : value > result)) {
+            result = value;
+            merged = true;
+        }
+    }
+    
+    @Override
+    public void merge(final long[] values, final int length) {
+        if (0 == length) {
+            return;
+        }
+        long current = merged ? result : values[0];
+        for (int i = 0; i < length; i++) {
+            current = asc ? Math.min(current, values[i]) : Math.max(current, values[i]);
+        }
+        result = current;
+        merged = true;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return merged ? result : null;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Sum aggregation unit for long values, which accumulates to big decimal only when long overflows.
+ */
+public final class LongSumAggregationUnit implements LongAggregationUnit {
+    
+    private boolean merged;
+    
+    private long sum;
+    
+    private BigDecimal overflowSum;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        Comparable<?> value = values.get(0);
+        if (AggregationValueUtils.isLongValue(value)) {
+            merge(((Number) value).longValue());
+            return;
+        }
+        merged = true;
+        overflowSum = null == overflowSum ? AggregationValueUtils.toBigDecimal(value) : overflowSum.add(AggregationValueUtils.toBigDecimal(value));
+    }
+    
+    @Override
+    public void merge(final long value) {
+        merged = true;
+        long result = sum + value;
+        if (((sum ^ result) & (value ^ result)) < 0L) {
+            overflow(sum);
+            result = value;
+        }
+        sum = result;
+    }
+    
+    @Override
+    public void merge(final long[] values, final int length) {
+        if (0 == length) {
+            return;
+        }
+        merged = true;
+        long current = sum;
+        for (int i = 0; i < length; i++) {
+            long result = current + values[i];
+            if (((current ^ result) & (values[i] ^ result)) < 0L) {
+                overflow(current);
+                result = values[i];
+            }
+            current = result;
+        }
+        sum = current;
+    }
+    
+    private void overflow(final long value) {
+        overflowSum = null == overflowSum ? BigDecimal.valueOf(value) : overflowSum.add(BigDecimal.valueOf(value));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!merged) {
+            return null;
+        }
+        return null == overflowSum ? BigDecimal.valueOf(sum) : overflowSum.add(BigDecimal.valueOf(sum));
+    }
+}
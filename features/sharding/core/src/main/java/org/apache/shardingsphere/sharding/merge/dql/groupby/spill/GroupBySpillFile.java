@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file of group by merge.
+ * 
+ * <p>Rows are appended first, then read back in the same order after {@link #finishWriting()}.
+ * The file is unlinked as soon as it is opened for reading where the file system allows, so abandoned merged results do not leave files behind.</p>
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final Path path;
+    
+    private ObjectOutputStream output;
+    
+    private ObjectInputStream input;
+    
+    @Getter
+    private long rowCount;
+    
+    private long readCount;
+    
+    public GroupBySpillFile(final Path directory) {
+        try {
+            path = Files.createTempFile(Files.createDirectories(directory), "shardingsphere-group-by-", ".spill");
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(directory, ex.getMessage());
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row values
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public void write(final Object[] row) {
+        try {
+            if (null == output) {
+                output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            }
+            output.writeObject(row);
+            rowCount++;
+            if (0 == rowCount % RESET_INTERVAL) {
+                output.reset();
+            }
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(path, ex.getMessage());
+        }
+    }
+    
+    /**
+     * Finish writing.
+     *
+     * @return spilled bytes
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public long finishWriting() {
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+            return Files.size(path);
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(path, ex.getMessage());
+        }
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows are read
+     * @throws GroupByMergeSpillException group by merge spill exception
+     */
+    public Object[] read() {
+        if (readCount == rowCount) {
+            return null;
+        }
+        try {
+            if (null == input) {
+                input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(path.toFile())));
+                delete();
+            }
+            readCount++;
+            return (Object[]) input.readObject();
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new GroupByMergeSpillException(path, ex.getMessage());
+        }
+    }
+    
+    @Override
+    public void close() {
+        QuietlyCloser.close(output);
+        QuietlyCloser.close(input);
+        output = null;
+        input = null;
+        delete();
+    }
+    
+    private void delete() {
+        path.toFile().delete();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stream merged result for order by with loser tree.
+ * 
+ * <p>
+ * Each query result is a leaf of the loser tree, and every internal node keeps the loser of the match between its two subtrees.
+ * Moving to next row only replays the matches on the path from the leaf of the last winner to the root, and compares sort keys cached in primitive form.
+ * </p>
+ */
+public final class LoserTreeOrderByStreamMergedResult extends StreamMergedResult {
+    
+    private final OrderBySortKeys[] sortKeys;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private boolean isFirstNext;
+    
+    public LoserTreeOrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<OrderBySortKeyColumn> columns = createSortKeyColumns(queryResults.get(0), selectStatementContext, schema);
+        sortKeys = new OrderBySortKeys[queryResults.size()];
+        exhausted = new boolean[queryResults.size()];
+        for (int i = 0; i < queryResults.size(); i++) {
+            sortKeys[i] = new OrderBySortKeys(queryResults.get(i), columns);
+            exhausted[i] = !sortKeys[i].next();
+        }
+        losers = new int[queryResults.size()];
+        winner = buildLoserTree();
+        setCurrentQueryResult(exhausted[winner] ? queryResults.get(0) : sortKeys[winner].getQueryResult());
+        isFirstNext = true;
+    }
+    
+    /**
+     * Judge whether order by items can be merged with loser tree.
+     *
+     * @param queryResult query result
+     * @param selectStatementContext select statement context
+     * @return can be merged with loser tree or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isSupported(final QueryResult queryResult, final SelectStatementContext selectStatementContext) throws SQLException {
+        for (OrderByItem each : selectStatementContext.getOrderByContext().getItems()) {
+            if (!OrderBySortKeyType.findType(queryResult.getMetaData().getColumnType(each.getIndex())).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private List<OrderBySortKeyColumn> createSortKeyColumns(final QueryResult queryResult, final SelectStatementContext selectStatementContext,
+                                                            final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        List<Boolean> caseSensitives = OrderByValue.getOrderValuesCaseSensitive(queryResult, orderByItems, selectStatementContext, schema);
+        List<OrderBySortKeyColumn> result = new ArrayList<>(orderByItems.size());
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            Optional<OrderBySortKeyType> type = OrderBySortKeyType.findType(queryResult.getMetaData().getColumnType(each.getIndex()));
+            result.add(new OrderBySortKeyColumn(each.getIndex(), type.orElse(OrderBySortKeyType.STRING), each.getSegment().getOrderDirection(),
+                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), caseSensitives.get(i++)));
+        }
+        return result;
+    }
+    
+    private int buildLoserTree() {
+        int size = sortKeys.length;
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean leftWin = isBefore(left, right);
+            winners[node] = leftWin ? left : right;
+            losers[node] = leftWin ? right : left;
+        }
+        return winners[1];
+    }
+    
+    private void replay(final int leaf) {
+        int current = leaf;
+        for (int node = (leaf + sortKeys.length) >> 1; node > 0; node >>= 1) {
+            if (isBefore(losers[node], current)) {
+                int loser = losers[node];
+                losers[node] = current;
+                current = loser;
+            }
+        }
+        winner = current;
+    }
+    
+    private boolean isBefore(final int left, final int right) {
+        if (exhausted[left]) {
+            return exhausted[right] && left < right;
+        }
+        if (exhausted[right]) {
+            return true;
+        }
+        int result = sortKeys[left].compareTo(sortKeys[right]);
+        return result < 0 || 0 == result && left < right;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (isFirstNext) {
+            isFirstNext = false;
+            return !exhausted[winner];
+        }
+        if (exhausted[winner]) {
+            return false;
+        }
+        exhausted[winner] = !sortKeys[winner].next();
+        replay(winner);
+        if (exhausted[winner]) {
+            return false;
+        }
+        setCurrentQueryResult(sortKeys[winner].getQueryResult());
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.Types;
+import java.util.Optional;
+
+/**
+ * Order by sort key type, which decides the primitive form to cache decoded order by values.
+ */
+public enum OrderBySortKeyType {
+    
+    LONG, DOUBLE, STRING;
+    
+    /**
+     * Find sort key type.
+     *
+     * @param columnType column type, value of {@link java.sql.Types}
+     * @return found sort key type, empty if column type has neither fixed width nor collatable value
+     */
+    public static Optional<OrderBySortKeyType> findType(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return Optional.of(LONG);
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+                return Optional.of(DOUBLE);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return Optional.of(STRING);
+            default:
+                return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Order by sort keys, which caches order by values of current row decoded to primitive form.
+ * 
+ * <p>Values which can not be decoded to the primitive form of their column, such as nulls or unexpected value types, are compared with {@link CompareUtils}.</p>
+ */
+public final class OrderBySortKeys implements Comparable<OrderBySortKeys> {
+    
+    @Getter
+    private final QueryResult queryResult;
+    
+    private final OrderBySortKeyColumn[] columns;
+    
+    private final Comparable<?>[] values;
+    
+    private final boolean[] decoded;
+    
+    private final long[] longKeys;
+    
+    private final double[] doubleKeys;
+    
+    private final String[] stringKeys;
+    
+    public OrderBySortKeys(final QueryResult queryResult, final List<OrderBySortKeyColumn> columns) {
+        this.queryResult = queryResult;
+        this.columns = columns.toArray(new OrderBySortKeyColumn[0]);
+        values = new Comparable<?>[columns.size()];
+        decoded = new boolean[columns.size()];
+        longKeys = new long[columns.size()];
+        doubleKeys = new double[columns.size()];
+        stringKeys = new String[columns.size()];
+    }
+    
+    /**
+     * Iterate next data.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (!queryResult.next()) {
+            return false;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            Object value = queryResult.getValue(columns[i].getIndex(), Object.class);
+            ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
+            values[i] = (Comparable<?>) value;
+            decoded[i] = decode(i, value);
+        }
+        return true;
+    }
+    
+    private boolean decode(final int columnIndex, final Object value) {
+        switch (columns[columnIndex].getType()) {
+            case LONG:
+                if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    longKeys[columnIndex] = ((Number) value).longValue();
+                    return true;
+                }
+                return false;
+            case DOUBLE:
+                if (value instanceof Double || value instanceof Float) {
+                    doubleKeys[columnIndex] = ((Number) value).doubleValue();
+                    return true;
+                }
+                return false;
+            default:
+                if (value instanceof String) {
+                    stringKeys[columnIndex] = columns[columnIndex].isCaseSensitive() ? (String) value : ((String) value).toUpperCase();
+                    return true;
+                }
+                return false;
+        }
+    }
+    
+    @Override
+    public int compareTo(final OrderBySortKeys sortKeys) {
+        for (int i = 0; i < columns.length; i++) {
+            int result = compareTo(sortKeys, i);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareTo(final OrderBySortKeys sortKeys, final int columnIndex) {
+        OrderBySortKeyColumn column = columns[columnIndex];
+        if (!decoded[columnIndex] || !sortKeys.decoded[columnIndex]) {
+            return CompareUtils.compareTo((Comparable) values[columnIndex], (Comparable) sortKeys.values[columnIndex], column.getOrderDirection(), column.getNullsOrderType(),
+                    column.isCaseSensitive());
+        }
+        int result;
+        switch (column.getType()) {
+            case LONG:
+                result = Long.compare(longKeys[columnIndex], sortKeys.longKeys[columnIndex]);
+                break;
+            case DOUBLE:
+                result = Double.compare(doubleKeys[columnIndex], sortKeys.doubleKeys[columnIndex]);
+                break;
+            default:
+                result = stringKeys[columnIndex].compareTo(sortKeys.stringKeys[columnIndex]);
+                break;
+        }
+        return OrderDirection.ASC == column.getOrderDirection() ? result : -result;
+    }
+}
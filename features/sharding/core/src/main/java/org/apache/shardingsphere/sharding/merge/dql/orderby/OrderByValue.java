@@ -57,18 +57,20 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
-        orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderValuesCaseSensitive = getOrderValuesCaseSensitive(queryResult, orderByItems, selectStatementContext, schema);
     }
     
-    private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
+    static List<Boolean> getOrderValuesCaseSensitive(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
+                                                     final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>(orderByItems.size());
         for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
+            result.add(getOrderValuesCaseSensitiveFromTables(queryResult, selectStatementContext, schema, eachOrderByItem));
         }
         return result;
     }
     
-    private boolean getOrderValuesCaseSensitiveFromTables(final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
+    private static boolean getOrderValuesCaseSensitiveFromTables(final QueryResult queryResult, final SelectStatementContext selectStatementContext,
+                                                                 final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
             ShardingSphereTable table = schema.getTable(tableName);
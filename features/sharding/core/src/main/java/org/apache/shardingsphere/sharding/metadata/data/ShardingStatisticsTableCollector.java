@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
@@ -35,18 +36,34 @@ import org.apache.shardingsphere.sharding.rule.ShardingTable;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Sharding statistics table data collector.
+ * 
+ * <p>Actual tables of each storage unit are collected by one query, and storage units are collected in parallel.</p>
  */
 public final class ShardingStatisticsTableCollector implements ShardingSphereStatisticsCollector {
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
+    private static final int MAX_COLLECT_PARALLELISM = 8;
+    
+    private static final ExecutorService COLLECT_EXECUTOR = Executors.newFixedThreadPool(
+            Math.min(Runtime.getRuntime().availableProcessors(), MAX_COLLECT_PARALLELISM), ExecutorThreadFactoryBuilder.build("sharding-statistics-collect-%d"));
+    
     @Override
     public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table, final Map<String, ShardingSphereDatabase> databases) throws SQLException {
         ShardingSphereTableData result = new ShardingSphereTableData(SHARDING_TABLE_STATISTICS);
@@ -71,6 +88,7 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereSta
     }
     
     private void collectForShardingStatisticTable(final ShardingSphereDatabase database, final ShardingRule shardingRule, final ShardingSphereTableData tableData) throws SQLException {
+        Map<DataNode, List<Object>> dialectRows = collectDialectRows(database.getResourceMetaData().getStorageUnits(), groupDataNodesByStorageUnit(shardingRule));
         int count = 1;
         for (ShardingTable each : shardingRule.getShardingTables().values()) {
             for (DataNode dataNode : each.getActualDataNodes()) {
@@ -80,24 +98,54 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereSta
                 row.add(each.getLogicTable());
                 row.add(dataNode.getDataSourceName());
                 row.add(dataNode.getTableName());
-                addTableRowsAndDataLength(database.getResourceMetaData().getStorageUnits(), dataNode, row);
+                row.addAll(dialectRows.getOrDefault(dataNode, Arrays.asList(BigDecimal.ZERO, BigDecimal.ZERO)));
                 tableData.getRows().add(new ShardingSphereRowData(row));
             }
         }
     }
     
-    private void addTableRowsAndDataLength(final Map<String, StorageUnit> storageUnits, final DataNode dataNode, final List<Object> row) throws SQLException {
-        DatabaseType databaseType = storageUnits.get(dataNode.getDataSourceName()).getStorageType();
-        Optional<DialectShardingStatisticsTableCollector> dialectCollector = DatabaseTypedSPILoader.findService(DialectShardingStatisticsTableCollector.class, databaseType);
-        boolean isAppended = false;
-        if (dialectCollector.isPresent()) {
-            try (Connection connection = storageUnits.get(dataNode.getDataSourceName()).getDataSource().getConnection()) {
-                isAppended = dialectCollector.get().appendRow(connection, dataNode, row);
+    private Map<String, Collection<DataNode>> groupDataNodesByStorageUnit(final ShardingRule shardingRule) {
+        Map<String, Collection<DataNode>> result = new LinkedHashMap<>();
+        for (ShardingTable each : shardingRule.getShardingTables().values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedList<>()).add(dataNode);
             }
         }
-        if (!isAppended) {
-            row.add(BigDecimal.ZERO);
-            row.add(BigDecimal.ZERO);
+        return result;
+    }
+    
+    private Map<DataNode, List<Object>> collectDialectRows(final Map<String, StorageUnit> storageUnits, final Map<String, Collection<DataNode>> dataNodeGroups) throws SQLException {
+        Collection<Future<Map<DataNode, List<Object>>>> futures = new LinkedList<>();
+        for (Entry<String, Collection<DataNode>> entry : dataNodeGroups.entrySet()) {
+            StorageUnit storageUnit = storageUnits.get(entry.getKey());
+            Optional<DialectShardingStatisticsTableCollector> dialectCollector = DatabaseTypedSPILoader.findService(DialectShardingStatisticsTableCollector.class, storageUnit.getStorageType());
+            dialectCollector.ifPresent(optional -> futures.add(COLLECT_EXECUTOR.submit(() -> collectDialectRows(storageUnit, optional, entry.getValue()))));
+        }
+        Map<DataNode, List<Object>> result = new HashMap<>();
+        for (Future<Map<DataNode, List<Object>>> each : futures) {
+            result.putAll(getDialectRows(each));
+        }
+        return result;
+    }
+    
+    private Map<DataNode, List<Object>> collectDialectRows(final StorageUnit storageUnit, final DialectShardingStatisticsTableCollector dialectCollector,
+                                                           final Collection<DataNode> dataNodes) throws SQLException {
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            return dialectCollector.collect(connection, dataNodes);
+        }
+    }
+    
+    private Map<DataNode, List<Object>> getDialectRows(final Future<Map<DataNode, List<Object>>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
         }
     }
     
@@ -23,7 +23,11 @@ import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Dialect sharding statistics table data collector.
@@ -31,6 +35,10 @@ import java.util.List;
 @SingletonSPI
 public interface DialectShardingStatisticsTableCollector extends DatabaseTypedSPI {
     
+    String SCHEMA_NAME_COLUMN_NAME = "SCHEMA_NAME";
+    
+    String TABLE_NAME_COLUMN_NAME = "TABLE_NAME";
+    
     String TABLE_ROWS_COLUMN_NAME = "TABLE_ROWS";
     
     String DATA_LENGTH_COLUMN_NAME = "DATA_LENGTH";
@@ -45,4 +53,23 @@ public interface DialectShardingStatisticsTableCollector extends DatabaseTypedSP
      * @throws SQLException SQL exception
      */
     boolean appendRow(Connection connection, DataNode dataNode, List<Object> row) throws SQLException;
+    
+    /**
+     * Collect dialect content of data nodes in same storage unit.
+     *
+     * @param connection connection
+     * @param dataNodes data nodes in same storage unit
+     * @return dialect content of data nodes, data nodes without content are absent
+     * @throws SQLException SQL exception
+     */
+    default Map<DataNode, List<Object>> collect(final Connection connection, final Collection<DataNode> dataNodes) throws SQLException {
+        Map<DataNode, List<Object>> result = new HashMap<>(dataNodes.size(), 1F);
+        for (DataNode each : dataNodes) {
+            List<Object> row = new LinkedList<>();
+            if (appendRow(connection, each, row)) {
+                result.put(each, row);
+            }
+        }
+        return result;
+    }
 }
@@ -24,7 +24,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding statistics table data collector of MySQL.
@@ -33,6 +37,8 @@ public final class MySQLShardingStatisticsTableCollector implements DialectShard
     
     private static final String MYSQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
     
+    private static final String MYSQL_ALL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT TABLE_NAME, TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = ?";
+    
     @Override
     public boolean appendRow(final Connection connection, final DataNode dataNode, final List<Object> row) throws SQLException {
         try (PreparedStatement preparedStatement = connection.prepareStatement(MYSQL_TABLE_ROWS_AND_DATA_LENGTH)) {
@@ -49,6 +55,28 @@ public final class MySQLShardingStatisticsTableCollector implements DialectShard
         return false;
     }
     
+    @Override
+    public Map<DataNode, List<Object>> collect(final Connection connection, final Collection<DataNode> dataNodes) throws SQLException {
+        Map<String, List<Object>> tableRows = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(MYSQL_ALL_TABLE_ROWS_AND_DATA_LENGTH)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    tableRows.put(resultSet.getString(TABLE_NAME_COLUMN_NAME).toLowerCase(),
+                            Arrays.asList(resultSet.getBigDecimal(TABLE_ROWS_COLUMN_NAME), resultSet.getBigDecimal(DATA_LENGTH_COLUMN_NAME)));
+                }
+            }
+        }
+        Map<DataNode, List<Object>> result = new HashMap<>(dataNodes.size(), 1F);
+        for (DataNode each : dataNodes) {
+            List<Object> row = tableRows.get(each.getTableName().toLowerCase());
+            if (null != row) {
+                result.put(each, row);
+            }
+        }
+        return result;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
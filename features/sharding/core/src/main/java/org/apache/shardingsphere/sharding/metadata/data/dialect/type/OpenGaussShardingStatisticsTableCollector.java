@@ -24,7 +24,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding statistics table data collector of openGauss.
@@ -33,6 +37,9 @@ public final class OpenGaussShardingStatisticsTableCollector implements DialectS
     
     private static final String OPENGAUSS_TABLE_ROWS_AND_DATA_LENGTH = "SELECT RELTUPLES AS TABLE_ROWS, PG_TABLE_SIZE(?) AS DATA_LENGTH FROM PG_CLASS WHERE RELNAME = ?";
     
+    private static final String OPENGAUSS_ALL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT C.RELNAME AS TABLE_NAME, C.RELTUPLES AS TABLE_ROWS, PG_TABLE_SIZE(C.OID) AS DATA_LENGTH "
+            + "FROM PG_CLASS C JOIN PG_NAMESPACE N ON C.RELNAMESPACE = N.OID WHERE N.NSPNAME = ? AND C.RELKIND = 'r'";
+    
     @Override
     public boolean appendRow(final Connection connection, final DataNode dataNode, final List<Object> row) throws SQLException {
         if (!isTableExist(connection, dataNode.getTableName())) {
@@ -52,6 +59,27 @@ public final class OpenGaussShardingStatisticsTableCollector implements DialectS
         return false;
     }
     
+    @Override
+    public Map<DataNode, List<Object>> collect(final Connection connection, final Collection<DataNode> dataNodes) throws SQLException {
+        Map<String, List<Object>> tableRows = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(OPENGAUSS_ALL_TABLE_ROWS_AND_DATA_LENGTH)) {
+            preparedStatement.setString(1, connection.getSchema());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    tableRows.put(resultSet.getString(TABLE_NAME_COLUMN_NAME), Arrays.asList(resultSet.getBigDecimal(TABLE_ROWS_COLUMN_NAME), resultSet.getBigDecimal(DATA_LENGTH_COLUMN_NAME)));
+                }
+            }
+        }
+        Map<DataNode, List<Object>> result = new HashMap<>(dataNodes.size(), 1F);
+        for (DataNode each : dataNodes) {
+            List<Object> row = tableRows.get(each.getTableName());
+            if (null != row) {
+                result.put(each, row);
+            }
+        }
+        return result;
+    }
+    
     private boolean isTableExist(final Connection connection, final String tableNamePattern) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), tableNamePattern, null)) {
             return resultSet.next();
@@ -25,7 +25,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,6 +41,10 @@ public final class PostgreSQLShardingStatisticsTableCollector implements Dialect
     
     private static final String POSTGRESQL_TABLE_DATA_LENGTH = "SELECT PG_RELATION_SIZE(RELID) as DATA_LENGTH FROM PG_STAT_ALL_TABLES T WHERE SCHEMANAME= ? AND RELNAME = ?";
     
+    private static final String POSTGRESQL_ALL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT N.NSPNAME AS SCHEMA_NAME, C.RELNAME AS TABLE_NAME, C.RELTUPLES AS TABLE_ROWS, "
+            + "PG_RELATION_SIZE(C.OID) AS DATA_LENGTH FROM PG_CLASS C JOIN PG_NAMESPACE N ON C.RELNAMESPACE = N.OID "
+            + "WHERE C.RELKIND IN ('r', 'p') AND N.NSPNAME NOT IN ('pg_catalog', 'information_schema')";
+    
     @Override
     public boolean appendRow(final Connection connection, final DataNode dataNode, final List<Object> row) throws SQLException {
         row.add(getRowValue(connection, dataNode, POSTGRESQL_TABLE_ROWS_LENGTH, TABLE_ROWS_COLUMN_NAME).orElse(BigDecimal.ZERO));
@@ -44,6 +52,24 @@ public final class PostgreSQLShardingStatisticsTableCollector implements Dialect
         return true;
     }
     
+    @Override
+    public Map<DataNode, List<Object>> collect(final Connection connection, final Collection<DataNode> dataNodes) throws SQLException {
+        Map<String, List<Object>> tableRows = new HashMap<>();
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(POSTGRESQL_ALL_TABLE_ROWS_AND_DATA_LENGTH);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                tableRows.put(resultSet.getString(SCHEMA_NAME_COLUMN_NAME) + "." + resultSet.getString(TABLE_NAME_COLUMN_NAME),
+                        Arrays.asList(resultSet.getBigDecimal(TABLE_ROWS_COLUMN_NAME), resultSet.getBigDecimal(DATA_LENGTH_COLUMN_NAME)));
+            }
+        }
+        Map<DataNode, List<Object>> result = new HashMap<>(dataNodes.size(), 1F);
+        for (DataNode each : dataNodes) {
+            result.put(each, tableRows.getOrDefault(each.getSchemaName() + "." + each.getTableName(), Arrays.asList(BigDecimal.ZERO, BigDecimal.ZERO)));
+        }
+        return result;
+    }
+    
     private Optional<BigDecimal> getRowValue(final Connection connection, final DataNode dataNode, final String sql, final String columnName) throws SQLException {
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             preparedStatement.setString(1, dataNode.getSchemaName());
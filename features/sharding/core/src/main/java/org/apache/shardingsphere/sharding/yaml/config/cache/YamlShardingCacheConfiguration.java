@@ -31,4 +31,6 @@ public final class YamlShardingCacheConfiguration implements YamlConfiguration {
     private int allowedMaxSqlLength;
     
     private YamlShardingCacheOptionsConfiguration routeCache;
+    
+    private boolean adaptive;
 }
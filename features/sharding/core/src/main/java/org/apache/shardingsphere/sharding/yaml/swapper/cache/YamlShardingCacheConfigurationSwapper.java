@@ -33,11 +33,12 @@ public final class YamlShardingCacheConfigurationSwapper implements YamlConfigur
         YamlShardingCacheConfiguration result = new YamlShardingCacheConfiguration();
         result.setAllowedMaxSqlLength(data.getAllowedMaxSqlLength());
         result.setRouteCache(cacheOptionsConfigurationSwapper.swapToYamlConfiguration(data.getRouteCache()));
+        result.setAdaptive(data.isAdaptive());
         return result;
     }
     
     @Override
     public ShardingCacheConfiguration swapToObject(final YamlShardingCacheConfiguration yamlConfig) {
-        return new ShardingCacheConfiguration(yamlConfig.getAllowedMaxSqlLength(), cacheOptionsConfigurationSwapper.swapToObject(yamlConfig.getRouteCache()));
+        return new ShardingCacheConfiguration(yamlConfig.getAllowedMaxSqlLength(), cacheOptionsConfigurationSwapper.swapToObject(yamlConfig.getRouteCache()), yamlConfig.isAdaptive());
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression;
+
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("getSameAsGroovyArguments")
+    void assertEvaluateSameAsGroovy(final String inlineExpression, final Comparable<?> value) {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile(inlineExpression);
+        assertTrue(actual.isCompiled());
+        Map<String, Comparable<?>> args = Collections.singletonMap("order_id", value);
+        assertThat(actual.evaluate(args), is(InlineExpressionParserFactory.newInstance(inlineExpression).evaluateWithArgs(args)));
+    }
+    
+    private static Stream<Arguments> getSameAsGroovyArguments() {
+        return Stream.of(
+                Arguments.of("t_order_${order_id % 4}", 10),
+                Arguments.of("t_order_${order_id % 4}", -10),
+                Arguments.of("t_order_${order_id % 16}", 787694822390497283L),
+                Arguments.of("t_order_${(order_id % 4).abs()}", -7),
+                Arguments.of("t_order_${Math.abs(order_id.hashCode()) % 8}", "foo_bar"),
+                Arguments.of("t_order_${Math.floorMod(order_id, 8)}", -3L),
+                Arguments.of("t_order_${order_id.intdiv(1000) % 4}", 123456),
+                Arguments.of("t_order_${order_id * 2 + 1 - 3}", Integer.MAX_VALUE),
+                Arguments.of("t_order_${order_id.substring(0, 2)}", "20240101"),
+                Arguments.of("t_order_${order_id.substring(4)}", "20240101"),
+                Arguments.of("${'t_order_' + order_id}", 7L),
+                Arguments.of("t_order_${order_id}_${-order_id % 3}", 5));
+    }
+    
+    @Test
+    void assertCompileWithUnsupportedSyntax() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id / 4}").isCompiled());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${[0, 1].collect { it }}").isCompiled());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id.length}").isCompiled());
+        assertFalse(InlineExpressionCompiler.compile("t_order_$order_id").isCompiled());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 1.5}").isCompiled());
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id % 4}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", new BigInteger("787694822390497280787694822390497281"))), is("t_order_1"));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedSyntax() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id.intdiv(2)}_${order_id / 2}");
+        assertFalse(actual.isCompiled());
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 4)), is("t_order_2_2"));
+    }
+    
+    @Test
+    void assertEvaluateWithDateFormat() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${create_time.format('yyyyMM')}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate(Collections.singletonMap("create_time", LocalDate.of(2024, 3, 15))), is("t_order_202403"));
+    }
+    
+    @Test
+    void assertEvaluateWithMultipleColumns() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${type % 2}_${order_id % 2}");
+        Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+        args.put("type", 1);
+        args.put("order_id", 2L);
+        assertThat(actual.evaluate(args), is("t_order_1_0"));
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCh
 import org.apache.shardingsphere.sharding.cache.route.CachedShardingSQLRouter.OriginSQLRouter;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -144,4 +145,44 @@ class CachedShardingSQLRouterTest {
         assertThat(actual.get(), is(expected));
         verify(shardingCache.getRouteCache(), never()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
     }
+    
+    @Test
+    void assertCreateRouteContextWithQueryRoutedToMultiDataNodesInAdaptiveMode() {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "select * from t where id in (?, ?)", Arrays.asList(0, 1), new HintValueContext());
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null, true));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Arrays.asList(0, 1)));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+        when(shardingCache.getRouteCache().getStatistics(queryContext.getSql())).thenReturn(statistics);
+        RouteContext expected = new RouteContext();
+        expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t_0"))));
+        expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t", "t_1"))));
+        expected.getOriginalDataNodes().add(Arrays.asList(new DataNode("ds_0", "t_0"), new DataNode("ds_1", "t_1")));
+        when(shardingCache.getRouteCache().get(any(ShardingRouteCacheKey.class))).thenReturn(Optional.empty());
+        OriginSQLRouter router = (unused, globalRuleMetaData, database, rule, props, connectionContext) -> expected;
+        Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, mock(RuleMetaData.class), null, shardingCache, null, null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(expected));
+        verify(shardingCache.getRouteCache()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+        assertThat(statistics.getMissCount(), is(1L));
+    }
+    
+    @Test
+    void assertCreateRouteContextWithCacheHitInAdaptiveMode() {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "select * from t where id in (?, ?)", Arrays.asList(0, 1), new HintValueContext());
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null, true));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Arrays.asList(0, 1)));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+        when(shardingCache.getRouteCache().getStatistics(queryContext.getSql())).thenReturn(statistics);
+        RouteContext expected = new RouteContext();
+        expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t_0"))));
+        when(shardingCache.getRouteCache().get(any(ShardingRouteCacheKey.class))).thenReturn(Optional.of(new ShardingRouteCacheValue(expected, 1000L)));
+        Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(null, queryContext, mock(RuleMetaData.class), null, shardingCache, null, null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteUnits(), is(expected.getRouteUnits()));
+        assertThat(statistics.getHitCount(), is(1L));
+    }
 }
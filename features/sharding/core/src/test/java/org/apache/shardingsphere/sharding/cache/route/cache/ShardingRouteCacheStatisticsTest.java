@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingRouteCacheStatisticsTest {
+    
+    @Test
+    void assertKeepEnabledWhenCachingPaysOff() {
+        ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+        statistics.recordMiss(100L);
+        for (int i = 0; i < 2047; i++) {
+            statistics.recordHit(1000L, 100L);
+        }
+        assertTrue(statistics.isEnabled());
+        assertThat(statistics.getHitCount(), is(2047L));
+        assertThat(statistics.getMissCount(), is(1L));
+    }
+    
+    @Test
+    void assertDisableWhenCachingDoesNotPayOff() {
+        ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+        for (int i = 0; i < 1024; i++) {
+            statistics.recordMiss(100L);
+        }
+        assertFalse(statistics.isEnabled());
+    }
+    
+    @Test
+    void assertReenableAfterBypassingEnoughTimes() {
+        ShardingRouteCacheStatistics statistics = new ShardingRouteCacheStatistics();
+        for (int i = 0; i < 1024; i++) {
+            statistics.recordHit(100L, 200L);
+        }
+        for (int i = 1; i < 65536; i++) {
+            assertFalse(statistics.isEnabled());
+        }
+        assertTrue(statistics.isEnabled());
+        assertThat(statistics.getHitCount(), is(0L));
+        assertTrue(statistics.isEnabled());
+    }
+}
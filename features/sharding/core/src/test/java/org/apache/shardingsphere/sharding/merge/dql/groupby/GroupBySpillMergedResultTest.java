@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillFile;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillMergedResultTest {
+    
+    @TempDir
+    private Path spillDirectory;
+    
+    @Test
+    void assertNextWithinMemoryLimit() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(
+                new RawMemoryQueryResult(createQueryResultMetaData(), Arrays.asList(createRow("a", 1L, 1L), createRow("b", 5L, 1L))),
+                new RawMemoryQueryResult(createQueryResultMetaData(), Collections.singletonList(createRow("a", 2L, 1L))));
+        MergedResult actual = merge(queryResults, Long.MAX_VALUE);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertNextRow(actual, "b", 5L, 1L);
+        assertNextRow(actual, "a", 3L, 2L);
+        assertFalse(actual.next());
+        assertFalse(spillDirectory.resolve("spill").toFile().exists());
+    }
+    
+    @Test
+    void assertNextWithAllResultSetsEmpty() throws SQLException {
+        MergedResult actual = merge(Arrays.asList(new RawMemoryQueryResult(createQueryResultMetaData(), Collections.emptyList()),
+                new RawMemoryQueryResult(createQueryResultMetaData(), Collections.emptyList())), 1L);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(0));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        Map<String, long[]> expected = new HashMap<>();
+        MergedResult actual = merge(createSpillQueryResults(expected), 4096L);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(spillDirectory.resolve("spill").toFile().isDirectory());
+        List<Entry<String, long[]>> expectedRows = new ArrayList<>(expected.entrySet());
+        expectedRows.sort(Comparator.<Entry<String, long[]>>comparingLong(each -> each.getValue()[0]).reversed().thenComparing(Entry::getKey));
+        for (Entry<String, long[]> each : expectedRows) {
+            assertNextRow(actual, each.getKey(), each.getValue()[0], each.getValue()[1]);
+        }
+        assertFalse(actual.next());
+        assertThat(Objects.requireNonNull(spillDirectory.resolve("spill").toFile().list()).length, is(0));
+    }
+    
+    @Test
+    void assertCloseWithSpillBeforeAllRowsIterated() throws SQLException {
+        MergedResult actual = merge(createSpillQueryResults(new HashMap<>()), 4096L);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        Collection<GroupBySpillFile> spillFiles = getSpillFiles((GroupBySpillMergedResult) actual);
+        assertTrue(spillFiles.stream().anyMatch(each -> null != getInput(each)));
+        actual.close();
+        assertTrue(spillFiles.stream().allMatch(each -> null == getInput(each)));
+        assertThat(Objects.requireNonNull(spillDirectory.resolve("spill").toFile().list()).length, is(0));
+        assertFalse(actual.next());
+    }
+    
+    private List<QueryResult> createSpillQueryResults(final Map<String, long[]> expected) {
+        Random random = new Random(31L);
+        List<QueryResult> result = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>();
+            for (int j = 0; j < 2000; j++) {
+                String key = "key_" + random.nextInt(1500);
+                long value = random.nextInt(1000);
+                long count = 1L + random.nextInt(3);
+                rows.add(createRow(key, value, count));
+                long[] aggregated = expected.computeIfAbsent(key, unused -> new long[2]);
+                aggregated[0] += value;
+                aggregated[1] += count;
+            }
+            result.add(new RawMemoryQueryResult(createQueryResultMetaData(), rows));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Collection<GroupBySpillFile> getSpillFiles(final GroupBySpillMergedResult mergedResult) {
+        return new ArrayList<>((Collection<GroupBySpillFile>) Plugins.getMemberAccessor().get(GroupBySpillMergedResult.class.getDeclaredField("spillFiles"), mergedResult));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Object getInput(final GroupBySpillFile spillFile) {
+        return Plugins.getMemberAccessor().get(GroupBySpillFile.class.getDeclaredField("input"), spillFile);
+    }
+    
+    private QueryResultMetaData createQueryResultMetaData() {
+        return new RawQueryResultMetaData(Arrays.asList(new RawQueryResultColumnMetaData("tbl", "col1", "col1", Types.VARCHAR, "VARCHAR", 16, 0),
+                new RawQueryResultColumnMetaData("tbl", "SUM(col2)", "SUM(col2)", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData("tbl", "COUNT(*)", "COUNT(*)", Types.BIGINT, "BIGINT", 20, 0)));
+    }
+    
+    private MemoryQueryResultDataRow createRow(final String key, final long sum, final long count) {
+        return new MemoryQueryResultDataRow(Arrays.asList(key, sum, count));
+    }
+    
+    private MergedResult merge(final List<QueryResult> queryResults, final long memoryLimitBytes) throws SQLException {
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new ColumnProjectionSegment(new ColumnSegment(0, 0, new IdentifierValue("col1"))));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.SUM, "SUM(col2)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Arrays.asList(
+                new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST), new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database),
+                mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_MEMORY_LIMIT_BYTES.getKey(), String.valueOf(memoryLimitBytes));
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_DIRECTORY.getKey(), spillDirectory.resolve("spill").toString());
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new ConfigurationProperties(props));
+        return resultMerger.merge(queryResults, selectStatementContext, database, mock(ConnectionContext.class));
+    }
+    
+    private void assertNextRow(final MergedResult actual, final String key, final long sum, final long count) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(key));
+        assertThat(actual.getValue(2, Object.class), is(new BigDecimal(sum)));
+        assertThat(actual.getValue(3, Object.class), is(new BigDecimal(count)));
+    }
+}
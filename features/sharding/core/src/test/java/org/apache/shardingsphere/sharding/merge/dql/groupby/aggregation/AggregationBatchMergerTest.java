@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AggregationBatchMergerTest {
+    
+    @Test
+    void assertMergeInBatch() throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(metaData.getColumnType(2)).thenReturn(Types.DOUBLE);
+        when(metaData.getColumnType(3)).thenReturn(Types.DECIMAL);
+        List<AggregationColumn> aggregationColumns = Arrays.asList(new AggregationColumn(createAggregationProjection(AggregationType.COUNT, 1), metaData),
+                new AggregationColumn(createAggregationProjection(AggregationType.MAX, 2), metaData), new AggregationColumn(createAggregationProjection(AggregationType.SUM, 3), metaData));
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, long.class)).thenReturn(1L);
+        when(queryResult.getValue(2, double.class)).thenReturn(1.5D);
+        when(queryResult.getValue(3, Object.class)).thenReturn(new BigDecimal("0.5"));
+        AggregationUnit[] aggregationUnits = {aggregationColumns.get(0).createAggregationUnit(), aggregationColumns.get(1).createAggregationUnit(), aggregationColumns.get(2).createAggregationUnit()};
+        AggregationBatchMerger aggregationBatchMerger = new AggregationBatchMerger(aggregationColumns);
+        aggregationBatchMerger.start(aggregationUnits);
+        for (int i = 0; i < 3000; i++) {
+            aggregationBatchMerger.add(queryResult);
+        }
+        aggregationBatchMerger.finish();
+        assertThat(aggregationUnits[0].getResult(), is(BigDecimal.valueOf(3000L)));
+        assertThat(aggregationUnits[1].getResult(), is(1.5D));
+        assertThat(aggregationUnits[2].getResult(), is(new BigDecimal("1500.0")));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type, final int index) {
+        AggregationProjection result = new AggregationProjection(type, type.name() + "(order_id)", null, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        result.setIndex(index);
+        return result;
+    }
+}
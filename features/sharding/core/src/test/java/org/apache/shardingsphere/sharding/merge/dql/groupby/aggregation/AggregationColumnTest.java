@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AggregationColumnTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertGetLongValueTypeForCount() throws SQLException {
+        assertThat(new AggregationColumn(createAggregationProjection(AggregationType.COUNT), mockMetaData(Types.BIGINT, true)).getValueType(), is(AggregationValueType.LONG));
+    }
+    
+    @Test
+    void assertGetObjectValueTypeForUnsignedBigint() throws SQLException {
+        assertThat(new AggregationColumn(createAggregationProjection(AggregationType.SUM), mockMetaData(Types.BIGINT, false)).getValueType(), is(AggregationValueType.OBJECT));
+    }
+    
+    @Test
+    void assertGetObjectValueTypeForDecimal() throws SQLException {
+        assertThat(new AggregationColumn(createAggregationProjection(AggregationType.SUM), mockMetaData(Types.DECIMAL, true)).getValueType(), is(AggregationValueType.OBJECT));
+    }
+    
+    @Test
+    void assertGetDoubleValueTypeForSum() throws SQLException {
+        assertThat(new AggregationColumn(createAggregationProjection(AggregationType.SUM), mockMetaData(Types.FLOAT, true)).getValueType(), is(AggregationValueType.DOUBLE));
+    }
+    
+    @Test
+    void assertGetObjectValueTypeForMaxOfInteger() throws SQLException {
+        assertThat(new AggregationColumn(createAggregationProjection(AggregationType.MAX), mockMetaData(Types.INTEGER, true)).getValueType(), is(AggregationValueType.OBJECT));
+    }
+    
+    @Test
+    void assertGetObjectValueTypeForDistinct() throws SQLException {
+        AggregationProjection projection = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "COUNT(DISTINCT order_id)", null, "order_id", databaseType);
+        projection.setIndex(1);
+        assertThat(new AggregationColumn(projection, mockMetaData(Types.BIGINT, true)).getValueType(), is(AggregationValueType.OBJECT));
+    }
+    
+    @Test
+    void assertMergeLongValue() throws SQLException {
+        AggregationColumn aggregationColumn = new AggregationColumn(createAggregationProjection(AggregationType.SUM), mockMetaData(Types.INTEGER, true));
+        AggregationUnit aggregationUnit = aggregationColumn.createAggregationUnit();
+        assertThat(aggregationUnit, instanceOf(LongSumAggregationUnit.class));
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, long.class)).thenReturn(10L, 0L, 5L);
+        when(queryResult.wasNull()).thenReturn(false, true, false);
+        aggregationColumn.merge(aggregationUnit, queryResult);
+        aggregationColumn.merge(aggregationUnit, queryResult);
+        aggregationColumn.merge(aggregationUnit, queryResult);
+        assertThat(aggregationUnit.getResult(), is(BigDecimal.valueOf(15L)));
+    }
+    
+    @Test
+    void assertMergeObjectValue() throws SQLException {
+        AggregationColumn aggregationColumn = new AggregationColumn(createAggregationProjection(AggregationType.SUM), mockMetaData(Types.DECIMAL, true));
+        AggregationUnit aggregationUnit = aggregationColumn.createAggregationUnit();
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(new BigDecimal("1.5"), null, new BigDecimal("2.5"));
+        aggregationColumn.merge(aggregationUnit, queryResult);
+        aggregationColumn.merge(aggregationUnit, queryResult);
+        aggregationColumn.merge(aggregationUnit, queryResult);
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal("4.0")));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type) {
+        AggregationProjection result = new AggregationProjection(type, type.name() + "(order_id)", null, databaseType);
+        result.setIndex(1);
+        return result;
+    }
+    
+    private QueryResultMetaData mockMetaData(final int columnType, final boolean signed) throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnType(1)).thenReturn(columnType);
+        when(result.isSigned(1)).thenReturn(signed);
+        return result;
+    }
+}
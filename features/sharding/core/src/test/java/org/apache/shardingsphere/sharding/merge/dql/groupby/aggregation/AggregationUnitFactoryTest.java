@@ -61,4 +61,25 @@ class AggregationUnitFactoryTest {
     void assertCreateBitXorAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false), instanceOf(BitXorAggregationUnit.class));
     }
+    
+    @Test
+    void assertCreateLongAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.MIN, false, AggregationValueType.LONG), instanceOf(LongComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false, AggregationValueType.LONG), instanceOf(LongComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, AggregationValueType.LONG), instanceOf(LongSumAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, AggregationValueType.LONG), instanceOf(LongSumAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateDoubleAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.MIN, false, AggregationValueType.DOUBLE), instanceOf(DoubleComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false, AggregationValueType.DOUBLE), instanceOf(DoubleComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, AggregationValueType.DOUBLE), instanceOf(DoubleSumAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateObjectAggregationUnitForPrimitiveValueType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, AggregationValueType.LONG), instanceOf(DistinctSumAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, AggregationValueType.OBJECT), instanceOf(AccumulationAggregationUnit.class));
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DoubleComparableAggregationUnitTest {
+    
+    @Test
+    void assertGetResultWithoutMergedValue() {
+        DoubleComparableAggregationUnit aggregationUnit = new DoubleComparableAggregationUnit(true);
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(new double[0], 0);
+        assertThat(aggregationUnit.getResult(), nullValue());
+    }
+    
+    @Test
+    void assertMergeForAsc() {
+        DoubleComparableAggregationUnit aggregationUnit = new DoubleComparableAggregationUnit(true);
+        aggregationUnit.merge(1.5D);
+        aggregationUnit.merge(new double[]{2.5D, -0.5D, -100D}, 2);
+        aggregationUnit.merge(Collections.singletonList(0.5D));
+        assertThat(aggregationUnit.getResult(), is(-0.5D));
+    }
+    
+    @Test
+    void assertMergeForDesc() {
+        DoubleComparableAggregationUnit aggregationUnit = new DoubleComparableAggregationUnit(false);
+        aggregationUnit.merge(new double[]{2.5D, -0.5D, 100D}, 2);
+        aggregationUnit.merge(1.5D);
+        aggregationUnit.merge(Collections.singletonList(3.5D));
+        assertThat(aggregationUnit.getResult(), is(3.5D));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LongComparableAggregationUnitTest {
+    
+    @Test
+    void assertGetResultWithoutMergedValue() {
+        LongComparableAggregationUnit aggregationUnit = new LongComparableAggregationUnit(true);
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(new long[0], 0);
+        assertThat(aggregationUnit.getResult(), nullValue());
+    }
+    
+    @Test
+    void assertMergeForAsc() {
+        LongComparableAggregationUnit aggregationUnit = new LongComparableAggregationUnit(true);
+        aggregationUnit.merge(10L);
+        aggregationUnit.merge(new long[]{15L, -3L, -100L}, 2);
+        aggregationUnit.merge(Collections.singletonList(5L));
+        assertThat(aggregationUnit.getResult(), is(-3L));
+    }
+    
+    @Test
+    void assertMergeForDesc() {
+        LongComparableAggregationUnit aggregationUnit = new LongComparableAggregationUnit(false);
+        aggregationUnit.merge(new long[]{15L, -3L, 100L}, 2);
+        aggregationUnit.merge(10L);
+        aggregationUnit.merge(Collections.singletonList(20L));
+        assertThat(aggregationUnit.getResult(), is(20L));
+    }
+}
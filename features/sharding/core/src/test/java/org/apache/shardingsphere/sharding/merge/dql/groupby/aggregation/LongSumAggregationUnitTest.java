@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LongSumAggregationUnitTest {
+    
+    @Test
+    void assertGetResultWithoutMergedValue() {
+        LongSumAggregationUnit aggregationUnit = new LongSumAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(new long[0], 0);
+        assertThat(aggregationUnit.getResult(), nullValue());
+    }
+    
+    @Test
+    void assertMerge() {
+        LongSumAggregationUnit aggregationUnit = new LongSumAggregationUnit();
+        aggregationUnit.merge(1L);
+        aggregationUnit.merge(new long[]{2L, 3L, 100L}, 2);
+        aggregationUnit.merge(Collections.singletonList(10));
+        aggregationUnit.merge(Collections.singletonList(new BigDecimal("0.5")));
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal("16.5")));
+    }
+    
+    @Test
+    void assertMergeWithOverflow() {
+        LongSumAggregationUnit aggregationUnit = new LongSumAggregationUnit();
+        aggregationUnit.merge(Long.MAX_VALUE);
+        aggregationUnit.merge(new long[]{Long.MAX_VALUE, 2L}, 2);
+        aggregationUnit.merge(Long.MIN_VALUE);
+        assertThat(aggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+}
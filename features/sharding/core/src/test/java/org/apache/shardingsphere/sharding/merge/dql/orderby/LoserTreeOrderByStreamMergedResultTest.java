@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+class LoserTreeOrderByStreamMergedResultTest {
+    
+    @Test
+    void assertMergeWithUnsupportedColumnType() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData(Types.DECIMAL);
+        List<QueryResult> queryResults = Arrays.asList(new RawMemoryQueryResult(metaData, Collections.emptyList()), new RawMemoryQueryResult(metaData, Collections.emptyList()));
+        MergedResult actual = merge(queryResults, OrderDirection.ASC);
+        assertThat(actual, instanceOf(OrderByStreamMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForSomeResultSetsEmpty() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData(Types.BIGINT);
+        List<QueryResult> queryResults = Arrays.asList(
+                new RawMemoryQueryResult(metaData, Arrays.asList(createRow("A", 2L), createRow("a", null))),
+                new RawMemoryQueryResult(metaData, Collections.emptyList()),
+                new RawMemoryQueryResult(metaData, Arrays.asList(createRow("A", 1L), createRow("B", 3), createRow("b", new BigInteger("4")))));
+        MergedResult actual = merge(queryResults, OrderDirection.ASC);
+        assertThat(actual, instanceOf(LoserTreeOrderByStreamMergedResult.class));
+        assertNextRow(actual, "A", 1L);
+        assertNextRow(actual, "A", 2L);
+        assertNextRow(actual, "B", 3);
+        assertNextRow(actual, "a", null);
+        assertNextRow(actual, "b", new BigInteger("4"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForAllResultSetsEmpty() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData(Types.BIGINT);
+        MergedResult actual = merge(Arrays.asList(new RawMemoryQueryResult(metaData, Collections.emptyList()), new RawMemoryQueryResult(metaData, Collections.emptyList())), OrderDirection.ASC);
+        assertThat(actual, instanceOf(LoserTreeOrderByStreamMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForManyResultSetsWithDescendingOrder() throws SQLException {
+        QueryResultMetaData metaData = createQueryResultMetaData(Types.INTEGER);
+        Random random = new Random(7L);
+        List<QueryResult> queryResults = new ArrayList<>(257);
+        List<MemoryQueryResultDataRow> expectedRows = new ArrayList<>();
+        Comparator<MemoryQueryResultDataRow> comparator = Comparator.<MemoryQueryResultDataRow, String>comparing(each -> (String) each.getValue().get(0))
+                .thenComparing(each -> (Integer) each.getValue().get(1)).reversed();
+        for (int i = 0; i < 257; i++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>();
+            for (int j = random.nextInt(8); j > 0; j--) {
+                rows.add(createRow(String.valueOf((char) ('a' + random.nextInt(3))), random.nextInt(100)));
+            }
+            rows.sort(comparator);
+            expectedRows.addAll(rows);
+            queryResults.add(new RawMemoryQueryResult(metaData, rows));
+        }
+        expectedRows.sort(comparator);
+        MergedResult actual = merge(queryResults, OrderDirection.DESC);
+        for (MemoryQueryResultDataRow each : expectedRows) {
+            assertNextRow(actual, each.getValue().get(0), each.getValue().get(1));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private QueryResultMetaData createQueryResultMetaData(final int secondColumnType) {
+        return new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData("tbl", "col1", "col1", Types.VARCHAR, "VARCHAR", 16, 0), new RawQueryResultColumnMetaData("tbl", "col2", "col2", secondColumnType, "", 20, 0)));
+    }
+    
+    private MemoryQueryResultDataRow createRow(final String firstValue, final Object secondValue) {
+        return new MemoryQueryResultDataRow(Arrays.asList(firstValue, secondValue));
+    }
+    
+    private MergedResult merge(final List<QueryResult> queryResults, final OrderDirection orderDirection) throws SQLException {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(10, 13, new IdentifierValue("tbl"))));
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Arrays.asList(
+                new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.LAST), new IndexOrderByItemSegment(0, 0, 2, orderDirection, NullsOrderType.LAST))));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS)),
+                mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new ConfigurationProperties(new Properties()));
+        return resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        ShardingSphereColumn column1 = new ShardingSphereColumn("col1", Types.VARCHAR, false, false, true, true, false, false);
+        ShardingSphereColumn column2 = new ShardingSphereColumn("col2", Types.BIGINT, false, false, false, true, false, false);
+        ShardingSphereTable table = new ShardingSphereTable("tbl", Arrays.asList(column1, column2), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("tbl", table), Collections.emptyMap());
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME,
+                TypedSPILoader.getService(DatabaseType.class, "MySQL"), mock(ResourceMetaData.class), mock(RuleMetaData.class), Collections.singletonMap(DefaultDatabase.LOGIC_NAME, schema));
+    }
+    
+    private void assertNextRow(final MergedResult actual, final Object firstValue, final Object secondValue) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(firstValue));
+        if (null == secondValue) {
+            assertThat(actual.getValue(2, Object.class), nullValue());
+        } else {
+            assertThat(actual.getValue(2, Object.class), is(secondValue));
+        }
+    }
+}
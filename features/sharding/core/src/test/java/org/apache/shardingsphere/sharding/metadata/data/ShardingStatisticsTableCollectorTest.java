@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardingStatisticsTableCollectorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertCollectWithOneQueryForEachStorageUnit() throws SQLException {
+        Connection connection0 = mockConnection(true);
+        Connection connection1 = mockConnection(false);
+        Map<String, StorageUnit> storageUnits = new LinkedHashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit(connection0));
+        storageUnits.put("ds_1", mockStorageUnit(connection1));
+        ShardingSphereDatabase database = mockDatabase(storageUnits);
+        Optional<ShardingSphereTableData> actual = new ShardingStatisticsTableCollector().collect("foo_db", mock(ShardingSphereTable.class), Collections.singletonMap("foo_db", database));
+        assertTrue(actual.isPresent());
+        Collection<List<Object>> actualRows = actual.get().getRows().stream().map(ShardingSphereRowData::getRows).collect(Collectors.toList());
+        assertThat(actualRows.size(), is(4));
+        assertTrue(actualRows.contains(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("10"), new BigDecimal("100"))));
+        assertTrue(actualRows.contains(Arrays.asList(2, "foo_db", "t_order", "ds_0", "t_order_1", BigDecimal.ZERO, BigDecimal.ZERO)));
+        assertTrue(actualRows.contains(Arrays.asList(3, "foo_db", "t_order", "ds_1", "t_order_0", BigDecimal.ZERO, BigDecimal.ZERO)));
+        assertTrue(actualRows.contains(Arrays.asList(4, "foo_db", "t_order", "ds_1", "t_order_1", BigDecimal.ZERO, BigDecimal.ZERO)));
+        verify(connection0, times(1)).prepareStatement(anyString());
+        verify(connection1, times(1)).prepareStatement(anyString());
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final Map<String, StorageUnit> storageUnits) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getProtocolType()).thenReturn(databaseType);
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        ShardingTable shardingTable = mock(ShardingTable.class);
+        when(shardingTable.getLogicTable()).thenReturn("t_order");
+        when(shardingTable.getActualDataNodes()).thenReturn(Arrays.asList(
+                new DataNode("ds_0.t_order_0"), new DataNode("ds_0.t_order_1"), new DataNode("ds_1.t_order_0"), new DataNode("ds_1.t_order_1")));
+        when(shardingRule.getShardingTables()).thenReturn(Collections.singletonMap("t_order", shardingTable));
+        when(result.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(shardingRule));
+        when(result.getResourceMetaData().getStorageUnits()).thenReturn(storageUnits);
+        return result;
+    }
+    
+    private StorageUnit mockStorageUnit(final Connection connection) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class);
+        when(result.getStorageType()).thenReturn(databaseType);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(result.getDataSource()).thenReturn(dataSource);
+        return result;
+    }
+    
+    private Connection mockConnection(final boolean containsTable) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.getCatalog()).thenReturn("foo_db");
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(containsTable, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("T_ORDER_0");
+        when(resultSet.getBigDecimal("TABLE_ROWS")).thenReturn(new BigDecimal("10"));
+        when(resultSet.getBigDecimal("DATA_LENGTH")).thenReturn(new BigDecimal("100"));
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(result.prepareStatement(anyString())).thenReturn(preparedStatement);
+        return result;
+    }
+}
@@ -32,8 +32,9 @@ class YamlShardingCacheConfigurationSwapperTest {
     @Test
     void assertSwapToYamlConfiguration() {
         YamlShardingCacheConfiguration actual = new YamlShardingCacheConfigurationSwapper()
-                .swapToYamlConfiguration(new ShardingCacheConfiguration(100, new ShardingCacheOptionsConfiguration(true, 128, 1024)));
+                .swapToYamlConfiguration(new ShardingCacheConfiguration(100, new ShardingCacheOptionsConfiguration(true, 128, 1024), true));
         assertThat(actual.getAllowedMaxSqlLength(), is(100));
+        assertTrue(actual.isAdaptive());
         YamlShardingCacheOptionsConfiguration actualRouteCache = actual.getRouteCache();
         assertTrue(actualRouteCache.isSoftValues());
         assertThat(actualRouteCache.getInitialCapacity(), is(128));
@@ -49,8 +50,10 @@ class YamlShardingCacheConfigurationSwapperTest {
         yamlConfig.setInitialCapacity(256);
         yamlConfig.setMaximumSize(4096);
         input.setRouteCache(yamlConfig);
+        input.setAdaptive(true);
         ShardingCacheConfiguration actual = new YamlShardingCacheConfigurationSwapper().swapToObject(input);
         assertThat(actual.getAllowedMaxSqlLength(), is(200));
+        assertTrue(actual.isAdaptive());
         ShardingCacheOptionsConfiguration actualOptions = actual.getRouteCache();
         assertTrue(actualOptions.isSoftValues());
         assertThat(actualOptions.getInitialCapacity(), is(256));
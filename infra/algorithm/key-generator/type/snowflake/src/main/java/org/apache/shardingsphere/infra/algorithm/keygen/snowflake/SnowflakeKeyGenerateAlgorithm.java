@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
@@ -31,10 +33,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -47,6 +46,8 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>Last milliseconds, last sequence and sequence offset are kept in one immutable state, so that keys of one request can be reserved as a contiguous sequence range by CAS.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
     
@@ -77,11 +78,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicReference<InstanceContext> instanceContext = new AtomicReference<>();
     
-    private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
-    
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0L, 0L, -1));
     
     private Properties props;
     
@@ -122,55 +119,76 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        long[] result = new long[keyGenerateCount];
+        int generatedCount = 0;
+        while (generatedCount < keyGenerateCount) {
+            generatedCount += reserveKeys(result, generatedCount, keyGenerateCount - generatedCount);
         }
-        return result;
+        return new LongArrayList(result);
     }
     
-    private synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
-        }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    /**
+     * Reserve a contiguous sequence range in one millisecond with CAS, and fill keys of the range.
+     * 
+     * @param keys keys to be filled
+     * @param offset offset of keys to be filled
+     * @param requiredCount required key count
+     * @return reserved key count
+     */
+    private int reserveKeys(final long[] keys, final int offset, final int requiredCount) {
+        while (true) {
+            State lastState = state.get();
+            long lastMillis = lastState.getMillis();
+            long currentMillis = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMillis, currentMillis)) {
+                continue;
+            }
+            long firstSequence;
+            int nextSequenceOffset = lastState.getSequenceOffset();
+            if (lastMillis == currentMillis) {
+                firstSequence = lastState.getSequence() + 1L;
+                if (firstSequence > SEQUENCE_MASK) {
+                    currentMillis = waitUntilNextTime(currentMillis);
+                    firstSequence = 0L;
+                }
+            } else {
+                nextSequenceOffset = vibrateSequenceOffset(nextSequenceOffset);
+                firstSequence = nextSequenceOffset;
+            }
+            int reservedCount = (int) Math.min(requiredCount, SEQUENCE_MASK - firstSequence + 1L);
+            long lastSequence = firstSequence + reservedCount - 1L;
+            if (state.compareAndSet(lastState, new State(currentMillis, lastSequence, nextSequenceOffset))) {
+                long keyPrefix = (currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS | (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+                for (int i = 0; i < reservedCount; i++) {
+                    keys[offset + i] = keyPrefix | (firstSequence + i);
+                }
+                return reservedCount;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMillis, final long currentMillis) {
+        if (lastMillis <= currentMillis) {
             return false;
         }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
         return true;
     }
     
-    private long waitUntilNextTime(final long lastTime) {
+    private long waitUntilNextTime(final long lastMillis) {
         long result = timeService.getCurrentMillis();
-        while (result <= lastTime) {
+        while (result <= lastMillis) {
             result = timeService.getCurrentMillis();
         }
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        if (!sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
-            sequenceOffset.incrementAndGet();
-        }
+    private int vibrateSequenceOffset(final int currentSequenceOffset) {
+        return currentSequenceOffset >= maxVibrationOffset ? 0 : currentSequenceOffset + 1;
     }
     
     private int getWorkerId() {
@@ -186,4 +204,15 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     public boolean isDefault() {
         return true;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class State {
+        
+        private final long millis;
+        
+        private final long sequence;
+        
+        private final int sequenceOffset;
+    }
 }
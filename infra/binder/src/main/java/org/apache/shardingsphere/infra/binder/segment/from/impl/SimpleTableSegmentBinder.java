@@ -31,6 +31,9 @@ import org.apache.shardingsphere.infra.database.postgresql.type.PostgreSQLDataba
 import org.apache.shardingsphere.infra.exception.TableNotFoundException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.NoDatabaseSelectedException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.MissingTableLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.manager.SystemSchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
@@ -147,7 +150,11 @@ public final class SimpleTableSegmentBinder {
         }
         ShardingSpherePreconditions.checkState(statementBinderContext.getMetaData().containsDatabase(databaseName)
                 && statementBinderContext.getMetaData().getDatabase(databaseName).containsSchema(schemaName)
-                && statementBinderContext.getMetaData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName),
+                && containsTable(statementBinderContext.getMetaData(), statementBinderContext.getMetaData().getDatabase(databaseName), schemaName, tableName),
                 () -> new TableNotFoundException(tableName));
     }
+    
+    private static boolean containsTable(final ShardingSphereMetaData metaData, final ShardingSphereDatabase database, final String schemaName, final String tableName) {
+        return database.getSchema(schemaName).containsTable(tableName) || MissingTableLoader.load(database, schemaName, tableName, metaData.getProps());
+    }
 }
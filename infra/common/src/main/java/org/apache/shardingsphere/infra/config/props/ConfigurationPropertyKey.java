@@ -54,16 +54,51 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute query routed to multiple execution groups asynchronously with deadline of each execution group.
+     */
+    KERNEL_EXECUTOR_ASYNC_QUERY_ENABLED("kernel-executor-async-query-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max milliseconds to wait for connections acquired in batch by other queries on same data source, one connection is acquired instead after timeout. Negative value means no timeout.
+     */
+    BATCH_CONNECTIONS_ACQUIRE_TIMEOUT_MILLISECONDS("batch-connections-acquire-timeout-milliseconds", String.valueOf(-1), long.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether revalidate table metadata loaded from persisted snapshot against storage units incrementally in background after startup.
+     */
+    METADATA_SNAPSHOT_REVALIDATION_ENABLED("metadata-snapshot-revalidation-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether load table declared by rules but absent from meta data from storage units on first access.
+     */
+    MISSING_TABLE_LOADING_ENABLED("missing-table-loading-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max estimated bytes of groups held in memory by group by merger, groups beyond it will spill to disk. 0 means no limit.
+     */
+    GROUP_BY_MERGE_MEMORY_LIMIT_BYTES("group-by-merge-memory-limit-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Directory of group by merger spill files, blank means system temporary directory.
+     */
+    GROUP_BY_MERGE_SPILL_DIRECTORY("group-by-merge-spill-directory", "", String.class, false),
+    
+    /**
+     * Whether aggregate select statements with order by, pagination, join or subquery routed to multiple tables of same data source into one statement.
+     */
+    EXTENDED_AGGREGATE_REWRITE_ENABLED("extended-aggregate-rewrite-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -80,16 +115,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Max idle prepared statements cached on each backend connection held by session of ShardingSphere-Proxy. 0 means no cache.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether run commands of each connection on its own virtual thread for ShardingSphere-Proxy, which requires JDK 21+.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Whether normalize literals of text protocol SQL to fingerprint, so that SQL statements which differ only in literals share parsed SQL statement cache.
+     */
+    PROXY_FRONTEND_SQL_FINGERPRINT_ENABLED("proxy-frontend-sql-fingerprint-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy default start port.
      */
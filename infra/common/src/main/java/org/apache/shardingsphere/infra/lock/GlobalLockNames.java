@@ -30,7 +30,9 @@ public enum GlobalLockNames {
     
     PREPARE("prepare_%s"),
     
-    GLOBAL_LOCK("global_clock");
+    GLOBAL_LOCK("global_clock"),
+    
+    METADATA_SNAPSHOT_REVALIDATION("metadata_snapshot_revalidation");
     
     private final String lockName;
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Missing table loader, which loads table declared by rules but absent from schema meta data on first access.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class MissingTableLoader {
+    
+    private static final long MISSED_TABLE_EXPIRE_MILLIS = 60000L;
+    
+    private static final Map<ShardingSphereDatabase, Map<String, Long>> MISSED_TABLES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private static final Collection<MissingTableListener> LISTENERS = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Register missing table listener.
+     *
+     * @param listener missing table listener
+     */
+    public static void register(final MissingTableListener listener) {
+        LISTENERS.add(listener);
+    }
+    
+    /**
+     * Unregister missing table listener.
+     *
+     * @param listener missing table listener
+     */
+    public static void unregister(final MissingTableListener listener) {
+        LISTENERS.remove(listener);
+    }
+    
+    /**
+     * Load missing table from storage units into schema.
+     *
+     * @param database database
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param props configuration properties
+     * @return whether table is contained by schema after loading
+     */
+    public static boolean load(final ShardingSphereDatabase database, final String schemaName, final String tableName, final ConfigurationProperties props) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.MISSING_TABLE_LOADING_ENABLED)
+                || !database.containsSchema(schemaName) || !database.containsDataSource() || !isDeclaredByRules(database, tableName)) {
+            return false;
+        }
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        if (schema.containsTable(tableName)) {
+            return true;
+        }
+        Map<String, Long> missedTables = MISSED_TABLES.computeIfAbsent(database, key -> new ConcurrentHashMap<>());
+        String missedTableKey = String.join(".", schemaName, tableName).toLowerCase();
+        Long expireMillis = missedTables.get(missedTableKey);
+        if (null != expireMillis && expireMillis > System.currentTimeMillis()) {
+            return false;
+        }
+        ShardingSphereTable table = loadTable(database, schemaName, tableName, props);
+        if (null == table) {
+            missedTables.put(missedTableKey, System.currentTimeMillis() + MISSED_TABLE_EXPIRE_MILLIS);
+            return false;
+        }
+        missedTables.remove(missedTableKey);
+        schema.putTable(tableName, table);
+        LISTENERS.forEach(each -> each.onLoaded(database, schemaName, table));
+        return true;
+    }
+    
+    private static boolean isDeclaredByRules(final ShardingSphereDatabase database, final String tableName) {
+        return database.getRuleMetaData().getAttributes(TableMapperRuleAttribute.class).stream().anyMatch(each -> each.getLogicTableMapper().contains(tableName));
+    }
+    
+    private static ShardingSphereTable loadTable(final ShardingSphereDatabase database, final String schemaName, final String tableName, final ConfigurationProperties props) {
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(
+                database.getProtocolType(), database.getResourceMetaData().getStorageUnits(), database.getRuleMetaData().getRules(), props, schemaName);
+        try {
+            return GenericSchemaBuilder.build(Collections.singleton(tableName), material).getOrDefault(schemaName, new ShardingSphereSchema()).getTable(tableName);
+        } catch (final SQLException ex) {
+            log.warn("Load missing table: {} meta data of database: {} schema: {} failed", tableName, database.getName(), schemaName, ex);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableNamesMapper;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(GenericSchemaBuilder.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MissingTableLoaderTest {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(
+            PropertiesBuilder.build(new Property(ConfigurationPropertyKey.MISSING_TABLE_LOADING_ENABLED.getKey(), Boolean.TRUE.toString())));
+    
+    private ShardingSphereDatabase database;
+    
+    private ShardingSphereSchema schema;
+    
+    @BeforeEach
+    void setUp() {
+        database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        schema = new ShardingSphereSchema();
+        when(database.containsSchema("foo_schema")).thenReturn(true);
+        when(database.getSchema("foo_schema")).thenReturn(schema);
+        when(database.containsDataSource()).thenReturn(true);
+        TableNamesMapper logicTableMapper = new TableNamesMapper();
+        logicTableMapper.put("foo_tbl");
+        TableMapperRuleAttribute ruleAttribute = mock(TableMapperRuleAttribute.class);
+        when(ruleAttribute.getLogicTableMapper()).thenReturn(logicTableMapper);
+        when(database.getRuleMetaData().getAttributes(TableMapperRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+    }
+    
+    @Test
+    void assertLoadRuleDeclaredTable() throws SQLException {
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        when(GenericSchemaBuilder.build(any(), any())).thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema(Collections.singletonMap("foo_tbl", table), Collections.emptyMap())));
+        MissingTableListener listener = mock(MissingTableListener.class);
+        MissingTableLoader.register(listener);
+        try {
+            assertTrue(MissingTableLoader.load(database, "foo_schema", "FOO_TBL", props));
+        } finally {
+            MissingTableLoader.unregister(listener);
+        }
+        assertTrue(schema.containsTable("foo_tbl"));
+        verify(listener).onLoaded(database, "foo_schema", table);
+    }
+    
+    @Test
+    void assertLoadWithDisabled() {
+        assertFalse(MissingTableLoader.load(database, "foo_schema", "foo_tbl", new ConfigurationProperties(new Properties())));
+        verify(database, never()).getResourceMetaData();
+    }
+    
+    @Test
+    void assertLoadRuleDeclaredTableAbsentFromStorage() throws SQLException {
+        when(GenericSchemaBuilder.build(any(), any())).thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema()));
+        assertFalse(MissingTableLoader.load(database, "foo_schema", "foo_tbl", props));
+        assertFalse(schema.containsTable("foo_tbl"));
+    }
+    
+    @Test
+    void assertLoadMissedTableWithinExpiration() throws SQLException {
+        when(GenericSchemaBuilder.build(any(), any())).thenReturn(Collections.singletonMap("foo_schema", new ShardingSphereSchema()));
+        assertFalse(MissingTableLoader.load(database, "foo_schema", "foo_tbl", props));
+        assertFalse(MissingTableLoader.load(database, "foo_schema", "FOO_TBL", props));
+        verify(database).getResourceMetaData();
+    }
+    
+    @Test
+    void assertLoadTableNotDeclaredByRules() {
+        assertFalse(MissingTableLoader.load(database, "foo_schema", "bar_tbl", props));
+    }
+    
+    @Test
+    void assertLoadWithoutDataSource() {
+        when(database.containsDataSource()).thenReturn(false);
+        assertFalse(MissingTableLoader.load(database, "foo_schema", "foo_tbl", props));
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLCache;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
@@ -55,6 +56,28 @@ public final class KernelProcessor {
         return result;
     }
     
+    /**
+     * Generate execution context for one parameter set of batch.
+     * 
+     * <p>SQL of route units is rewritten once for the batch, following parameter sets routed to same data nodes only rewrite parameters.</p>
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param connectionContext connection context
+     * @param routeSQLCache rewritten SQL cache of batch
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
+                                                     final ConfigurationProperties props, final ConnectionContext connectionContext, final RouteSQLCache routeSQLCache) {
+        RouteContext routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
+        SQLRewriteResult rewriteResult = new SQLRewriteEntry(database, globalRuleMetaData, props).rewrite(queryContext, routeContext, connectionContext, routeSQLCache);
+        ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
+        logSQL(queryContext, props, result);
+        return result;
+    }
+    
     private RouteContext route(final QueryContext queryContext, final ShardingSphereDatabase database,
                                final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final ConnectionContext connectionContext) {
         return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, globalRuleMetaData, database);
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.acquirer;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Batch connection acquirer.
+ * 
+ * <p>Batches of connections on same data source are acquired one by one in arrival order, so that concurrent batches never hold part of the pool each and wait for each other.
+ * If the batch can not start within timeout, only one connection is acquired, and caller should execute with fewer connections instead of waiting.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchConnectionAcquirer {
+    
+    private static final Map<DataSource, BatchConnectionAcquirer> ACQUIRERS = new MapMaker().weakKeys().makeMap();
+    
+    private final Lock lock = new ReentrantLock(true);
+    
+    /**
+     * Get batch connection acquirer of data source.
+     *
+     * @param dataSource data source
+     * @return batch connection acquirer
+     */
+    public static BatchConnectionAcquirer getInstance(final DataSource dataSource) {
+        return ACQUIRERS.computeIfAbsent(dataSource, unused -> new BatchConnectionAcquirer());
+    }
+    
+    /**
+     * Acquire connections.
+     *
+     * @param connectionSize size of connections to be acquired
+     * @param timeoutMillis max milliseconds to wait for other batches, negative value means waiting until all connections are acquired
+     * @param connectionsCreator connections creator which creates all or nothing
+     * @return acquired connections, only one connection if other batches are not finished within timeout
+     * @throws SQLException SQL exception
+     */
+    public List<Connection> acquire(final int connectionSize, final long timeoutMillis, final ConnectionsCreator connectionsCreator) throws SQLException {
+        if (!tryLock(timeoutMillis)) {
+            return connectionsCreator.create(1);
+        }
+        try {
+            return connectionsCreator.create(connectionSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private boolean tryLock(final long timeoutMillis) {
+        if (timeoutMillis < 0L) {
+            lock.lock();
+            return true;
+        }
+        try {
+            return lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
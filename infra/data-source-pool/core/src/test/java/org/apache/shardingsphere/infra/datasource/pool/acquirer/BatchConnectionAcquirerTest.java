@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.acquirer;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BatchConnectionAcquirerTest {
+    
+    @Test
+    void assertGetInstance() {
+        DataSource dataSource = mock(DataSource.class);
+        assertThat(BatchConnectionAcquirer.getInstance(dataSource), sameInstance(BatchConnectionAcquirer.getInstance(dataSource)));
+    }
+    
+    @Test
+    void assertAcquire() throws SQLException {
+        assertThat(BatchConnectionAcquirer.getInstance(mock(DataSource.class)).acquire(3, 0L, this::createConnections).size(), is(3));
+    }
+    
+    @Test
+    void assertAcquireOneConnectionWhenTimeout() throws SQLException, InterruptedException, ExecutionException, TimeoutException {
+        BatchConnectionAcquirer acquirer = BatchConnectionAcquirer.getInstance(mock(DataSource.class));
+        CountDownLatch acquiring = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        CompletableFuture<List<Connection>> otherBatch = CompletableFuture.supplyAsync(() -> acquireUntil(acquirer, acquiring, finished));
+        acquiring.await();
+        List<Connection> actual = acquirer.acquire(3, 10L, this::createConnections);
+        finished.countDown();
+        assertThat(otherBatch.get(5L, TimeUnit.SECONDS).size(), is(2));
+        assertThat(actual.size(), is(1));
+        assertThat(acquirer.acquire(3, 10L, this::createConnections).size(), is(3));
+    }
+    
+    private List<Connection> acquireUntil(final BatchConnectionAcquirer acquirer, final CountDownLatch acquiring, final CountDownLatch finished) {
+        try {
+            return acquirer.acquire(2, -1L, connectionSize -> {
+                acquiring.countDown();
+                await(finished);
+                return createConnections(connectionSize);
+            });
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    private void await(final CountDownLatch latch) throws SQLException {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private List<Connection> createConnections(final int connectionSize) {
+        List<Connection> result = new ArrayList<>(connectionSize);
+        for (int i = 0; i < connectionSize; i++) {
+            result.add(mock(Connection.class));
+        }
+        return result;
+    }
+}
@@ -27,6 +27,7 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * Dialect database meta data.
@@ -138,4 +139,25 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
     default boolean isSupportGlobalCSN() {
         return false;
     }
+    
+    /**
+     * Is string parameter strictly typed.
+     * 
+     * <p>String parameter bound as strictly typed can not be compared with or assigned to other types implicitly as string literal can.</p>
+     * 
+     * @return strictly typed or not
+     */
+    default boolean isStringParameterStrictlyTyped() {
+        return false;
+    }
+    
+    /**
+     * Is support multiple update and delete statements in one SQL, which report update count of each statement in order.
+     *
+     * @param queryProps query properties of storage unit connection
+     * @return support multiple update and delete statements in one SQL or not
+     */
+    default boolean isSupportMultiStatements(final Properties queryProps) {
+        return false;
+    }
 }
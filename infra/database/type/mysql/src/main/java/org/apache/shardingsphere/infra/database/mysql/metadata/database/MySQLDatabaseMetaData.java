@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
 /**
@@ -93,6 +94,11 @@ public final class MySQLDatabaseMetaData implements DialectDatabaseMetaData {
         return true;
     }
     
+    @Override
+    public boolean isSupportMultiStatements(final Properties queryProps) {
+        return Boolean.parseBoolean(queryProps.getProperty("allowMultiQueries"));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
@@ -23,10 +23,16 @@ import org.apache.shardingsphere.infra.database.core.metadata.database.enums.Quo
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 
+import java.util.Properties;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MySQLDatabaseMetaDataTest {
     
@@ -41,4 +47,14 @@ class MySQLDatabaseMetaDataTest {
     void assertGetDefaultNullsOrderType() {
         assertThat(dialectDatabaseMetaData.getDefaultNullsOrderType(), is(NullsOrderType.FIRST));
     }
+    
+    @Test
+    void assertIsSupportMultiStatementsWithAllowMultiQueries() {
+        assertTrue(dialectDatabaseMetaData.isSupportMultiStatements(PropertiesBuilder.build(new Property("allowMultiQueries", Boolean.TRUE.toString()))));
+    }
+    
+    @Test
+    void assertIsNotSupportMultiStatementsWithoutAllowMultiQueries() {
+        assertFalse(dialectDatabaseMetaData.isSupportMultiStatements(new Properties()));
+    }
 }
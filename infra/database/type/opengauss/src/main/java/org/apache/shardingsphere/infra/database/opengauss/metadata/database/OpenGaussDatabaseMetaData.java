@@ -75,6 +75,11 @@ public final class OpenGaussDatabaseMetaData implements DialectDatabaseMetaData
         return true;
     }
     
+    @Override
+    public boolean isStringParameterStrictlyTyped() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "openGauss";
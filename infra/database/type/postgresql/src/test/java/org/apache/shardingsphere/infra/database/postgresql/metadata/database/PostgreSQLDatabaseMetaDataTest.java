@@ -48,4 +48,9 @@ class PostgreSQLDatabaseMetaDataTest {
     void assertGetDefaultSchema() {
         assertThat(dialectDatabaseMetaData.getDefaultSchema(), is(Optional.of("public")));
     }
+    
+    @Test
+    void assertIsStringParameterStrictlyTyped() {
+        assertTrue(dialectDatabaseMetaData.isStringParameterStrictlyTyped());
+    }
 }
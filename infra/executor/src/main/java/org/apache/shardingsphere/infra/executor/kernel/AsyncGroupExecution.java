@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+
+import java.sql.SQLTimeoutException;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Asynchronous execution of one execution group.
+ *
+ * @param <I> type of input value
+ * @param <O> type of return value
+ */
+final class AsyncGroupExecution<I, O> {
+    
+    private final ExecutionGroup<I> executionGroup;
+    
+    private final ExecutorCallback<I, O> callback;
+    
+    @Getter
+    private final CompletableFuture<Collection<O>> future = new CompletableFuture<>();
+    
+    @Getter
+    private final CompletableFuture<Void> settled = new CompletableFuture<>();
+    
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    
+    private volatile Future<?> task;
+    
+    private volatile Future<?> deadline;
+    
+    AsyncGroupExecution(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+        this.executionGroup = executionGroup;
+        this.callback = callback;
+    }
+    
+    /**
+     * Submit execution group to executor service.
+     *
+     * @param executorService executor service
+     * @param scheduler deadline scheduler
+     * @param processId process ID
+     * @param timeoutMillis timeout milliseconds of execution group, less than or equal to 0 means no deadline
+     */
+    void submit(final ExecutorService executorService, final ScheduledExecutorService scheduler, final String processId, final long timeoutMillis) {
+        scheduleDeadline(scheduler, timeoutMillis);
+        task = executorService.submit(() -> run(false, processId));
+    }
+    
+    /**
+     * Execute execution group on current thread as trunk thread.
+     *
+     * @param scheduler deadline scheduler
+     * @param processId process ID
+     * @param timeoutMillis timeout milliseconds of execution group, less than or equal to 0 means no deadline
+     */
+    void execute(final ScheduledExecutorService scheduler, final String processId, final long timeoutMillis) {
+        scheduleDeadline(scheduler, timeoutMillis);
+        run(true, processId);
+    }
+    
+    private void scheduleDeadline(final ScheduledExecutorService scheduler, final long timeoutMillis) {
+        if (timeoutMillis > 0L && !future.isDone()) {
+            deadline = scheduler.schedule(() -> timeout(timeoutMillis), timeoutMillis, TimeUnit.MILLISECONDS);
+            future.whenComplete((unused, ex) -> cancelDeadline());
+        }
+    }
+    
+    private void run(final boolean isTrunkThread, final String processId) {
+        if (!claimed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!future.isDone()) {
+                future.complete(callback.execute(executionGroup.getInputs(), isTrunkThread, processId));
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            future.completeExceptionally(ex);
+        } finally {
+            synchronized (this) {
+                settled.complete(null);
+            }
+        }
+    }
+    
+    private void timeout(final long timeoutMillis) {
+        if (future.completeExceptionally(new SQLTimeoutException(String.format("Execution group timed out after %d milliseconds.", timeoutMillis)))) {
+            interrupt();
+        }
+    }
+    
+    /**
+     * Cancel execution group, running statements will be cancelled by callback.
+     */
+    void cancel() {
+        if (future.cancel(false)) {
+            interrupt();
+        }
+    }
+    
+    private void interrupt() {
+        if (claimed.compareAndSet(false, true)) {
+            settled.complete(null);
+            Future<?> submittedTask = task;
+            if (null != submittedTask) {
+                submittedTask.cancel(false);
+            }
+            return;
+        }
+        synchronized (this) {
+            if (!settled.isDone()) {
+                callback.cancel(executionGroup.getInputs());
+            }
+        }
+    }
+    
+    private void cancelDeadline() {
+        Future<?> scheduledDeadline = deadline;
+        if (null != scheduledDeadline) {
+            scheduledDeadline.cancel(false);
+        }
+    }
+}
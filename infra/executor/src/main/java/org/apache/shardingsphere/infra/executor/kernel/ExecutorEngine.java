@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
@@ -24,15 +25,22 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 
 /**
  * Executor engine.
@@ -43,8 +51,12 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    @Getter(AccessLevel.NONE)
+    private final ScheduledExecutorService deadlineScheduler;
+    
     private ExecutorEngine(final int executorSize) {
         executorServiceManager = new ExecutorServiceManager(executorSize);
+        deadlineScheduler = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Deadline"));
     }
     
     /**
@@ -132,8 +144,80 @@ public final class ExecutorEngine implements AutoCloseable {
         throw new UnknownSQLException(exception);
     }
     
+    /**
+     * Execute asynchronously.
+     *
+     * <p>First execution group runs on caller thread as trunk thread, other execution groups run on executor service.
+     * Results are collected and passed to consumer in the order of execution groups, so consumer may start on leading groups while following groups are still running.
+     * The returned future completes after every execution group settled, even if it is cancelled, so resources used by execution groups can be released safely after it completes.
+     * It completes exceptionally once any execution group fails or exceeds its deadline, and remaining execution groups are cancelled via {@link ExecutorCallback#cancel(Collection)},
+     * so does cancelling the returned future.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param groupTimeoutMillis timeout milliseconds of each execution group, less than or equal to 0 means no deadline
+     * @param groupResultConsumer consumer of each execution group results in group order, null means no consumer
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback,
+                                                          final long groupTimeoutMillis, final Consumer<Collection<O>> groupResultConsumer) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        List<AsyncGroupExecution<I, O>> groupExecutions = new ArrayList<>(executionGroupContext.getInputGroups().size());
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            groupExecutions.add(new AsyncGroupExecution<>(each, groupExecutions.isEmpty() && null != firstCallback ? firstCallback : callback));
+        }
+        CompletableFuture<List<O>> outcome = new CompletableFuture<>();
+        OrderedGroupResults<O> groupResults = new OrderedGroupResults<>(groupExecutions.size(), groupResultConsumer);
+        for (int i = 0; i < groupExecutions.size(); i++) {
+            int groupIndex = i;
+            groupExecutions.get(i).getFuture().whenComplete((executeResults, ex) -> completeGroup(outcome, groupResults, groupIndex, executeResults, ex));
+        }
+        outcome.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                groupExecutions.forEach(AsyncGroupExecution::cancel);
+            }
+        });
+        CompletableFuture<List<O>> result = new SettledExecutionFuture<>(outcome);
+        CompletableFuture.allOf(groupExecutions.stream().map(AsyncGroupExecution::getSettled).toArray(CompletableFuture[]::new)).thenCompose(unused -> outcome).whenComplete((executeResults, ex) -> {
+            if (null == ex) {
+                result.complete(executeResults);
+            } else {
+                result.completeExceptionally(ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex);
+            }
+        });
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        for (AsyncGroupExecution<I, O> each : groupExecutions.subList(1, groupExecutions.size())) {
+            each.submit(executorServiceManager.getExecutorService(), deadlineScheduler, processId, groupTimeoutMillis);
+        }
+        groupExecutions.get(0).execute(deadlineScheduler, processId, groupTimeoutMillis);
+        return result;
+    }
+    
+    private <O> void completeGroup(final CompletableFuture<List<O>> outcome, final OrderedGroupResults<O> groupResults, final int groupIndex, final Collection<O> executeResults,
+                                   final Throwable ex) {
+        if (null != ex) {
+            outcome.completeExceptionally(ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex);
+            return;
+        }
+        try {
+            if (!outcome.isDone() && groupResults.complete(groupIndex, executeResults)) {
+                outcome.complete(groupResults.getResults());
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException consumerEx) {
+            // CHECKSTYLE:ON
+            outcome.completeExceptionally(consumerEx);
+        }
+    }
+    
     @Override
     public void close() {
+        deadlineScheduler.shutdownNow();
         executorServiceManager.close();
     }
 }
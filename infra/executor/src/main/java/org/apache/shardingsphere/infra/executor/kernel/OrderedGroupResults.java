@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Results of execution groups in group order.
+ *
+ * @param <O> type of return value
+ */
+final class OrderedGroupResults<O> {
+    
+    private final List<Collection<O>> completedGroupResults;
+    
+    private final Consumer<Collection<O>> groupResultConsumer;
+    
+    private final List<O> results = new ArrayList<>();
+    
+    private int nextGroupIndex;
+    
+    OrderedGroupResults(final int groupSize, final Consumer<Collection<O>> groupResultConsumer) {
+        completedGroupResults = new ArrayList<>(groupSize);
+        for (int i = 0; i < groupSize; i++) {
+            completedGroupResults.add(null);
+        }
+        this.groupResultConsumer = groupResultConsumer;
+    }
+    
+    /**
+     * Complete execution group, results of leading completed execution groups are collected and passed to consumer in group order.
+     *
+     * @param groupIndex index of execution group
+     * @param executeResults execute results of execution group
+     * @return whether all execution groups are completed or not
+     */
+    synchronized boolean complete(final int groupIndex, final Collection<O> executeResults) {
+        completedGroupResults.set(groupIndex, executeResults);
+        while (nextGroupIndex < completedGroupResults.size() && null != completedGroupResults.get(nextGroupIndex)) {
+            Collection<O> each = completedGroupResults.set(nextGroupIndex++, null);
+            results.addAll(each);
+            if (null != groupResultConsumer) {
+                groupResultConsumer.accept(each);
+            }
+        }
+        return nextGroupIndex == completedGroupResults.size();
+    }
+    
+    /**
+     * Get results of completed execution groups.
+     *
+     * @return results in group order
+     */
+    synchronized List<O> getResults() {
+        return new ArrayList<>(results);
+    }
+}
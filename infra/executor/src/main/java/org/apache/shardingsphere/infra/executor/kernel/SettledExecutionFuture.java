@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Future of asynchronous execution, which completes only after every execution group settled.
+ *
+ * @param <T> type of result
+ */
+@RequiredArgsConstructor
+final class SettledExecutionFuture<T> extends CompletableFuture<T> {
+    
+    private final CompletableFuture<T> outcome;
+    
+    /**
+     * Cancel execution groups, this future is completed with cancellation after every execution group settled.
+     *
+     * @param mayInterruptIfRunning not used, running execution groups are always cancelled via callback
+     * @return whether execution is cancelled or not
+     */
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        return outcome.cancel(mayInterruptIfRunning);
+    }
+}
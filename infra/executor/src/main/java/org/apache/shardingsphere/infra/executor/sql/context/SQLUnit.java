@@ -41,7 +41,13 @@ public final class SQLUnit {
     
     private final List<RouteMapper> tableRouteMappers;
     
+    private final boolean multiStatements;
+    
     public SQLUnit(final String sql, final List<Object> params) {
         this(sql, params, Collections.emptyList());
     }
+    
+    public SQLUnit(final String sql, final List<Object> params, final List<RouteMapper> tableRouteMappers) {
+        this(sql, params, tableRouteMappers, false);
+    }
 }
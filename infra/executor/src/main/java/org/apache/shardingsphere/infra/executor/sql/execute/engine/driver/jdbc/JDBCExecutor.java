@@ -24,8 +24,11 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * JDBC executor.
@@ -69,4 +72,35 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>Execution groups are executed serially in current thread within distributed transaction, and the returned future is already completed.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param groupTimeoutMillis timeout milliseconds of each execution group, less than or equal to 0 means no deadline
+     * @param groupResultConsumer consumer of each execution group results in group order, null means no consumer
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    public <T> CompletableFuture<List<T>> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> firstCallback,
+                                                       final JDBCExecutorCallback<T> callback, final long groupTimeoutMillis, final Consumer<Collection<T>> groupResultConsumer) {
+        if (!connectionContext.getTransactionContext().isInDistributedTransaction()) {
+            return executorEngine.executeAsync(executionGroupContext, firstCallback, callback, groupTimeoutMillis, groupResultConsumer);
+        }
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        try {
+            List<T> executeResults = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
+            if (null != groupResultConsumer) {
+                groupResultConsumer.accept(executeResults);
+            }
+            result.complete(executeResults);
+        } catch (final SQLException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
 }
@@ -83,6 +83,9 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            if (sqlUnit.isMultiStatements()) {
+                result = mergeMultiStatementsResult(result, jdbcExecutionUnit.getStorageResource());
+            }
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution(jdbcExecutionUnit, processId);
             return result;
@@ -99,7 +102,47 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    @Override
+    public final void cancel(final Collection<JDBCExecutionUnit> executionUnits) {
+        for (JDBCExecutionUnit each : executionUnits) {
+            try {
+                each.getStorageResource().cancel();
+            } catch (final SQLException ignore) {
+            }
+        }
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode, DatabaseType storageType) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
+    
+    /**
+     * Merge result of multi statements SQL unit.
+     * 
+     * <p>Result of first statement is returned by default. Callbacks which need results of following statements should override it,
+     * update counts of following statements can be consumed by {@link #getMultiStatementsUpdateCount(Statement)}.</p>
+     *
+     * @param result result of first statement
+     * @param statement statement
+     * @return merged result
+     * @throws SQLException SQL exception
+     */
+    protected T mergeMultiStatementsResult(final T result, final Statement statement) throws SQLException {
+        return result;
+    }
+    
+    /**
+     * Get total update count of all statements in multi statements SQL unit, results of following statements are consumed.
+     *
+     * @param statement statement
+     * @return total update count
+     * @throws SQLException SQL exception
+     */
+    protected final int getMultiStatementsUpdateCount(final Statement statement) throws SQLException {
+        int result = Math.max(statement.getUpdateCount(), 0);
+        while (statement.getMoreResults() || -1 != statement.getUpdateCount()) {
+            result += Math.max(statement.getUpdateCount(), 0);
+        }
+        return result;
+    }
 }
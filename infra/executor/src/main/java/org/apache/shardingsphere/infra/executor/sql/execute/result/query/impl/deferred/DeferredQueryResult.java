@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.deferred;
+
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Deferred query result, which waits for query result of execution unit executed asynchronously.
+ */
+public final class DeferredQueryResult implements QueryResult {
+    
+    private final CompletableFuture<QueryResult> queryResult = new CompletableFuture<>();
+    
+    /**
+     * Complete with query result.
+     *
+     * @param queryResult query result
+     */
+    public void complete(final QueryResult queryResult) {
+        this.queryResult.complete(queryResult);
+    }
+    
+    /**
+     * Complete exceptionally with failure of execution.
+     *
+     * @param cause cause of failure
+     */
+    public void completeExceptionally(final Throwable cause) {
+        queryResult.completeExceptionally(cause);
+    }
+    
+    /**
+     * Judge whether query result is available or not.
+     *
+     * @return query result is available or not
+     */
+    public boolean isCompleted() {
+        return queryResult.isDone() && !queryResult.isCompletedExceptionally();
+    }
+    
+    private QueryResult getQueryResult() throws SQLException {
+        try {
+            return queryResult.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return getQueryResult().next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return getQueryResult().getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getQueryResult().getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return getQueryResult().getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        return getQueryResult().getCharacterStream(columnIndex);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return getQueryResult().wasNull();
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        try {
+            return getQueryResult().getMetaData();
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    @Override
+    public void close() throws Exception {
+        if (isCompleted()) {
+            queryResult.get().close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.deferred;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Deferred query results, which are filled in order by query results of execution groups executed asynchronously.
+ */
+public final class DeferredQueryResults {
+    
+    private final List<DeferredQueryResult> queryResults;
+    
+    private int nextIndex;
+    
+    public DeferredQueryResults(final int executionUnitSize) {
+        queryResults = new ArrayList<>(executionUnitSize);
+        for (int i = 0; i < executionUnitSize; i++) {
+            queryResults.add(new DeferredQueryResult());
+        }
+    }
+    
+    /**
+     * Get deferred query results.
+     *
+     * @return deferred query results
+     */
+    public List<QueryResult> getQueryResults() {
+        return new ArrayList<>(queryResults);
+    }
+    
+    /**
+     * Fill deferred query results with execute results of execution group.
+     *
+     * @param executeResults execute results of execution group
+     */
+    public synchronized void fill(final Collection<? extends ExecuteResult> executeResults) {
+        for (ExecuteResult each : executeResults) {
+            if (nextIndex < queryResults.size()) {
+                queryResults.get(nextIndex++).complete((QueryResult) each);
+            }
+        }
+    }
+    
+    /**
+     * Bind to future of execution, deferred query results not filled will fail when execution fails or returns less query results.
+     *
+     * @param future future of execution
+     */
+    public void bind(final CompletableFuture<?> future) {
+        future.whenComplete((unused, ex) -> failUnfilled(null == ex ? new SQLException("Query results are less than execution units.") : unwrap(ex)));
+    }
+    
+    private Throwable unwrap(final Throwable ex) {
+        return ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex;
+    }
+    
+    private synchronized void failUnfilled(final Throwable cause) {
+        while (nextIndex < queryResults.size()) {
+            queryResults.get(nextIndex++).completeExceptionally(cause);
+        }
+    }
+    
+    /**
+     * Judge whether first query result is available or not.
+     *
+     * @return first query result is available or not
+     */
+    public boolean isFirstCompleted() {
+        return queryResults.isEmpty() || queryResults.get(0).isCompleted();
+    }
+}
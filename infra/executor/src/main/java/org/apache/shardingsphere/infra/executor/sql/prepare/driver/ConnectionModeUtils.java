@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+/**
+ * Connection mode utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConnectionModeUtils {
+    
+    /**
+     * Get connection mode to create new connections of data source.
+     * 
+     * <p>Connections of memory strictly mode may be acquired one instead of batch, which can not reach connection offset beyond cached connections,
+     * so new connections beyond cached connections are created in connection strictly mode.</p>
+     *
+     * @param connectionOffset connection offset
+     * @param cachedConnectionSize size of cached connections
+     * @param connectionMode connection mode
+     * @return connection mode to create new connections
+     */
+    public static ConnectionMode getNewConnectionMode(final int connectionOffset, final int cachedConnectionSize, final ConnectionMode connectionMode) {
+        return connectionOffset > cachedConnectionSize ? ConnectionMode.CONNECTION_STRICTLY : connectionMode;
+    }
+}
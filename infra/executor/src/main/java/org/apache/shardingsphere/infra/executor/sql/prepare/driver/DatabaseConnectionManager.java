@@ -36,7 +36,7 @@ public interface DatabaseConnectionManager<C> {
      * @param connectionOffset connection offset
      * @param connectionSize connection size
      * @param connectionMode connection mode
-     * @return database connections
+     * @return database connections, may be fewer than connection size if connections of memory strictly mode can not be acquired in batch
      * @throws SQLException SQL exception
      */
     List<C> getConnections(String dataSourceName, int connectionOffset, int connectionSize, ConnectionMode connectionMode) throws SQLException;
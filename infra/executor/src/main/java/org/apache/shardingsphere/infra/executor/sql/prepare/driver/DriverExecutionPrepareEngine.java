@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
 
+import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -33,6 +34,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Driver execution prepare engine.
@@ -85,8 +87,20 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final int connectionOffset, final List<List<ExecutionUnit>> executionUnitGroups,
                                             final ConnectionMode connectionMode) throws SQLException {
-        List<ExecutionGroup<T>> result = new LinkedList<>();
         List<C> connections = databaseConnectionManager.getConnections(dataSourceName, connectionOffset, executionUnitGroups.size(), connectionMode);
+        return connections.size() < executionUnitGroups.size()
+                ? createExecutionGroups(dataSourceName, regroup(executionUnitGroups, connections.size()), connections, ConnectionMode.CONNECTION_STRICTLY)
+                : createExecutionGroups(dataSourceName, executionUnitGroups, connections, connectionMode);
+    }
+    
+    private List<List<ExecutionUnit>> regroup(final List<List<ExecutionUnit>> executionUnitGroups, final int connectionSize) {
+        List<ExecutionUnit> executionUnits = executionUnitGroups.stream().flatMap(Collection::stream).collect(Collectors.toList());
+        return Lists.partition(executionUnits, executionUnits.size() / connectionSize + (0 == executionUnits.size() % connectionSize ? 0 : 1));
+    }
+    
+    private List<ExecutionGroup<T>> createExecutionGroups(final String dataSourceName, final List<List<ExecutionUnit>> executionUnitGroups, final List<C> connections,
+                                                          final ConnectionMode connectionMode) throws SQLException {
+        List<ExecutionGroup<T>> result = new LinkedList<>();
         int count = 0;
         for (List<ExecutionUnit> each : executionUnitGroups) {
             result.add(createExecutionGroup(dataSourceName, each, connections.get(count++), connectionMode));
@@ -17,22 +17,36 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +102,136 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, 0L, null).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertExecuteAsyncWithEmptyInputGroups() throws InterruptedException, ExecutionException {
+        ExecutionGroupContext<Object> emptyContext = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        assertTrue(executorEngine.executeAsync(emptyContext, null, callback, 0L, null).get().isEmpty());
+    }
+    
+    @Test
+    void assertExecuteAsyncWithFirstGroupOnCallerThread() throws InterruptedException, ExecutionException {
+        Thread callerThread = Thread.currentThread();
+        List<Boolean> trunkThreadFlags = Collections.synchronizedList(new LinkedList<>());
+        ExecutorCallback<Object, String> threadCheckingCallback = (inputs, isTrunkThread, processId) -> {
+            trunkThreadFlags.add(isTrunkThread == (Thread.currentThread() == callerThread));
+            return Collections.singletonList(isTrunkThread ? "trunk" : "branch");
+        };
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, threadCheckingCallback, threadCheckingCallback, 0L, null).get();
+        assertThat(actual, is(Arrays.asList("trunk", "branch")));
+        assertThat(trunkThreadFlags, is(Arrays.asList(true, true)));
+    }
+    
+    @Test
+    void assertExecuteAsyncInGroupOrder() throws InterruptedException, ExecutionException {
+        executionGroupContext = createMockedExecutionGroups(3, 1);
+        List<ExecutionGroup<Object>> executionGroups = new ArrayList<>(executionGroupContext.getInputGroups());
+        CountDownLatch lastGroupFinished = new CountDownLatch(1);
+        List<String> consumedResults = Collections.synchronizedList(new LinkedList<>());
+        ExecutorCallback<Object, String> groupOrderCallback = (inputs, isTrunkThread, processId) -> {
+            if (inputs == executionGroups.get(2).getInputs()) {
+                lastGroupFinished.countDown();
+                return Collections.singletonList("third");
+            }
+            awaitQuietly(lastGroupFinished);
+            return Collections.singletonList(inputs == executionGroups.get(0).getInputs() ? "first" : "second");
+        };
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, null, groupOrderCallback, 0L, consumedResults::addAll).get();
+        assertThat(actual, is(Arrays.asList("first", "second", "third")));
+        assertThat(consumedResults, is(Arrays.asList("first", "second", "third")));
+    }
+    
+    @Test
+    void assertExecuteAsyncFailure() {
+        ExecutorCallback<Object, String> failureCallback = (inputs, isTrunkThread, processId) -> {
+            throw new SQLException("test");
+        };
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.executeAsync(executionGroupContext, null, failureCallback, 0L, null).get());
+        assertThat(actual.getCause(), instanceOf(SQLException.class));
+        assertThat(actual.getCause().getMessage(), is("test"));
+    }
+    
+    @Test
+    void assertExecuteAsyncFailureWaitsForCancelledGroups() throws InterruptedException {
+        BlockingCallback blockingCallback = new BlockingCallback(false);
+        ExecutorCallback<Object, String> failureCallback = (inputs, isTrunkThread, processId) -> {
+            awaitQuietly(blockingCallback.started);
+            throw new SQLException("test");
+        };
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, failureCallback, blockingCallback, 0L, null);
+        ExecutionException actualException = assertThrows(ExecutionException.class, actual::get);
+        assertThat(actualException.getCause().getMessage(), is("test"));
+        assertThat(blockingCallback.cancelled.getCount(), is(0L));
+        assertThat(blockingCallback.finished.getCount(), is(0L));
+    }
+    
+    @Test
+    void assertExecuteAsyncTimeout() throws InterruptedException {
+        BlockingCallback blockingCallback = new BlockingCallback(true);
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> executorEngine.executeAsync(executionGroupContext, null, blockingCallback, 50L, null).get());
+        assertThat(actual.getCause(), instanceOf(SQLTimeoutException.class));
+        assertTrue(blockingCallback.cancelled.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void assertCancelExecuteAsync() throws InterruptedException {
+        BlockingCallback blockingCallback = new BlockingCallback(false);
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, null, blockingCallback, 0L, null);
+        assertTrue(blockingCallback.started.await(5L, TimeUnit.SECONDS));
+        assertTrue(actual.cancel(true));
+        assertThrows(CancellationException.class, actual::get);
+        assertTrue(actual.isCancelled());
+        assertThat(blockingCallback.cancelled.getCount(), is(0L));
+        assertThat(blockingCallback.finished.getCount(), is(0L));
+    }
+    
+    @Test
+    void assertCloseShutsDownDeadlineScheduler() {
+        ExecutorEngine closedExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(1);
+        closedExecutorEngine.close();
+        assertThrows(RejectedExecutionException.class, () -> closedExecutorEngine.executeAsync(executionGroupContext, null, callback, 50L, null));
+    }
+    
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ignore) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BlockingCallback implements ExecutorCallback<Object, String> {
+        
+        private final boolean trunkThreadBlocked;
+        
+        private final CountDownLatch started = new CountDownLatch(1);
+        
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+        
+        private final CountDownLatch finished = new CountDownLatch(1);
+        
+        @Override
+        public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final String processId) {
+            if (isTrunkThread && !trunkThreadBlocked) {
+                return Collections.singletonList("trunk");
+            }
+            started.countDown();
+            awaitQuietly(cancelled);
+            finished.countDown();
+            return Collections.singletonList("blocked");
+        }
+        
+        @Override
+        public void cancel(final Collection<Object> inputs) {
+            cancelled.countDown();
+        }
+    }
 }
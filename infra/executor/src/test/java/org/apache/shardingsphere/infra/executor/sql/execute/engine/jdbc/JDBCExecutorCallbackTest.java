@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaDa
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,6 +49,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -108,4 +111,84 @@ class JDBCExecutorCallbackTest {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         assertThrows(SQLException.class, () -> callback.execute(units, true, processId));
     }
+    
+    @Test
+    void assertCancel() throws SQLException {
+        JDBCExecutorCallback<Object> callback =
+                new JDBCExecutorCallback<Object>(TypedSPILoader.getService(DatabaseType.class, "MySQL"), mock(ResourceMetaData.class), mock(SelectStatement.class), true) {
+                    
+                    @Override
+                    protected Object executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) {
+                        return null;
+                    }
+                    
+                    @Override
+                    protected Optional<Object> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                        return Optional.empty();
+                    }
+                };
+        callback.cancel(units);
+        verify(preparedStatement).cancel();
+    }
+    
+    @Test
+    void assertExecuteWithMultiStatements() throws SQLException {
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getStorageUnits().get("ds").getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        when(preparedStatement.getUpdateCount()).thenReturn(2, 3, 3, -1);
+        when(preparedStatement.getMoreResults()).thenReturn(false);
+        JDBCExecutorCallback<Integer> callback =
+                new JDBCExecutorCallback<Integer>(TypedSPILoader.getService(DatabaseType.class, "MySQL"), resourceMetaData, mock(UpdateStatement.class), true) {
+                    
+                    @Override
+                    protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) {
+                        return 2;
+                    }
+                    
+                    @Override
+                    protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                        return Optional.empty();
+                    }
+                    
+                    @Override
+                    protected Integer mergeMultiStatementsResult(final Integer result, final Statement statement) throws SQLException {
+                        return getMultiStatementsUpdateCount(statement);
+                    }
+                };
+        Collection<JDBCExecutionUnit> multiStatementsUnits = Collections.singletonList(new JDBCExecutionUnit(new ExecutionUnit("ds",
+                new SQLUnit("UPDATE t_order_0 SET status = 'OK'; UPDATE t_order_1 SET status = 'OK'", Collections.emptyList(), Collections.emptyList(), true)),
+                ConnectionMode.CONNECTION_STRICTLY, preparedStatement));
+        String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
+        assertThat(callback.execute(multiStatementsUnits, true, processId), is(Collections.singletonList(5)));
+    }
+    
+    @Test
+    void assertExecuteWithMultiStatementsAndStatementClosed() throws SQLException {
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getStorageUnits().get("ds").getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        JDBCExecutorCallback<int[]> callback =
+                new JDBCExecutorCallback<int[]>(TypedSPILoader.getService(DatabaseType.class, "MySQL"), resourceMetaData, mock(UpdateStatement.class), true) {
+                    
+                    @Override
+                    protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
+                        statement.close();
+                        return new int[]{1, 1};
+                    }
+                    
+                    @SuppressWarnings("OptionalContainsCollection")
+                    @Override
+                    protected Optional<int[]> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                        return Optional.empty();
+                    }
+                };
+        Collection<JDBCExecutionUnit> multiStatementsUnits = Collections.singletonList(new JDBCExecutionUnit(new ExecutionUnit("ds",
+                new SQLUnit("UPDATE t_order_0 SET status = 'OK'; UPDATE t_order_1 SET status = 'OK'", Collections.emptyList(), Collections.emptyList(), true)),
+                ConnectionMode.CONNECTION_STRICTLY, preparedStatement));
+        String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
+        Collection<int[]> actual = callback.execute(multiStatementsUnits, true, processId);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(new int[]{1, 1}));
+        verify(preparedStatement, never()).getMoreResults();
+        verify(preparedStatement, never()).getUpdateCount();
+    }
 }
@@ -30,13 +30,18 @@ import org.junit.jupiter.api.Test;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JDBCExecutorTest {
@@ -77,4 +82,25 @@ class JDBCExecutorTest {
         List<?> actual = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.emptyList(), reportContext), null);
         assertThat(actual, is(Collections.emptyList()));
     }
+    
+    @Test
+    void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.executeAsync(any(), any(), any(), anyLong(), any())).thenReturn(CompletableFuture.completedFuture(Collections.singletonList("test")));
+        List<?> actual = new JDBCExecutor(executorEngine, new ConnectionContext()).executeAsync(context, null, null, 100L, null).get();
+        assertThat(actual, is(Collections.singletonList("test")));
+        verify(executorEngine).executeAsync(eq(context), any(), any(), eq(100L), any());
+    }
+    
+    @Test
+    void assertExecuteAsyncInDistributedTransaction() throws SQLException, InterruptedException, ExecutionException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.execute(any(), any(), any(), eq(true))).thenReturn(Collections.singletonList("test"));
+        ConnectionContext connectionContext = new ConnectionContext();
+        connectionContext.getTransactionContext().beginTransaction("XA");
+        List<?> actual = new JDBCExecutor(executorEngine, connectionContext).executeAsync(context, null, null, 0L, null).get();
+        assertThat(actual, is(Collections.singletonList("test")));
+    }
 }
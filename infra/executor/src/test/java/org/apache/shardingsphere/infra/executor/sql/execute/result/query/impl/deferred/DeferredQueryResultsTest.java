@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.deferred;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DeferredQueryResultsTest {
+    
+    @Test
+    void assertFillInOrder() throws SQLException {
+        DeferredQueryResults deferredQueryResults = new DeferredQueryResults(3);
+        List<QueryResult> actual = deferredQueryResults.getQueryResults();
+        assertFalse(deferredQueryResults.isFirstCompleted());
+        QueryResult firstQueryResult = mock(QueryResult.class);
+        when(firstQueryResult.next()).thenReturn(true);
+        deferredQueryResults.fill(Collections.singletonList(firstQueryResult));
+        assertTrue(deferredQueryResults.isFirstCompleted());
+        assertTrue(actual.get(0).next());
+        QueryResult secondQueryResult = mock(QueryResult.class);
+        when(secondQueryResult.getValue(1, Object.class)).thenReturn("foo");
+        deferredQueryResults.fill(Arrays.asList(secondQueryResult, mock(QueryResult.class)));
+        assertThat(actual.get(1).getValue(1, Object.class), is("foo"));
+        assertFalse(actual.get(2).next());
+    }
+    
+    @Test
+    void assertBindToFailedExecution() {
+        DeferredQueryResults deferredQueryResults = new DeferredQueryResults(2);
+        deferredQueryResults.fill(Collections.singletonList(mock(QueryResult.class)));
+        CompletableFuture<List<QueryResult>> future = new CompletableFuture<>();
+        deferredQueryResults.bind(future);
+        future.completeExceptionally(new SQLException("test"));
+        SQLException actual = assertThrows(SQLException.class, () -> deferredQueryResults.getQueryResults().get(1).next());
+        assertThat(actual.getMessage(), is("test"));
+    }
+    
+    @Test
+    void assertBindToExecutionWithLessQueryResults() {
+        DeferredQueryResults deferredQueryResults = new DeferredQueryResults(2);
+        CompletableFuture<List<QueryResult>> future = new CompletableFuture<>();
+        deferredQueryResults.bind(future);
+        deferredQueryResults.fill(Collections.singletonList(mock(QueryResult.class)));
+        future.complete(Collections.emptyList());
+        assertThrows(SQLException.class, () -> deferredQueryResults.getQueryResults().get(1).next());
+    }
+}
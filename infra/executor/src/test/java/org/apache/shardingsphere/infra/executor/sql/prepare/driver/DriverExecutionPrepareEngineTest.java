@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DriverExecutionPrepareEngineTest {
+    
+    @Test
+    void assertPrepareWhenFewerConnectionsAcquired() throws SQLException {
+        DatabaseConnectionManager<Connection> databaseConnectionManager = mock(DatabaseConnectionManager.class);
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        when(databaseConnectionManager.getConnections("ds_0", 0, 3, ConnectionMode.MEMORY_STRICTLY)).thenReturn(Arrays.asList(connection0, connection1));
+        ExecutorJDBCStatementManager statementManager = mock(ExecutorJDBCStatementManager.class);
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getStorageType()).thenReturn(mock(DatabaseType.class));
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(JDBCDriverType.STATEMENT, 3, databaseConnectionManager,
+                statementManager, new StatementOption(false), Collections.emptyList(), Collections.singletonMap("ds_0", storageUnit));
+        List<ExecutionUnit> executionUnits = Arrays.asList(createExecutionUnit("SELECT 1"), createExecutionUnit("SELECT 2"), createExecutionUnit("SELECT 3"));
+        ExecutionGroupContext<JDBCExecutionUnit> actual = prepareEngine.prepare(mock(RouteContext.class), executionUnits, new ExecutionGroupReportContext("foo_id", "foo_db", null));
+        assertThat(actual.getInputGroups().size(), is(2));
+        Iterator<ExecutionGroup<JDBCExecutionUnit>> groups = actual.getInputGroups().iterator();
+        assertExecutionGroup(groups.next(), Arrays.asList(executionUnits.get(0), executionUnits.get(1)));
+        assertExecutionGroup(groups.next(), Collections.singletonList(executionUnits.get(2)));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String sql) {
+        return new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.emptyList()));
+    }
+    
+    private void assertExecutionGroup(final ExecutionGroup<JDBCExecutionUnit> actual, final List<ExecutionUnit> expectedExecutionUnits) {
+        assertThat(actual.getInputs().size(), is(expectedExecutionUnits.size()));
+        for (int i = 0; i < expectedExecutionUnits.size(); i++) {
+            assertThat(actual.getInputs().get(i).getExecutionUnit(), is(expectedExecutionUnits.get(i)));
+            assertThat(actual.getInputs().get(i).getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL fingerprint normalizer.
+ * 
+ * <p>
+ * Scans DML text once and replaces string and number literals with parameter markers, so statements which differ only in literal values share one fingerprint.
+ * Literals whose replacement would change the statement semantics (projections, positional ORDER BY and GROUP BY items, typed literals, type arguments, JSON paths, GROUP_CONCAT separators) are kept,
+ * and statements which can not be proven safe by the scanner (comments, escapes, existing parameter markers, multi statements, window functions, file exports) are not normalized.
+ * </p>
+ */
+public final class SQLFingerprintNormalizer {
+    
+    private static final char PARAMETER_MARKER = '?';
+    
+    private static final Collection<String> NORMALIZABLE_STATEMENT_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE", "REPLACE"));
+    
+    private static final Collection<String> UNSUPPORTED_KEYWORDS = new HashSet<>(Arrays.asList("OVER", "WINDOW", "OUTFILE", "DUMPFILE"));
+    
+    private static final Collection<String> PROJECTION_END_KEYWORDS = new HashSet<>(Arrays.asList("FROM", "WHERE", "GROUP", "ORDER", "HAVING", "LIMIT", "UNION", "EXCEPT", "INTERSECT", "FOR"));
+    
+    private static final Collection<String> BY_CLAUSE_END_KEYWORDS = new HashSet<>(Arrays.asList("HAVING", "LIMIT", "OFFSET", "FETCH", "UNION", "EXCEPT", "INTERSECT", "FOR", "LOCK"));
+    
+    private static final Collection<String> LITERAL_PREFIX_KEYWORDS = new HashSet<>(
+            Arrays.asList("DATE", "TIME", "TIMESTAMP", "INTERVAL", "ESCAPE", "COLLATE", "BINARY", "AS", "FIRST", "NEXT", "SEPARATOR"));
+    
+    private static final Collection<String> TYPE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "CHAR", "NCHAR", "VARCHAR", "NVARCHAR", "BINARY", "VARBINARY", "DECIMAL", "NUMERIC", "DEC", "FLOAT", "DOUBLE", "REAL", "BIT", "TIME", "DATETIME", "TIMESTAMP"));
+    
+    private final String sql;
+    
+    private final boolean stringLiteralNormalized;
+    
+    private final StringBuilder parameterizedSQL;
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private final BitSet projectionDepths = new BitSet();
+    
+    private final BitSet typeArgumentDepths = new BitSet();
+    
+    private int index;
+    
+    private int depth;
+    
+    private int byClauseDepth = -1;
+    
+    private TokenType lastTokenType = TokenType.NONE;
+    
+    private String lastWord = "";
+    
+    private char lastSymbol;
+    
+    private SQLFingerprintNormalizer(final String sql, final boolean stringLiteralNormalized) {
+        this.sql = sql;
+        this.stringLiteralNormalized = stringLiteralNormalized;
+        parameterizedSQL = new StringBuilder(sql.length());
+    }
+    
+    /**
+     * Normalize SQL to fingerprint.
+     *
+     * @param sql SQL to be normalized
+     * @return SQL fingerprint, empty if SQL can not be normalized safely
+     */
+    public static Optional<SQLFingerprint> normalize(final String sql) {
+        return normalize(sql, true);
+    }
+    
+    /**
+     * Normalize SQL to fingerprint.
+     *
+     * @param sql SQL to be normalized
+     * @param stringLiteralNormalized whether to replace string literals with parameter markers, string literals are kept if false
+     * @return SQL fingerprint, empty if SQL can not be normalized safely
+     */
+    public static Optional<SQLFingerprint> normalize(final String sql, final boolean stringLiteralNormalized) {
+        return new SQLFingerprintNormalizer(sql, stringLiteralNormalized).normalize();
+    }
+    
+    private Optional<SQLFingerprint> normalize() {
+        if (!isNormalizableStatement()) {
+            return Optional.empty();
+        }
+        while (index < sql.length()) {
+            if (!scanNextToken()) {
+                return Optional.empty();
+            }
+        }
+        return 0 == depth ? Optional.of(new SQLFingerprint(parameterizedSQL.toString(), parameters)) : Optional.empty();
+    }
+    
+    private boolean isNormalizableStatement() {
+        int start = 0;
+        while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || '(' == sql.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return NORMALIZABLE_STATEMENT_KEYWORDS.contains(sql.substring(start, end).toUpperCase());
+    }
+    
+    private boolean scanNextToken() {
+        char current = sql.charAt(index);
+        if (Character.isWhitespace(current)) {
+            parameterizedSQL.append(current);
+            index++;
+            return true;
+        }
+        if ('\'' == current) {
+            return scanString();
+        }
+        if ('"' == current || '`' == current) {
+            return scanQuotedIdentifier(current);
+        }
+        if (isDigit(current) || '.' == current && isDigit(charAt(index + 1)) && TokenType.WORD != lastTokenType) {
+            return scanNumber(index);
+        }
+        if ('-' == current && isDigit(charAt(index + 1)) && TokenType.SYMBOL == lastTokenType && ')' != lastSymbol) {
+            return scanNumber(index + 1);
+        }
+        if (isIdentifierStart(current)) {
+            return scanWord();
+        }
+        return scanSymbol(current);
+    }
+    
+    private boolean scanString() {
+        if (TokenType.VALUE == lastTokenType || index > 0 && (isIdentifierPart(sql.charAt(index - 1)) || '&' == sql.charAt(index - 1))) {
+            return false;
+        }
+        StringBuilder value = new StringBuilder();
+        int position = index + 1;
+        while (position < sql.length()) {
+            char each = sql.charAt(position);
+            if ('\\' == each) {
+                return false;
+            }
+            if ('\'' == each) {
+                if ('\'' != charAt(position + 1)) {
+                    appendStringLiteral(position + 1, value.toString());
+                    return true;
+                }
+                position++;
+            }
+            value.append(each);
+            position++;
+        }
+        return false;
+    }
+    
+    private boolean scanQuotedIdentifier(final char quote) {
+        int position = index + 1;
+        while (position < sql.length()) {
+            char each = sql.charAt(position);
+            if ('\\' == each) {
+                return false;
+            }
+            if (quote == each) {
+                if (quote != charAt(position + 1)) {
+                    parameterizedSQL.append(sql, index, position + 1);
+                    index = position + 1;
+                    lastTokenType = TokenType.WORD;
+                    lastWord = "";
+                    return true;
+                }
+                position++;
+            }
+            position++;
+        }
+        return false;
+    }
+    
+    private boolean scanNumber(final int digitStartIndex) {
+        int position = digitStartIndex;
+        while (isDigit(charAt(position))) {
+            position++;
+        }
+        if ('.' == charAt(position)) {
+            position++;
+            while (isDigit(charAt(position))) {
+                position++;
+            }
+        }
+        if (isIdentifierPart(charAt(position)) || '.' == charAt(position)) {
+            return false;
+        }
+        Number value = new NumberLiteralValue(sql.substring(index, position)).getValue();
+        if (value instanceof BigInteger) {
+            parameterizedSQL.append(sql, index, position);
+            index = position;
+            lastTokenType = TokenType.VALUE;
+            return true;
+        }
+        appendLiteral(position, value);
+        return true;
+    }
+    
+    private void appendStringLiteral(final int literalStopIndex, final String value) {
+        if (stringLiteralNormalized) {
+            appendLiteral(literalStopIndex, value);
+        } else {
+            parameterizedSQL.append(sql, index, literalStopIndex);
+            index = literalStopIndex;
+            lastTokenType = TokenType.VALUE;
+        }
+    }
+    
+    private void appendLiteral(final int literalStopIndex, final Object value) {
+        if (isLiteralKept()) {
+            parameterizedSQL.append(sql, index, literalStopIndex);
+        } else {
+            parameterizedSQL.append(PARAMETER_MARKER);
+            parameters.add(value);
+        }
+        index = literalStopIndex;
+        lastTokenType = TokenType.VALUE;
+    }
+    
+    private boolean isLiteralKept() {
+        if (projectionDepths.previousSetBit(depth) >= 0 || typeArgumentDepths.get(depth)) {
+            return true;
+        }
+        if (TokenType.WORD == lastTokenType) {
+            return LITERAL_PREFIX_KEYWORDS.contains(lastWord) || byClauseDepth == depth && "BY".equals(lastWord);
+        }
+        if (TokenType.SYMBOL == lastTokenType && '>' == lastSymbol) {
+            return isAfterJSONPathOperator();
+        }
+        return byClauseDepth == depth && TokenType.SYMBOL == lastTokenType && ',' == lastSymbol;
+    }
+    
+    private boolean isAfterJSONPathOperator() {
+        int position = parameterizedSQL.length() - 1;
+        while (Character.isWhitespace(parameterizedSQL.charAt(position))) {
+            position--;
+        }
+        if (position > 0 && '>' == parameterizedSQL.charAt(position - 1)) {
+            position--;
+        }
+        return position > 0 && '-' == parameterizedSQL.charAt(position - 1);
+    }
+    
+    private boolean scanWord() {
+        int start = index;
+        while (index < sql.length() && isIdentifierPart(sql.charAt(index))) {
+            index++;
+        }
+        parameterizedSQL.append(sql, start, index);
+        String keyword = sql.substring(start, index).toUpperCase();
+        if (UNSUPPORTED_KEYWORDS.contains(keyword)) {
+            return false;
+        }
+        if ("SELECT".equals(keyword)) {
+            projectionDepths.set(depth);
+        } else if (PROJECTION_END_KEYWORDS.contains(keyword)) {
+            projectionDepths.clear(depth);
+        }
+        if ("BY".equals(keyword)) {
+            byClauseDepth = depth;
+        } else if (BY_CLAUSE_END_KEYWORDS.contains(keyword) && byClauseDepth == depth) {
+            byClauseDepth = -1;
+        }
+        lastTokenType = TokenType.WORD;
+        lastWord = keyword;
+        return true;
+    }
+    
+    private boolean scanSymbol(final char symbol) {
+        switch (symbol) {
+            case '?':
+            case '$':
+            case ';':
+            case '#':
+            case '\\':
+            case '{':
+            case '}':
+                return false;
+            case '-':
+                if ('-' == charAt(index + 1)) {
+                    return false;
+                }
+                break;
+            case '/':
+                if ('*' == charAt(index + 1)) {
+                    return false;
+                }
+                break;
+            case '(':
+                typeArgumentDepths.set(depth + 1, TokenType.WORD == lastTokenType && TYPE_KEYWORDS.contains(lastWord));
+                depth++;
+                break;
+            case ')':
+                if (0 == depth) {
+                    return false;
+                }
+                projectionDepths.clear(depth);
+                typeArgumentDepths.clear(depth);
+                if (byClauseDepth == depth) {
+                    byClauseDepth = -1;
+                }
+                depth--;
+                break;
+            default:
+                break;
+        }
+        parameterizedSQL.append(symbol);
+        index++;
+        lastTokenType = TokenType.SYMBOL;
+        lastSymbol = symbol;
+        return true;
+    }
+    
+    private char charAt(final int position) {
+        return position < sql.length() ? sql.charAt(position) : 0;
+    }
+    
+    private boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+    
+    private boolean isIdentifierStart(final char character) {
+        return Character.isLetter(character) || '_' == character;
+    }
+    
+    private boolean isIdentifierPart(final char character) {
+        return Character.isLetterOrDigit(character) || '_' == character;
+    }
+    
+    private enum TokenType {
+        
+        NONE, WORD, VALUE, SYMBOL
+    }
+}
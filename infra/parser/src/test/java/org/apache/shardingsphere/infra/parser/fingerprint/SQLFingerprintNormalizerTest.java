@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFingerprintNormalizerTest {
+    
+    @Test
+    void assertNormalizeSelect() {
+        Optional<SQLFingerprint> actual = SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 10 AND status = 'it''s' AND amount > -1.5 LIMIT 5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterizedSQL(), is("SELECT * FROM t_order WHERE order_id = ? AND status = ? AND amount > ? LIMIT ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(10, "it's", new BigDecimal("-1.5"), 5)));
+    }
+    
+    @Test
+    void assertNormalizeWithoutStringLiterals() {
+        Optional<SQLFingerprint> actual = SQLFingerprintNormalizer.normalize("INSERT INTO t_order (order_id, create_time, status) VALUES (1, '2024-01-01', 'it''s')", false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterizedSQL(), is("INSERT INTO t_order (order_id, create_time, status) VALUES (?, '2024-01-01', 'it''s')"));
+        assertThat(actual.get().getParameters(), is(Collections.singletonList(1)));
+    }
+    
+    @Test
+    void assertNormalizeSameFingerprintForDifferentLiterals() {
+        assertThat(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE order_id IN (1, 2)").get().getParameterizedSQL(),
+                is(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE order_id IN (3, 4000000000)").get().getParameterizedSQL()));
+    }
+    
+    @Test
+    void assertNormalizeInsert() {
+        Optional<SQLFingerprint> actual = SQLFingerprintNormalizer.normalize("INSERT INTO t_order (order_id, status) VALUES (1, 'init'), (2, 'paid')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterizedSQL(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(1, "init", 2, "paid")));
+    }
+    
+    @Test
+    void assertNormalizeKeepsSemanticLiterals() {
+        Optional<SQLFingerprint> actual = SQLFingerprintNormalizer.normalize(
+                "SELECT 1, CAST(amount AS DECIMAL(10, 2)) AS 'a' FROM t_order WHERE order_id = (SELECT 2 FROM t_user WHERE user_id = 3) GROUP BY 1 ORDER BY 2 DESC, 1 LIMIT 10, 20");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterizedSQL(),
+                is("SELECT 1, CAST(amount AS DECIMAL(10, 2)) AS 'a' FROM t_order WHERE order_id = (SELECT 2 FROM t_user WHERE user_id = ?) GROUP BY 1 ORDER BY 2 DESC, 1 LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(3, 10, 20)));
+    }
+    
+    @Test
+    void assertNormalizeKeepsTypedLiterals() {
+        Optional<SQLFingerprint> actual = SQLFingerprintNormalizer.normalize("UPDATE t_order SET status = 'paid' WHERE create_date > DATE '2024-01-01' AND `status` <> \"x\"");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterizedSQL(), is("UPDATE t_order SET status = ? WHERE create_date > DATE '2024-01-01' AND `status` <> \"x\""));
+        assertThat(actual.get().getParameters(), is(Collections.singletonList("paid")));
+    }
+    
+    @Test
+    void assertNormalizeKeepsJSONPathLiterals() {
+        Optional<SQLFingerprint> actual = SQLFingerprintNormalizer.normalize("SELECT order_id FROM t_order WHERE attrs->'$.status' = 'paid' AND attrs ->> '$.id' = 1 AND items->0 > 2");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterizedSQL(), is("SELECT order_id FROM t_order WHERE attrs->'$.status' = ? AND attrs ->> '$.id' = ? AND items->0 > ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.asList("paid", 1, 2)));
+    }
+    
+    @Test
+    void assertNormalizeKeepsSeparatorLiteral() {
+        Optional<SQLFingerprint> actual = SQLFingerprintNormalizer.normalize("SELECT user_id FROM t_order GROUP BY user_id HAVING GROUP_CONCAT(status SEPARATOR '|') = 'init|paid'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterizedSQL(), is("SELECT user_id FROM t_order GROUP BY user_id HAVING GROUP_CONCAT(status SEPARATOR '|') = ?"));
+        assertThat(actual.get().getParameters(), is(Collections.singletonList("init|paid")));
+    }
+    
+    @Test
+    void assertNotNormalize() {
+        assertFalse(SQLFingerprintNormalizer.normalize("SHOW TABLES").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE order_id = ?").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE order_id = $1").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order /* hint */ WHERE order_id = 1").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE status = X'0A'").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 0x1F").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("DELETE FROM t_order WHERE order_id = 1; DELETE FROM t_order WHERE order_id = 2").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT ROW_NUMBER() OVER (ORDER BY order_id) FROM t_order WHERE order_id = 1").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE status = 'unterminated").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 1 INTO OUTFILE '/tmp/t_order.csv'").isPresent());
+        assertFalse(SQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 1 INTO DUMPFILE '/tmp/t_order.dump'").isPresent());
+    }
+}
@@ -18,6 +18,10 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -25,6 +29,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLCache;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -34,8 +39,10 @@ import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -73,14 +80,60 @@ public final class SQLRewriteEntry {
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
         return routeContext.getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, queryContext)
-                : new RouteSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, routeContext, queryContext);
+                : new RouteSQLRewriteEngine(rule, database, globalRuleMetaData, props).rewrite(sqlRewriteContext, routeContext, queryContext);
+    }
+    
+    /**
+     * Rewrite one parameter set of batch.
+     * 
+     * <p>SQL of route units is rewritten once and reused by following parameter sets routed to same data nodes, only parameters are rewritten for them.
+     * SQL depending on parameter set, such as select with pagination or insert with generated keys written as literals, is rewritten for each parameter set.</p>
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @param connectionContext connection context
+     * @param routeSQLCache rewritten SQL cache of batch
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext, final RouteSQLCache routeSQLCache) {
+        if (routeContext.getRouteUnits().isEmpty() || !isRouteSQLCacheable(queryContext.getSqlStatementContext())) {
+            return rewrite(queryContext, routeContext, connectionContext);
+        }
+        SQLRewriteContext sqlRewriteContext = createDecoratedSQLRewriteContext(queryContext, routeContext, connectionContext);
+        SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
+        return new RouteSQLRewriteEngine(rule, database, globalRuleMetaData, props).rewrite(sqlRewriteContext, routeContext, queryContext, routeSQLCache);
+    }
+    
+    private boolean isRouteSQLCacheable(final SQLStatementContext sqlStatementContext) {
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            return false;
+        }
+        return !(sqlStatementContext instanceof InsertStatementContext) || !isContainsGeneratedKeyLiteral((InsertStatementContext) sqlStatementContext);
+    }
+    
+    private boolean isContainsGeneratedKeyLiteral(final InsertStatementContext insertStatementContext) {
+        Optional<GeneratedKeyContext> generatedKeyContext = insertStatementContext.getGeneratedKeyContext();
+        if (!generatedKeyContext.isPresent() || generatedKeyContext.get().getGeneratedValues().isEmpty()) {
+            return false;
+        }
+        for (List<Object> each : insertStatementContext.getGroupedParameters()) {
+            if (each.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private SQLRewriteContext createSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext) {
+        SQLRewriteContext result = createDecoratedSQLRewriteContext(queryContext, routeContext, connectionContext);
+        result.generateSQLTokens();
+        return result;
+    }
+    
+    private SQLRewriteContext createDecoratedSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext) {
         HintValueContext hintValueContext = queryContext.getHintValueContext();
         SQLRewriteContext result = new SQLRewriteContext(database, queryContext.getSqlStatementContext(), queryContext.getSql(), queryContext.getParameters(), connectionContext, hintValueContext);
         decorate(decorators, result, routeContext, hintValueContext);
-        result.generateSQLTokens();
         return result;
     }
     
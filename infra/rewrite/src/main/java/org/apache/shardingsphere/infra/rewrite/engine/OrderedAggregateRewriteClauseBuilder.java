@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.DerivedProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ShorthandProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.TextOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outer clause builder of ordered aggregate rewrite.
+ * 
+ * <p>Ordered or paginated select statements of route units in same data source are aggregated as parenthesized members of one UNION ALL statement.
+ * The outer clause sorts the union by column ordinals of order by items and limits it with revised row count,
+ * so that result of the data source is still one sorted stream for order by and pagination merge.</p>
+ */
+@RequiredArgsConstructor
+public final class OrderedAggregateRewriteClauseBuilder {
+    
+    private static final Collection<String> MYSQL_TYPES = Arrays.asList("MySQL", "MariaDB");
+    
+    private static final Collection<String> POSTGRESQL_TYPES = Arrays.asList("PostgreSQL", "openGauss");
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final DatabaseType storageType;
+    
+    /**
+     * Build outer clause.
+     *
+     * @return outer clause, empty if select statement can not be aggregated with ordering
+     */
+    public Optional<String> build() {
+        if (!isSupportedStorageType(MYSQL_TYPES) && !isSupportedStorageType(POSTGRESQL_TYPES)) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder();
+        if (!selectStatementContext.getOrderByContext().getItems().isEmpty()) {
+            Optional<String> orderByClause = buildOrderByClause();
+            if (!orderByClause.isPresent()) {
+                return Optional.empty();
+            }
+            result.append(orderByClause.get());
+        }
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (paginationContext.isHasPagination() && paginationContext.getRowCountSegment().isPresent()) {
+            result.append(" LIMIT ").append(paginationContext.getRevisedRowCount(selectStatementContext));
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private boolean isSupportedStorageType(final Collection<String> types) {
+        return types.contains(storageType.getType()) || storageType.getTrunkDatabaseType().map(optional -> types.contains(optional.getType())).orElse(false);
+    }
+    
+    private Optional<String> buildOrderByClause() {
+        List<Projection> projections = getProjectionsInRewrittenOrder();
+        if (projections.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<String> orderByItems = new ArrayList<>(selectStatementContext.getOrderByContext().getItems().size());
+        for (OrderByItem each : selectStatementContext.getOrderByContext().getItems()) {
+            Optional<Integer> ordinal = findOrdinal(projections, each.getSegment());
+            Optional<String> nullsOrder = getNullsOrder(each.getSegment());
+            if (!ordinal.isPresent() || !nullsOrder.isPresent()) {
+                return Optional.empty();
+            }
+            orderByItems.add(ordinal.get() + " " + each.getSegment().getOrderDirection().name() + nullsOrder.get());
+        }
+        return Optional.of(" ORDER BY " + String.join(", ", orderByItems));
+    }
+    
+    private List<Projection> getProjectionsInRewrittenOrder() {
+        List<Projection> result = new ArrayList<>(selectStatementContext.getProjectionsContext().getProjections().size());
+        List<Projection> derivedProjections = new ArrayList<>();
+        for (Projection each : selectStatementContext.getProjectionsContext().getProjections()) {
+            if (each instanceof ShorthandProjection) {
+                return new ArrayList<>();
+            }
+            if (each instanceof DerivedProjection) {
+                derivedProjections.add(each);
+                continue;
+            }
+            result.add(each);
+            if (each instanceof AggregationProjection) {
+                derivedProjections.addAll(((AggregationProjection) each).getDerivedAggregationProjections());
+            }
+        }
+        result.addAll(derivedProjections);
+        return result;
+    }
+    
+    private Optional<Integer> findOrdinal(final List<Projection> projections, final OrderByItemSegment orderByItemSegment) {
+        if (orderByItemSegment instanceof IndexOrderByItemSegment) {
+            int columnIndex = ((IndexOrderByItemSegment) orderByItemSegment).getColumnIndex();
+            return columnIndex > 0 && columnIndex <= projections.size() ? Optional.of(columnIndex) : Optional.empty();
+        }
+        if (!(orderByItemSegment instanceof TextOrderByItemSegment)) {
+            return Optional.empty();
+        }
+        String text = SQLUtils.getExactlyValue(((TextOrderByItemSegment) orderByItemSegment).getText());
+        int ordinal = 1;
+        for (Projection each : projections) {
+            if (isSameProjection(each, text)) {
+                return Optional.of(ordinal);
+            }
+            ordinal++;
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isSameProjection(final Projection projection, final String text) {
+        if (text.equalsIgnoreCase(projection.getAlias().map(IdentifierValue::getValue).orElse(null))) {
+            return true;
+        }
+        if (SQLUtils.getExactlyExpression(text).equalsIgnoreCase(SQLUtils.getExactlyExpression(SQLUtils.getExactlyValue(projection.getExpression())))) {
+            return true;
+        }
+        return projection instanceof ColumnProjection && !text.contains(".") && text.equalsIgnoreCase(((ColumnProjection) projection).getName().getValue());
+    }
+    
+    private Optional<String> getNullsOrder(final OrderByItemSegment orderByItemSegment) {
+        NullsOrderType nullsOrderType = orderByItemSegment.getNullsOrderType(storageType);
+        if (isSupportedStorageType(POSTGRESQL_TYPES)) {
+            return Optional.of(" NULLS " + nullsOrderType.name());
+        }
+        NullsOrderType defaultNullsOrderType = new DatabaseTypeRegistry(storageType).getDialectDatabaseMetaData().getDefaultNullsOrderType();
+        NullsOrderType expectedNullsOrderType = OrderDirection.ASC == orderByItemSegment.getOrderDirection() ? defaultNullsOrderType : defaultNullsOrderType.getReversedOrderType();
+        return expectedNullsOrderType == nullsOrderType ? Optional.of("") : Optional.empty();
+    }
+}
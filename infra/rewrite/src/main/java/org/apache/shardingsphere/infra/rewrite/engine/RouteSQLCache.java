@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rewritten SQL cache of route units for parameter sets of one batch.
+ * 
+ * <p>Rewritten SQL of route unit only depends on statement and data nodes routed to, so parameter sets of same batch routed to same data nodes share it.</p>
+ */
+public final class RouteSQLCache {
+    
+    private final Map<CacheKey, String> routeSQLs = new HashMap<>();
+    
+    /**
+     * Find rewritten SQL.
+     *
+     * @param routeUnit route unit
+     * @param originalDataNodes original data nodes of route context
+     * @return rewritten SQL
+     */
+    public Optional<String> find(final RouteUnit routeUnit, final Collection<Collection<DataNode>> originalDataNodes) {
+        return Optional.ofNullable(routeSQLs.get(new CacheKey(routeUnit, originalDataNodes)));
+    }
+    
+    /**
+     * Put rewritten SQL.
+     *
+     * @param routeUnit route unit
+     * @param originalDataNodes original data nodes of route context
+     * @param sql rewritten SQL
+     */
+    public void put(final RouteUnit routeUnit, final Collection<Collection<DataNode>> originalDataNodes, final String sql) {
+        routeSQLs.put(new CacheKey(routeUnit, originalDataNodes), sql);
+    }
+    
+    /**
+     * Clear.
+     */
+    public void clear() {
+        routeSQLs.clear();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final RouteUnit routeUnit;
+        
+        private final Collection<Collection<DataNode>> originalDataNodes;
+    }
+}
@@ -19,8 +19,13 @@ package org.apache.shardingsphere.infra.rewrite.engine;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.DeleteStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
@@ -46,6 +51,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Route SQL rewrite engine.
@@ -59,6 +65,8 @@ public final class RouteSQLRewriteEngine {
     
     private final RuleMetaData globalRuleMetaData;
     
+    private final ConfigurationProperties props;
+    
     /**
      * Rewrite SQL and parameters.
      *
@@ -71,8 +79,17 @@ public final class RouteSQLRewriteEngine {
         Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
+            if (isNeedMultiStatementsRewrite(sqlRewriteContext, routeUnits, entry.getKey())) {
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createMultiStatementsSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                continue;
+            }
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits, ""));
+                continue;
+            }
+            Optional<String> extendedAggregateOuterClause = findExtendedAggregateOuterClause(sqlRewriteContext.getSqlStatementContext(), routeUnits, entry.getKey());
+            if (extendedAggregateOuterClause.isPresent()) {
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits, extendedAggregateOuterClause.get()));
             } else {
                 addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
             }
@@ -80,19 +97,65 @@ public final class RouteSQLRewriteEngine {
         return new RouteSQLRewriteResult(translate(queryContext, sqlRewriteUnits));
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    /**
+     * Rewrite SQL and parameters of one parameter set in batch.
+     * 
+     * <p>SQL tokens of rewrite context are generated only when SQL of any route unit is absent in cache, otherwise only parameters are rewritten.</p>
+     *
+     * @param sqlRewriteContext SQL rewrite context without SQL tokens generated
+     * @param routeContext route context
+     * @param queryContext query context
+     * @param routeSQLCache rewritten SQL cache of batch
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final QueryContext queryContext, final RouteSQLCache routeSQLCache) {
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (Collection<RouteUnit> routeUnits : aggregateRouteUnitGroups(routeContext.getRouteUnits()).values()) {
+            for (RouteUnit each : routeUnits) {
+                String sql = getRouteSQL(sqlRewriteContext, routeContext, each, routeSQLCache);
+                sqlRewriteUnits.put(each, new SQLRewriteUnit(sql, getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            }
+        }
+        return new RouteSQLRewriteResult(translate(queryContext, sqlRewriteUnits));
+    }
+    
+    private String getRouteSQL(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final RouteUnit routeUnit, final RouteSQLCache routeSQLCache) {
+        Optional<String> cachedSQL = routeSQLCache.find(routeUnit, routeContext.getOriginalDataNodes());
+        if (cachedSQL.isPresent()) {
+            return cachedSQL.get();
+        }
+        if (sqlRewriteContext.getSqlTokens().isEmpty()) {
+            sqlRewriteContext.generateSQLTokens();
+        }
+        String result = new RouteSQLBuilder(sqlRewriteContext, routeUnit).toSQL();
+        routeSQLCache.put(routeUnit, routeContext.getOriginalDataNodes(), result);
+        return result;
+    }
+    
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits, final String outerClause) {
         Collection<String> sql = new LinkedList<>();
         List<Object> params = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
-            sql.add(SQLUtils.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
+            String routeSQL = SQLUtils.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL());
+            sql.add(outerClause.isEmpty() ? routeSQL : "(" + routeSQL + ")");
             if (containsDollarMarker && !params.isEmpty()) {
                 continue;
             }
             params.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
         }
-        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), params);
+        return new SQLRewriteUnit(String.join(" UNION ALL ", sql) + outerClause, params);
+    }
+    
+    private SQLRewriteUnit createMultiStatementsSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+        Collection<String> sql = new LinkedList<>();
+        List<Object> params = new LinkedList<>();
+        for (RouteUnit each : routeUnits) {
+            sql.add(SQLUtils.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
+            params.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+        }
+        return new SQLRewriteUnit(String.join("; ", sql), params, true);
     }
     
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
@@ -115,6 +178,34 @@ public final class RouteSQLRewriteEngine {
         return needAggregateRewrite;
     }
     
+    private boolean isNeedMultiStatementsRewrite(final SQLRewriteContext sqlRewriteContext, final Collection<RouteUnit> routeUnits, final String dataSourceName) {
+        SQLStatementContext sqlStatementContext = sqlRewriteContext.getSqlStatementContext();
+        if (!(sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext)
+                || routeUnits.size() == 1 || !props.<Boolean>getValue(ConfigurationPropertyKey.EXTENDED_AGGREGATE_REWRITE_ENABLED)) {
+            return false;
+        }
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(dataSourceName);
+        return new DatabaseTypeRegistry(storageUnit.getStorageType()).getDialectDatabaseMetaData().isSupportMultiStatements(storageUnit.getConnectionProperties().getQueryProperties());
+    }
+    
+    private Optional<String> findExtendedAggregateOuterClause(final SQLStatementContext sqlStatementContext, final Collection<RouteUnit> routeUnits, final String dataSourceName) {
+        if (!(sqlStatementContext instanceof SelectStatementContext) || routeUnits.size() == 1 || !props.<Boolean>getValue(ConfigurationPropertyKey.EXTENDED_AGGREGATE_REWRITE_ENABLED)) {
+            return Optional.empty();
+        }
+        SelectStatementContext statementContext = (SelectStatementContext) sqlStatementContext;
+        if (statementContext.isContainsCombine() || SelectStatementHandler.getLockSegment(statementContext.getSqlStatement()).isPresent()) {
+            return Optional.empty();
+        }
+        boolean containsOrderByLimitClause = !statementContext.getOrderByContext().getItems().isEmpty() || statementContext.getPaginationContext().isHasPagination();
+        Optional<String> result = containsOrderByLimitClause
+                ? new OrderedAggregateRewriteClauseBuilder(statementContext, database.getResourceMetaData().getStorageUnits().get(dataSourceName).getStorageType()).build()
+                : Optional.of("");
+        if (result.isPresent()) {
+            statementContext.setNeedAggregateRewrite(true);
+        }
+        return result;
+    }
+    
     private Map<String, Collection<RouteUnit>> aggregateRouteUnitGroups(final Collection<RouteUnit> routeUnits) {
         Map<String, Collection<RouteUnit>> result = new LinkedHashMap<>(routeUnits.size(), 1F);
         for (RouteUnit each : routeUnits) {
@@ -164,7 +255,7 @@ public final class RouteSQLRewriteEngine {
         for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
             DatabaseType storageType = storageUnits.get(entry.getKey().getDataSourceMapper().getActualName()).getStorageType();
             SQLTranslatorContext sqlTranslatorContext = translatorRule.translate(entry.getValue().getSql(), entry.getValue().getParameters(), queryContext, storageType, database, globalRuleMetaData);
-            SQLRewriteUnit sqlRewriteUnit = new SQLRewriteUnit(sqlTranslatorContext.getSql(), sqlTranslatorContext.getParameters());
+            SQLRewriteUnit sqlRewriteUnit = new SQLRewriteUnit(sqlTranslatorContext.getSql(), sqlTranslatorContext.getParameters(), entry.getValue().isMultiStatements());
             result.put(entry.getKey(), sqlRewriteUnit);
         }
         return result;
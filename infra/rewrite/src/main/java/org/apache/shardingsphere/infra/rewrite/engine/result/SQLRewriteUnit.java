@@ -32,4 +32,10 @@ public final class SQLRewriteUnit {
     private final String sql;
     
     private final List<Object> parameters;
+    
+    private final boolean multiStatements;
+    
+    public SQLRewriteUnit(final String sql, final List<Object> params) {
+        this(sql, params, false);
+    }
 }
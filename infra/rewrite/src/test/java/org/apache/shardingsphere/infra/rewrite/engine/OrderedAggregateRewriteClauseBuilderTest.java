@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ShorthandProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderedAggregateRewriteClauseBuilderTest {
+    
+    @Test
+    void assertBuildWithOrderByAndPagination() {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.getOrderByContext().getItems()).thenReturn(Arrays.asList(
+                new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("status")), OrderDirection.DESC, NullsOrderType.LAST)),
+                new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST))));
+        when(selectStatementContext.getPaginationContext().isHasPagination()).thenReturn(true);
+        when(selectStatementContext.getPaginationContext().getRowCountSegment()).thenReturn(Optional.of(new NumberLiteralLimitValueSegment(0, 0, 10L)));
+        when(selectStatementContext.getPaginationContext().getRevisedRowCount(selectStatementContext)).thenReturn(20L);
+        Optional<String> actual = new OrderedAggregateRewriteClauseBuilder(selectStatementContext, mockDatabaseType("PostgreSQL")).build();
+        assertThat(actual, is(Optional.of(" ORDER BY 2 DESC NULLS LAST, 1 ASC NULLS FIRST LIMIT 20")));
+    }
+    
+    @Test
+    void assertBuildWithUnknownOrderByItem() {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.getOrderByContext().getItems()).thenReturn(Collections.singletonList(
+                new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("user_id")), OrderDirection.ASC, NullsOrderType.FIRST))));
+        assertFalse(new OrderedAggregateRewriteClauseBuilder(selectStatementContext, mockDatabaseType("PostgreSQL")).build().isPresent());
+    }
+    
+    @Test
+    void assertBuildWithShorthandProjection() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getProjections()).thenReturn(Collections.singletonList(new ShorthandProjection(null, Collections.emptyList())));
+        when(selectStatementContext.getOrderByContext().getItems())
+                .thenReturn(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST))));
+        assertFalse(new OrderedAggregateRewriteClauseBuilder(selectStatementContext, mockDatabaseType("PostgreSQL")).build().isPresent());
+    }
+    
+    @Test
+    void assertBuildWithUnsupportedStorageType() {
+        assertFalse(new OrderedAggregateRewriteClauseBuilder(mockSelectStatementContext(), mockDatabaseType("FIXTURE")).build().isPresent());
+    }
+    
+    private SelectStatementContext mockSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getProjectionsContext().getProjections()).thenReturn(Arrays.asList(new ColumnProjection("o", "order_id", null, null), new ColumnProjection("o", "status", null, null)));
+        return result;
+    }
+    
+    private DatabaseType mockDatabaseType(final String type) {
+        DatabaseType result = mock(DatabaseType.class);
+        when(result.getType()).thenReturn(type);
+        when(result.getTrunkDatabaseType()).thenReturn(Optional.empty());
+        return result;
+    }
+}
@@ -20,7 +20,10 @@ package org.apache.shardingsphere.infra.rewrite.engine;
 import org.apache.shardingsphere.infra.binder.context.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -31,11 +34,13 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
 import org.junit.jupiter.api.Test;
@@ -43,9 +48,12 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -65,13 +73,41 @@ class RouteSQLRewriteEngineTest {
         routeContext.getRouteUnits().add(routeUnit);
         QueryContext queryContext = mock(QueryContext.class);
         when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(
-                new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class)).rewrite(sqlRewriteContext, routeContext, queryContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(new Properties())).rewrite(sqlRewriteContext, routeContext, queryContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
     }
     
+    @Test
+    void assertRewriteWithRouteSQLCache() {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        ShardingSphereDatabase database = mockDatabase(databaseType);
+        CommonSQLStatementContext sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(databaseType);
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        RouteSQLRewriteEngine engine = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(new Properties()));
+        RouteSQLCache routeSQLCache = new RouteSQLCache();
+        SQLRewriteContext firstSQLRewriteContext = new SQLRewriteContext(database, sqlStatementContext, "DELETE FROM tbl WHERE id = ?", Collections.singletonList(1),
+                mock(ConnectionContext.class), new HintValueContext());
+        RouteSQLRewriteResult actualFirst = engine.rewrite(firstSQLRewriteContext, routeContext, queryContext, routeSQLCache);
+        assertThat(actualFirst.getSqlRewriteUnits().get(routeUnit).getSql(), is("DELETE FROM tbl WHERE id = ?"));
+        assertThat(routeSQLCache.find(routeUnit, routeContext.getOriginalDataNodes()), is(Optional.of("DELETE FROM tbl WHERE id = ?")));
+        routeSQLCache.put(routeUnit, routeContext.getOriginalDataNodes(), "DELETE FROM tbl_0 WHERE id = ?");
+        SQLRewriteContext secondSQLRewriteContext = new SQLRewriteContext(database, sqlStatementContext, "DELETE FROM tbl WHERE id = ?", Collections.singletonList(2),
+                mock(ConnectionContext.class), new HintValueContext());
+        RouteSQLRewriteResult actualSecond = engine.rewrite(secondSQLRewriteContext, routeContext, queryContext, routeSQLCache);
+        assertThat(actualSecond.getSqlRewriteUnits().get(routeUnit).getSql(), is("DELETE FROM tbl_0 WHERE id = ?"));
+        assertThat(actualSecond.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(2)));
+        assertTrue(secondSQLRewriteContext.getSqlTokens().isEmpty());
+    }
+    
     private ShardingSphereDatabase mockDatabase(final DatabaseType databaseType) {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         when(result.getProtocolType()).thenReturn(databaseType);
@@ -98,13 +134,98 @@ class RouteSQLRewriteEngineTest {
         routeContext.getRouteUnits().add(secondRouteUnit);
         QueryContext queryContext = mock(QueryContext.class);
         when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(
-                new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class)).rewrite(sqlRewriteContext, routeContext, queryContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(new Properties())).rewrite(sqlRewriteContext, routeContext, queryContext);
+        assertThat(actual.getSqlRewriteUnits().size(), is(1));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("SELECT ? UNION ALL SELECT ?"));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.asList(1, 1)));
+    }
+    
+    @Test
+    void assertRewriteWithExtendedAggregateRewriteForJoinQuery() {
+        SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(statementContext.isContainsJoinQuery()).thenReturn(true);
+        when(statementContext.getOrderByContext().getItems()).thenReturn(Collections.emptyList());
+        when(statementContext.getPaginationContext().isHasPagination()).thenReturn(false);
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(statementContext.getDatabaseType()).thenReturn(databaseType);
+        ShardingSphereDatabase database = mockDatabase(databaseType);
+        RouteContext routeContext = new RouteContext();
+        RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        routeContext.getRouteUnits().add(firstRouteUnit);
+        routeContext.getRouteUnits().add(secondRouteUnit);
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database, statementContext, "SELECT ?", Collections.singletonList(1), mock(ConnectionContext.class), new HintValueContext());
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.EXTENDED_AGGREGATE_REWRITE_ENABLED.getKey(), Boolean.TRUE.toString());
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(props)).rewrite(sqlRewriteContext, routeContext, queryContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("SELECT ? UNION ALL SELECT ?"));
         assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.asList(1, 1)));
     }
     
+    @Test
+    void assertRewriteWithoutExtendedAggregateRewriteForJoinQuery() {
+        SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(statementContext.isContainsJoinQuery()).thenReturn(true);
+        when(statementContext.getOrderByContext().getItems()).thenReturn(Collections.emptyList());
+        when(statementContext.getPaginationContext().isHasPagination()).thenReturn(false);
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(statementContext.getDatabaseType()).thenReturn(databaseType);
+        ShardingSphereDatabase database = mockDatabase(databaseType);
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database, statementContext, "SELECT ?", Collections.singletonList(1), mock(ConnectionContext.class), new HintValueContext());
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1"))));
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(new Properties())).rewrite(sqlRewriteContext, routeContext, queryContext);
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+    }
+    
+    @Test
+    void assertRewriteWithMultiStatementsForUpdate() {
+        RouteSQLRewriteResult actual = rewriteUpdateWithTwoRouteUnits(true);
+        assertThat(actual.getSqlRewriteUnits().size(), is(1));
+        SQLRewriteUnit actualUnit = actual.getSqlRewriteUnits().values().iterator().next();
+        assertThat(actualUnit.getSql(), is("UPDATE tbl SET col = ?; UPDATE tbl SET col = ?"));
+        assertThat(actualUnit.getParameters(), is(Arrays.asList(1, 1)));
+        assertTrue(actualUnit.isMultiStatements());
+    }
+    
+    @Test
+    void assertRewriteWithoutMultiStatementsForUpdate() {
+        RouteSQLRewriteResult actual = rewriteUpdateWithTwoRouteUnits(false);
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertFalse(actual.getSqlRewriteUnits().values().iterator().next().isMultiStatements());
+    }
+    
+    private RouteSQLRewriteResult rewriteUpdateWithTwoRouteUnits(final boolean allowMultiQueries) {
+        UpdateStatementContext statementContext = mock(UpdateStatementContext.class, RETURNS_DEEP_STUBS);
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        when(statementContext.getDatabaseType()).thenReturn(databaseType);
+        ShardingSphereDatabase database = mockDatabase(databaseType);
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get("ds_0");
+        Properties queryProps = new Properties();
+        queryProps.setProperty("allowMultiQueries", String.valueOf(allowMultiQueries));
+        when(storageUnit.getConnectionProperties().getQueryProperties()).thenReturn(queryProps);
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1"))));
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.EXTENDED_AGGREGATE_REWRITE_ENABLED.getKey(), Boolean.TRUE.toString());
+        SQLRewriteContext sqlRewriteContext =
+                new SQLRewriteContext(database, statementContext, "UPDATE tbl SET col = ?", Collections.singletonList(1), mock(ConnectionContext.class), new HintValueContext());
+        return new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(props)).rewrite(sqlRewriteContext, routeContext, queryContext);
+    }
+    
     @Test
     void assertRewriteWithGroupedParameterBuilderForBroadcast() {
         InsertStatementContext statementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
@@ -122,8 +243,8 @@ class RouteSQLRewriteEngineTest {
         routeContext.getRouteUnits().add(routeUnit);
         QueryContext queryContext = mock(QueryContext.class);
         when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(
-                new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class)).rewrite(sqlRewriteContext, routeContext, queryContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(new Properties())).rewrite(sqlRewriteContext, routeContext, queryContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
@@ -148,8 +269,8 @@ class RouteSQLRewriteEngineTest {
         routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds.tbl_0")));
         QueryContext queryContext = mock(QueryContext.class);
         when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(
-                new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class)).rewrite(sqlRewriteContext, routeContext, queryContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(new Properties())).rewrite(sqlRewriteContext, routeContext, queryContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
@@ -173,8 +294,8 @@ class RouteSQLRewriteEngineTest {
         routeContext.getOriginalDataNodes().add(Collections.emptyList());
         QueryContext queryContext = mock(QueryContext.class);
         when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(
-                new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class)).rewrite(sqlRewriteContext, routeContext, queryContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(new Properties())).rewrite(sqlRewriteContext, routeContext, queryContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
@@ -198,8 +319,8 @@ class RouteSQLRewriteEngineTest {
         routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_1.tbl_1")));
         QueryContext queryContext = mock(QueryContext.class);
         when(queryContext.getSqlStatementContext()).thenReturn(statementContext);
-        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(
-                new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class)).rewrite(sqlRewriteContext, routeContext, queryContext);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()), database, mock(RuleMetaData.class),
+                new ConfigurationProperties(new Properties())).rewrite(sqlRewriteContext, routeContext, queryContext);
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertTrue(actual.getSqlRewriteUnits().get(routeUnit).getParameters().isEmpty());
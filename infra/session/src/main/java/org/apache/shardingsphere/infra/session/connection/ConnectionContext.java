@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.infra.session.connection.consistency.ReadYourWritesConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.cursor.CursorConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.datasource.UsedDataSourceProvider;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
@@ -41,6 +42,8 @@ public final class ConnectionContext implements AutoCloseable {
     
     private final TransactionConnectionContext transactionContext = new TransactionConnectionContext();
     
+    private final ReadYourWritesConnectionContext readYourWritesContext = new ReadYourWritesConnectionContext();
+    
     @Getter(AccessLevel.NONE)
     private final UsedDataSourceProvider usedDataSourceProvider;
     
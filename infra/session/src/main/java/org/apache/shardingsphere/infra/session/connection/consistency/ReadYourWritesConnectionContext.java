@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.consistency;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read your writes connection context.
+ * 
+ * <p>It outlives transactions of connection, because writes must be visible to reads after they are committed.</p>
+ */
+@Getter
+public final class ReadYourWritesConnectionContext {
+    
+    private final Collection<String> pendingGroupNames = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, ReplicationPosition> writtenPositions = new ConcurrentHashMap<>();
+    
+    /**
+     * Mark group written, position of its primary will be loaded before next read.
+     *
+     * @param groupName readwrite-splitting group name
+     */
+    public void markWritten(final String groupName) {
+        pendingGroupNames.add(groupName);
+    }
+    
+    /**
+     * Judge whether group written.
+     *
+     * @param groupName readwrite-splitting group name
+     * @return written or not
+     */
+    public boolean isWritten(final String groupName) {
+        return pendingGroupNames.contains(groupName) || writtenPositions.containsKey(groupName);
+    }
+}
@@ -19,8 +19,11 @@ package org.apache.shardingsphere.driver.executor;
 
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.refresher.MetaDataRefreshEngine;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -36,8 +39,12 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Driver JDBC executor.
@@ -67,19 +74,42 @@ public final class DriverJDBCExecutor {
      * @param executionGroupContext execution group context
      * @param queryContext query context
      * @param callback execute query callback
+     * @param queryTimeoutSeconds query timeout seconds, less than or equal to 0 means no deadline
      * @return query results
      * @throws SQLException SQL exception
      */
     public List<QueryResult> executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
-                                          final QueryContext queryContext, final ExecuteQueryCallback callback) throws SQLException {
+                                          final QueryContext queryContext, final ExecuteQueryCallback callback, final int queryTimeoutSeconds) throws SQLException {
         try {
             processEngine.executeSQL(executionGroupContext, queryContext);
-            return jdbcExecutor.execute(executionGroupContext, callback);
+            return isAsyncQuery(executionGroupContext)
+                    ? getQueryResults(jdbcExecutor.executeAsync(executionGroupContext, null, callback, TimeUnit.SECONDS.toMillis(queryTimeoutSeconds), null))
+                    : jdbcExecutor.execute(executionGroupContext, callback);
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
         }
     }
     
+    private boolean isAsyncQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        return executionGroupContext.getInputGroups().size() > 1 && metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_ASYNC_QUERY_ENABLED);
+    }
+    
+    private List<QueryResult> getQueryResults(final CompletableFuture<List<QueryResult>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                SQLExecutorExceptionHandler.handleException((SQLException) ex.getCause());
+                return Collections.emptyList();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
     /**
      * Execute update.
      *
@@ -38,6 +38,8 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Adapter for {@code Statement}.
@@ -48,6 +50,9 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     @Getter(AccessLevel.NONE)
     private final ForceExecuteTemplate<Statement> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<Statement, Integer> multiStatementsUpdateCounts = new ConcurrentHashMap<>();
+    
     private boolean poolable;
     
     private int fetchSize;
@@ -82,6 +87,15 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         }
     }
     
+    protected final int recordMultiStatementsUpdateCount(final Statement statement, final int updateCount) {
+        multiStatementsUpdateCounts.put(statement, updateCount);
+        return updateCount;
+    }
+    
+    protected final void clearMultiStatementsUpdateCounts() {
+        multiStatementsUpdateCounts.clear();
+    }
+    
     protected abstract boolean isAccumulate();
     
     protected abstract Collection<? extends Statement> getRoutedStatements();
@@ -167,14 +181,19 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         if (statements.isEmpty()) {
             return -1;
         }
-        return getRoutedStatements().iterator().next().getUpdateCount();
+        return getUpdateCount(getRoutedStatements().iterator().next());
+    }
+    
+    private int getUpdateCount(final Statement statement) throws SQLException {
+        Integer result = multiStatementsUpdateCounts.get(statement);
+        return null == result ? statement.getUpdateCount() : result;
     }
     
     private int accumulate() throws SQLException {
         long result = 0;
         boolean hasResult = false;
         for (Statement each : getRoutedStatements()) {
-            int updateCount = each.getUpdateCount();
+            int updateCount = getUpdateCount(each);
             if (updateCount > -1) {
                 hasResult = true;
             }
@@ -188,6 +207,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     @Override
     public final boolean getMoreResults() throws SQLException {
+        multiStatementsUpdateCounts.clear();
         boolean result = false;
         for (Statement each : getRoutedStatements()) {
             result = each.getMoreResults();
@@ -228,6 +248,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
                 getStatementManager().close();
             }
         } finally {
+            multiStatementsUpdateCounts.clear();
             getRoutedStatements().clear();
         }
     }
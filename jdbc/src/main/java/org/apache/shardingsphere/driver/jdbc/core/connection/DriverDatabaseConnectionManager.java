@@ -26,10 +26,13 @@ import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datasource.pool.acquirer.BatchConnectionAcquirer;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ConnectionModeUtils;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
@@ -356,17 +359,19 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
         if (connections.size() >= maxConnectionSize) {
             result = new ArrayList<>(connections).subList(connectionOffset, maxConnectionSize);
         } else if (connections.isEmpty()) {
-            Collection<Connection> newConnections = createConnections(currentDatabaseName, dataSourceName, dataSource, maxConnectionSize, connectionMode);
-            result = new ArrayList<>(newConnections).subList(connectionOffset, maxConnectionSize);
+            Collection<Connection> newConnections = createConnections(
+                    currentDatabaseName, dataSourceName, dataSource, maxConnectionSize, ConnectionModeUtils.getNewConnectionMode(connectionOffset, 0, connectionMode));
+            result = new ArrayList<>(newConnections).subList(connectionOffset, Math.min(maxConnectionSize, newConnections.size()));
             synchronized (cachedConnections) {
                 cachedConnections.putAll(cacheKey, newConnections);
             }
         } else {
             List<Connection> allConnections = new ArrayList<>(maxConnectionSize);
             allConnections.addAll(connections);
-            Collection<Connection> newConnections = createConnections(currentDatabaseName, dataSourceName, dataSource, maxConnectionSize - connections.size(), connectionMode);
+            Collection<Connection> newConnections = createConnections(currentDatabaseName, dataSourceName, dataSource,
+                    maxConnectionSize - connections.size(), ConnectionModeUtils.getNewConnectionMode(connectionOffset, connections.size(), connectionMode));
             allConnections.addAll(newConnections);
-            result = allConnections.subList(connectionOffset, maxConnectionSize);
+            result = allConnections.subList(connectionOffset, Math.min(maxConnectionSize, allConnections.size()));
             synchronized (cachedConnections) {
                 cachedConnections.putAll(cacheKey, newConnections);
             }
@@ -378,7 +383,6 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
         return databaseName.toLowerCase() + "." + dataSourceName;
     }
     
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     private List<Connection> createConnections(final String databaseName, final String dataSourceName, final DataSource dataSource, final int connectionSize,
                                                final ConnectionMode connectionMode) throws SQLException {
         if (1 == connectionSize) {
@@ -389,9 +393,9 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext());
         }
-        synchronized (dataSource) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, connectionContext.getTransactionContext());
-        }
+        long timeoutMillis = contextManager.getMetaDataContexts().getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.BATCH_CONNECTIONS_ACQUIRE_TIMEOUT_MILLISECONDS);
+        return BatchConnectionAcquirer.getInstance(dataSource).acquire(connectionSize, timeoutMillis,
+                size -> createConnections(databaseName, dataSourceName, dataSource, size, connectionContext.getTransactionContext()));
     }
     
     private List<Connection> createConnections(final String databaseName, final String dataSourceName, final DataSource dataSource, final int connectionSize,
@@ -38,6 +38,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -75,10 +76,12 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLCache;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.raw.RawExecutionRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.resoure.StorageConnectorReusableRuleAttribute;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -141,6 +144,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
+    private final RouteSQLCache batchRouteSQLCache = new RouteSQLCache();
+    
     private final KernelProcessor kernelProcessor;
     
     private final boolean statementsCacheable;
@@ -243,7 +248,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             if (useFederation) {
                 return executeFederationQuery(queryContext);
             }
-            executionContext = createExecutionContext(queryContext);
+            executionContext = createExecutionContext(queryContext, false);
             result = doExecuteQuery(executionContext);
             // CHECKSTYLE:OFF
         } catch (final RuntimeException ex) {
@@ -322,7 +327,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(),
                 new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
                         metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), sqlStatement,
-                        SQLExecutorExceptionHandler.isExceptionThrown()));
+                        SQLExecutorExceptionHandler.isExceptionThrown()), getQueryTimeout());
     }
     
     private ResultSet executeFederationQuery(final QueryContext queryContext) {
@@ -354,7 +359,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
                 JDBCExecutionUnit executionUnit = createTrafficExecutionUnit(trafficInstanceId, queryContext);
                 return executor.getTrafficExecutor().execute(executionUnit, (statement, sql) -> ((PreparedStatement) statement).executeUpdate());
             }
-            executionContext = createExecutionContext(queryContext);
+            executionContext = createExecutionContext(queryContext, false);
             if (hasRawExecutionRule()) {
                 Collection<ExecuteResult> results =
                         executor.getRawExecutor().execute(createRawExecutionGroupContext(executionContext), executionContext.getQueryContext(), new RawSQLExecutorCallback());
@@ -372,6 +377,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private int useDriverToExecuteUpdate(final ExecutionContext executionContext) throws SQLException {
+        clearMultiStatementsUpdateCounts();
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(executionContext);
         cacheStatements(executionGroupContext.getInputGroups());
         return executor.getRegularExecutor().executeUpdate(executionGroupContext,
@@ -400,6 +406,11 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
                 return Optional.empty();
             }
+            
+            @Override
+            protected Integer mergeMultiStatementsResult(final Integer result, final Statement statement) throws SQLException {
+                return recordMultiStatementsUpdateCount(statement, getMultiStatementsUpdateCount(statement));
+            }
         };
     }
     
@@ -424,7 +435,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
                 ResultSet resultSet = executeFederationQuery(queryContext);
                 return null != resultSet;
             }
-            executionContext = createExecutionContext(queryContext);
+            executionContext = createExecutionContext(queryContext, false);
             if (hasRawExecutionRule()) {
                 Collection<ExecuteResult> results =
                         executor.getRawExecutor().execute(createRawExecutionGroupContext(executionContext), executionContext.getQueryContext(), new RawSQLExecutorCallback());
@@ -498,6 +509,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private boolean useDriverToExecute(final ExecutionContext executionContext) throws SQLException {
+        clearMultiStatementsUpdateCounts();
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(executionContext);
         cacheStatements(executionGroupContext.getInputGroups());
         return executor.getRegularExecutor().execute(executionGroupContext,
@@ -518,6 +530,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             protected Optional<Boolean> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
                 return Optional.empty();
             }
+            
+            @Override
+            protected Boolean mergeMultiStatementsResult(final Boolean result, final Statement statement) throws SQLException {
+                recordMultiStatementsUpdateCount(statement, getMultiStatementsUpdateCount(statement));
+                return result;
+            }
         };
     }
     
@@ -574,12 +592,15 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         return result;
     }
     
-    private ExecutionContext createExecutionContext(final QueryContext queryContext) {
+    private ExecutionContext createExecutionContext(final QueryContext queryContext, final boolean batch) {
         RuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
         ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(databaseName);
         SQLAuditEngine.audit(queryContext.getSqlStatementContext(), queryContext.getParameters(), globalRuleMetaData, currentDatabase, null, queryContext.getHintValueContext());
-        ExecutionContext result = kernelProcessor.generateExecutionContext(
-                queryContext, currentDatabase, globalRuleMetaData, metaDataContexts.getMetaData().getProps(), connection.getDatabaseConnectionManager().getConnectionContext());
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        ConnectionContext connectionContext = connection.getDatabaseConnectionManager().getConnectionContext();
+        ExecutionContext result = batch
+                ? kernelProcessor.generateExecutionContext(queryContext, currentDatabase, globalRuleMetaData, props, connectionContext, batchRouteSQLCache)
+                : kernelProcessor.generateExecutionContext(queryContext, currentDatabase, globalRuleMetaData, props, connectionContext);
         findGeneratedKey(result).ifPresent(optional -> generatedValues.addAll(optional.getGeneratedValues()));
         return result;
     }
@@ -666,7 +687,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         try {
             QueryContext queryContext = createQueryContext();
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
-            executionContext = null == trafficInstanceId ? createExecutionContext(queryContext) : createExecutionContext(queryContext, trafficInstanceId);
+            executionContext = null == trafficInstanceId ? createExecutionContext(queryContext, true) : createExecutionContext(queryContext, trafficInstanceId);
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
         } finally {
             currentResultSet = null;
@@ -734,6 +755,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        batchRouteSQLCache.clear();
         clearParameters();
     }
     
@@ -233,7 +233,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
                 metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), executionContext.getSqlStatementContext().getSqlStatement(),
                 SQLExecutorExceptionHandler.isExceptionThrown());
-        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(), callback);
+        return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(), callback, getQueryTimeout());
     }
     
     private ResultSet executeFederationQuery(final QueryContext queryContext) {
@@ -356,6 +356,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private int useDriverToExecuteUpdate(final ExecuteUpdateCallback updateCallback, final SQLStatementContext sqlStatementContext,
                                          final ExecutionContext executionContext) throws SQLException {
+        clearMultiStatementsUpdateCounts();
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(executionContext);
         cacheStatements(executionGroupContext.getInputGroups());
         JDBCExecutorCallback<Integer> callback = createExecuteUpdateCallback(updateCallback, sqlStatementContext);
@@ -377,6 +378,11 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
                 return Optional.empty();
             }
+            
+            @Override
+            protected Integer mergeMultiStatementsResult(final Integer result, final Statement statement) throws SQLException {
+                return recordMultiStatementsUpdateCount(statement, getMultiStatementsUpdateCount(statement));
+            }
         };
     }
     
@@ -559,6 +565,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private boolean useDriverToExecute(final ExecuteCallback callback, final ExecutionContext executionContext) throws SQLException {
+        clearMultiStatementsUpdateCounts();
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(executionContext);
         cacheStatements(executionGroupContext.getInputGroups());
         JDBCExecutorCallback<Boolean> jdbcExecutorCallback = createExecuteCallback(callback, executionContext.getSqlStatementContext().getSqlStatement());
@@ -587,6 +594,12 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             protected Optional<Boolean> getSaneResult(final SQLStatement sqlStatement1, final SQLException ex) {
                 return Optional.empty();
             }
+            
+            @Override
+            protected Boolean mergeMultiStatementsResult(final Boolean result, final Statement statement) throws SQLException {
+                recordMultiStatementsUpdateCount(statement, getMultiStatementsUpdateCount(statement));
+                return result;
+            }
         };
     }
     
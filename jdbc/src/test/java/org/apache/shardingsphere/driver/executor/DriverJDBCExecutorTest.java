@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor;
+
+import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DriverJDBCExecutorTest {
+    
+    @Mock
+    private JDBCExecutor jdbcExecutor;
+    
+    @Mock
+    private ExecuteQueryCallback callback;
+    
+    @BeforeEach
+    void setUp() {
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+    }
+    
+    private DriverJDBCExecutor createDriverJDBCExecutor(final boolean asyncQueryEnabled) {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_ASYNC_QUERY_ENABLED)).thenReturn(asyncQueryEnabled);
+        return new DriverJDBCExecutor("foo_db", contextManager, jdbcExecutor);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+    }
+    
+    @Test
+    void assertExecuteQueryWithSingleExecutionGroup() throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(1);
+        List<QueryResult> expected = Collections.singletonList(mock(QueryResult.class));
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenReturn(expected);
+        DriverJDBCExecutor driverJDBCExecutor = new DriverJDBCExecutor("foo_db", mock(ContextManager.class, RETURNS_DEEP_STUBS), jdbcExecutor);
+        assertThat(driverJDBCExecutor.executeQuery(executionGroupContext, mockQueryContext(), callback, 1), is(expected));
+        verify(jdbcExecutor, never()).executeAsync(any(), any(), any(), anyLong(), any());
+    }
+    
+    @Test
+    void assertExecuteQueryWithMultipleExecutionGroupsAndAsyncQueryDisabled() throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(2);
+        List<QueryResult> expected = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class));
+        when(jdbcExecutor.execute(executionGroupContext, callback)).thenReturn(expected);
+        assertThat(createDriverJDBCExecutor(false).executeQuery(executionGroupContext, mockQueryContext(), callback, 3), is(expected));
+        verify(jdbcExecutor, never()).executeAsync(any(), any(), any(), anyLong(), any());
+    }
+    
+    @Test
+    void assertExecuteQueryWithMultipleExecutionGroups() throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(2);
+        List<QueryResult> expected = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class));
+        when(jdbcExecutor.executeAsync(eq(executionGroupContext), isNull(), eq(callback), eq(3000L), isNull())).thenReturn(CompletableFuture.completedFuture(expected));
+        assertThat(createDriverJDBCExecutor(true).executeQuery(executionGroupContext, mockQueryContext(), callback, 3), is(expected));
+    }
+    
+    @Test
+    void assertExecuteQueryWithMultipleExecutionGroupsFailure() {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(2);
+        CompletableFuture<List<QueryResult>> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new SQLException("test"));
+        when(jdbcExecutor.executeAsync(eq(executionGroupContext), isNull(), eq(callback), eq(0L), isNull())).thenReturn(failedFuture);
+        SQLException actual = assertThrows(SQLException.class, () -> createDriverJDBCExecutor(true).executeQuery(executionGroupContext, mockQueryContext(), callback, 0));
+        assertThat(actual.getMessage(), is("test"));
+    }
+    
+    @Test
+    void assertExecuteQueryWithMultipleExecutionGroupsFailureIgnored() throws SQLException {
+        SQLExecutorExceptionHandler.setExceptionThrown(false);
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(2);
+        CompletableFuture<List<QueryResult>> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new SQLException("test"));
+        when(jdbcExecutor.executeAsync(eq(executionGroupContext), isNull(), eq(callback), eq(0L), isNull())).thenReturn(failedFuture);
+        assertThat(createDriverJDBCExecutor(true).executeQuery(executionGroupContext, mockQueryContext(), callback, 0), is(Collections.emptyList()));
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext(final int groupSize) {
+        List<ExecutionGroup<JDBCExecutionUnit>> executionGroups = Collections.nCopies(groupSize, new ExecutionGroup<>(Collections.singletonList(mock(JDBCExecutionUnit.class))));
+        return new ExecutionGroupContext<>(executionGroups, mock(ExecutionGroupReportContext.class));
+    }
+    
+    private QueryContext mockQueryContext() {
+        QueryContext result = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatementContext().getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        return result;
+    }
+}
@@ -144,6 +144,17 @@ class StatementAdapterTest {
         assertThat(actual.getUpdateCount(), is(Integer.MAX_VALUE));
     }
     
+    @Test
+    void assertGetUpdateCountWithMultiStatements() throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(statement.getUpdateCount()).thenReturn(-1);
+        ShardingSphereStatement actual = mockShardingSphereStatement(statement);
+        actual.recordMultiStatementsUpdateCount(statement, 5);
+        assertThat(actual.getUpdateCount(), is(5));
+        assertFalse(actual.getMoreResults());
+        assertThat(actual.getUpdateCount(), is(-1));
+    }
+    
     @Test
     void assertGetWarnings() throws SQLException {
         try (ShardingSphereStatement actual = mockShardingSphereStatement()) {
@@ -59,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ShardingSphereResultSetTest {
@@ -113,6 +114,13 @@ class ShardingSphereResultSetTest {
         assertFalse(shardingSphereResultSet.wasNull());
     }
     
+    @Test
+    void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        assertTrue(shardingSphereResultSet.isClosed());
+        verify(mergeResultSet).close();
+    }
+    
     @Test
     void assertGetBooleanWithColumnIndex() throws SQLException {
         when(mergeResultSet.getValue(1, boolean.class)).thenReturn(true);
@@ -40,8 +40,12 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -175,8 +179,14 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
             }
-            for (DataRecord each : dataRecords) {
-                executeUpdate(connection, each);
+            if (firstTimeRun) {
+                for (List<DataRecord> each : groupByUpdatedColumns(dataRecords)) {
+                    executeBatchUpdate(connection, each);
+                }
+            } else {
+                for (DataRecord each : dataRecords) {
+                    executeUpdate(connection, each);
+                }
             }
             if (transactionEnabled) {
                 connection.commit();
@@ -191,18 +201,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             runningStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
-                }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
-            }
+            setUpdateParameters(preparedStatement, dataRecord, shardingColumns);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
@@ -218,6 +217,82 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private Collection<List<DataRecord>> groupByUpdatedColumns(final Collection<DataRecord> dataRecords) {
+        if (dataRecords.iterator().next().getUniqueKeyValue().isEmpty()) {
+            return groupConsecutivelyByUpdatedColumns(dataRecords);
+        }
+        Map<String, List<DataRecord>> result = new LinkedHashMap<>();
+        for (DataRecord each : dataRecords) {
+            result.computeIfAbsent(getUpdatedColumnNames(each), key -> new LinkedList<>()).add(each);
+        }
+        return result.values();
+    }
+    
+    private Collection<List<DataRecord>> groupConsecutivelyByUpdatedColumns(final Collection<DataRecord> dataRecords) {
+        // Records without unique key are not merged and may change same row more than once, only consecutive records are grouped to keep order
+        Collection<List<DataRecord>> result = new LinkedList<>();
+        List<DataRecord> currentGroup = null;
+        String previousUpdatedColumnNames = null;
+        for (DataRecord each : dataRecords) {
+            String updatedColumnNames = getUpdatedColumnNames(each);
+            if (!updatedColumnNames.equals(previousUpdatedColumnNames)) {
+                currentGroup = new LinkedList<>();
+                result.add(currentGroup);
+                previousUpdatedColumnNames = updatedColumnNames;
+            }
+            currentGroup.add(each);
+        }
+        return result;
+    }
+    
+    private String getUpdatedColumnNames(final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().filter(Column::isUpdated).map(Column::getName).collect(Collectors.joining(","));
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (1 == dataRecords.size()) {
+            executeUpdate(connection, dataRecords.get(0));
+            return;
+        }
+        DataRecord dataRecord = dataRecords.get(0);
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord,
+                RecordUtils.extractConditionColumns(dataRecord, shardingColumns));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                setUpdateParameters(preparedStatement, each, shardingColumns);
+                preparedStatement.addBatch();
+            }
+            int[] updateCounts = preparedStatement.executeBatch();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("execute batch update failed, update count: {}, sql: {}, data record: {}", updateCounts[i], sql, dataRecords.get(i));
+                }
+            }
+        } catch (final SQLException ex) {
+            log.error("execute batch update failed, sql: {}, sharding columns: {}, records count: {}, error message: {}",
+                    sql, JsonUtils.toJsonString(shardingColumns), dataRecords.size(), ex.getMessage());
+            throw ex;
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord, final Set<String> shardingColumns) throws SQLException {
+        int parameterIndex = 1;
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isUpdated()) {
+                preparedStatement.setObject(parameterIndex++, each.getValue());
+            }
+        }
+        for (Column each : RecordUtils.extractConditionColumns(dataRecord, shardingColumns)) {
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            preparedStatement.setObject(parameterIndex++, shardingColumns.contains(each.getName()) && null == each.getOldValue() ? each.getValue() : each.getOldValue());
+        }
+    }
+    
     private void executeBatchDelete(final Collection<DataRecord> dataRecords) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             boolean transactionEnabled = dataRecords.size() > 1;
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLLogicalReplication;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.DialectIngestPositionManager;
@@ -39,8 +40,6 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
     
     private static final String SLOT_NAME_PREFIX = "pipeline";
     
-    private static final String DECODE_PLUGIN = "test_decoding";
-    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
@@ -61,7 +60,8 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String decodingPlugin = isPublicationExisting(connection) ? PostgreSQLLogicalReplication.PGOUTPUT_PLUGIN : PostgreSQLLogicalReplication.TEST_DECODING_PLUGIN;
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodingPlugin);
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -71,11 +71,24 @@ public final class PostgreSQLIngestPositionManager implements DialectIngestPosit
         }
     }
     
+    private boolean isPublicationExisting(final Connection connection) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return false;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, PostgreSQLLogicalReplication.PUBLICATION_NAME);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
     private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin IN (?, ?)";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
+            preparedStatement.setString(2, PostgreSQLLogicalReplication.TEST_DECODING_PLUGIN);
+            preparedStatement.setString(3, PostgreSQLLogicalReplication.PGOUTPUT_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
             }
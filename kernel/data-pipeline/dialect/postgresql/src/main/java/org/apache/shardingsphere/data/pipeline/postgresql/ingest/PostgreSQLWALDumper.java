@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLL
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -112,25 +113,26 @@ public final class PostgreSQLWALDumper extends AbstractPipelineLifecycleRunnable
     @SneakyThrows(InterruptedException.class)
     private void dump() throws SQLException {
         // TODO use unified PgConnection
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLIngestPositionManager.getUniqueSlotName(connection, dumperContext.getJobId()),
-                        walPosition.get().getLogSequenceNumber())) {
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig())) {
+            String slotName = PostgreSQLIngestPositionManager.getUniqueSlotName(connection, dumperContext.getJobId());
+            String decodingPluginName = logicalReplication.getDecodingPlugin(connection, slotName);
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    Thread.sleep(10L);
-                    continue;
+            DecodingPlugin decodingPlugin = PostgreSQLLogicalReplication.PGOUTPUT_PLUGIN.equals(decodingPluginName) ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils);
+            try (PGReplicationStream stream = logicalReplication.createReplicationStream(connection, slotName, walPosition.get().getLogSequenceNumber(), decodingPluginName)) {
+                while (isRunning()) {
+                    ByteBuffer message = stream.readPending();
+                    if (null == message) {
+                        Thread.sleep(10L);
+                        continue;
+                    }
+                    AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+                    if (decodeWithTX) {
+                        processEventWithTX(event);
+                    } else {
+                        processEventIgnoreTX(event);
+                    }
+                    walPosition.set(new WALPosition(event.getLogSequenceNumber()));
                 }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                if (decodeWithTX) {
-                    processEventWithTX(event);
-                } else {
-                    processEventIgnoreTX(event);
-                }
-                walPosition.set(new WALPosition(event.getLogSequenceNumber()));
             }
         }
     }
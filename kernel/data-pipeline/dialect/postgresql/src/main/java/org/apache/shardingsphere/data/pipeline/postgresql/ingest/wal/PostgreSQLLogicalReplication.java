@@ -23,9 +23,12 @@ import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Properties;
 
@@ -34,6 +37,12 @@ import java.util.Properties;
  */
 public final class PostgreSQLLogicalReplication {
     
+    public static final String TEST_DECODING_PLUGIN = "test_decoding";
+    
+    public static final String PGOUTPUT_PLUGIN = "pgoutput";
+    
+    public static final String PUBLICATION_NAME = "shardingsphere_pipeline";
+    
     /**
      * Create connection.
      *
@@ -57,17 +66,40 @@ public final class PostgreSQLLogicalReplication {
      * @param connection connection
      * @param slotName slot name
      * @param startPosition start position
+     * @param decodingPlugin decoding plugin of slot
      * @return replication stream
      * @throws SQLException SQL exception
      */
-    public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition) throws SQLException {
-        return connection.unwrap(PGConnection.class).getReplicationAPI()
+    public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition,
+                                                       final String decodingPlugin) throws SQLException {
+        ChainedLogicalStreamBuilder builder = connection.unwrap(PGConnection.class).getReplicationAPI()
                 .replicationStream()
                 .logical()
                 .withStartPosition((LogSequenceNumber) startPosition.get())
-                .withSlotName(slotName)
-                .withSlotOption("include-xids", true)
-                .withSlotOption("skip-empty-xacts", true)
-                .start();
+                .withSlotName(slotName);
+        if (PGOUTPUT_PLUGIN.equals(decodingPlugin)) {
+            return builder.withSlotOption("proto_version", 1).withSlotOption("publication_names", PUBLICATION_NAME).start();
+        }
+        return builder.withSlotOption("include-xids", true).withSlotOption("skip-empty-xacts", true).start();
+    }
+    
+    /**
+     * Get decoding plugin of replication slot.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return decoding plugin
+     * @throws SQLException SQL exception
+     */
+    public String getDecodingPlugin(final Connection connection, final String slotName) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return TEST_DECODING_PLUGIN;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")) {
+            preparedStatement.setString(1, slotName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : TEST_DECODING_PLUGIN;
+            }
+        }
     }
 }
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.postgresql.core.Oid;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pgoutput decoding plugin.
+ * 
+ * <p>Decodes binary messages of logical replication protocol version 1, column values are read from replication buffer directly by type of relation column.</p>
+ */
+@HighFrequencyInvocation
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final Object UNCHANGED_TOAST_VALUE = new Object();
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    private long currentXid;
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result;
+        switch (data.get()) {
+            case 'B':
+                result = decodeBegin(data);
+                break;
+            case 'C':
+                result = new CommitTXEvent(currentXid, null);
+                break;
+            case 'R':
+                decodeRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = decodeInsert(data);
+                break;
+            case 'U':
+                result = decodeUpdate(data);
+                break;
+            case 'D':
+                result = decodeDelete(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private BeginTXEvent decodeBegin(final ByteBuffer data) {
+        data.position(data.position() + 16);
+        currentXid = Integer.toUnsignedLong(data.getInt());
+        return new BeginTXEvent(currentXid, null);
+    }
+    
+    private void decodeRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readCString(data);
+        String tableName = readCString(data);
+        data.get();
+        int columnCount = data.getShort();
+        int[] columnTypes = new int[columnCount];
+        boolean[] keyColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = 0 != (data.get() & 1);
+            readCString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new Relation(schemaName.isEmpty() ? "pg_catalog" : schemaName, tableName, columnTypes, keyColumns));
+    }
+    
+    private AbstractRowEvent decodeInsert(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTuple(data, relation));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent decodeUpdate(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        byte tupleType = data.get();
+        List<Object> beforeRow = null;
+        if ('K' == tupleType || 'O' == tupleType) {
+            beforeRow = readTuple(data, relation);
+            data.get();
+        }
+        List<Object> afterRow = readTuple(data, relation);
+        for (int i = 0; i < afterRow.size(); i++) {
+            if (UNCHANGED_TOAST_VALUE == afterRow.get(i)) {
+                if (null == beforeRow || UNCHANGED_TOAST_VALUE == beforeRow.get(i)) {
+                    throw new IngestException(
+                            String.format("Unchanged toast value of column %d in table `%s` is unknown, please set replica identity of table to full", i + 1, relation.getTableName()));
+                }
+                afterRow.set(i, beforeRow.get(i));
+            }
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(afterRow);
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent decodeDelete(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> beforeRow = readTuple(data, relation);
+        List<Object> primaryKeys = new ArrayList<>(beforeRow.size());
+        for (int i = 0; i < beforeRow.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                primaryKeys.add(beforeRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        return setTable(result, relation);
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTable(final AbstractRowEvent event, final Relation relation) {
+        event.setSchemaName(relation.getSchemaName());
+        event.setTableName(relation.getTableName());
+        return event;
+    }
+    
+    private List<Object> readTuple(final ByteBuffer data, final Relation relation) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            byte columnType = data.get();
+            if ('n' == columnType) {
+                result.add(null);
+            } else if ('u' == columnType) {
+                result.add(UNCHANGED_TOAST_VALUE);
+            } else {
+                int length = data.getInt();
+                int position = data.position();
+                result.add(readColumnValue(data, position, length, relation.getColumnTypes()[i]));
+                data.position(position + length);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnValue(final ByteBuffer data, final int position, final int length, final int columnType) {
+        switch (columnType) {
+            case Oid.BOOL:
+                return 't' == data.get(position);
+            case Oid.INT2:
+                return (short) readLong(data, position, length);
+            case Oid.INT4:
+                return (int) readLong(data, position, length);
+            case Oid.INT8:
+                return readLong(data, position, length);
+            case Oid.FLOAT4:
+                return Float.parseFloat(readString(data, position, length));
+            case Oid.FLOAT8:
+                return Double.parseDouble(readString(data, position, length));
+            case Oid.NUMERIC:
+                return new BigDecimal(readChars(data, position, length));
+            case Oid.DATE:
+                return Date.valueOf(readString(data, position, length));
+            case Oid.TIME:
+                try {
+                    return timestampUtils.toTime(null, readString(data, position, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.TIMESTAMP:
+                try {
+                    return timestampUtils.toTimestamp(null, readString(data, position, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case Oid.BYTEA:
+                return readHexBytes(data, position + 2, length - 2);
+            default:
+                return readString(data, position, length);
+        }
+    }
+    
+    private long readLong(final ByteBuffer data, final int position, final int length) {
+        boolean negative = '-' == data.get(position);
+        long result = 0L;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            result = result * 10L + data.get(position + i) - '0';
+        }
+        return negative ? -result : result;
+    }
+    
+    private char[] readChars(final ByteBuffer data, final int position, final int length) {
+        char[] result = new char[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = (char) data.get(position + i);
+        }
+        return result;
+    }
+    
+    private String readString(final ByteBuffer data, final int position, final int length) {
+        if (data.hasArray()) {
+            return new String(data.array(), data.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        }
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = data.get(position + i);
+        }
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] readHexBytes(final ByteBuffer data, final int position, final int length) {
+        Preconditions.checkArgument(0 == (length & 1), "Illegal hex data length `%s`", length);
+        byte[] result = new byte[length >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            int firstHexChar = Character.digit(data.get(position + i * 2), 16);
+            int secondHexChar = Character.digit(data.get(position + i * 2 + 1), 16);
+            Preconditions.checkArgument(-1 != firstHexChar && -1 != secondHexChar, "Illegal hex byte in index `%s`", i * 2);
+            result[i] = (byte) ((firstHexChar << 4) + secondHexChar);
+        }
+        return result;
+    }
+    
+    private String readCString(final ByteBuffer data) {
+        int position = data.position();
+        int length = 0;
+        while (0 != data.get(position + length)) {
+            length++;
+        }
+        data.position(position + length + 1);
+        return readString(data, position, length);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final int[] columnTypes;
+        
+        private final boolean[] keyColumns;
+    }
+}
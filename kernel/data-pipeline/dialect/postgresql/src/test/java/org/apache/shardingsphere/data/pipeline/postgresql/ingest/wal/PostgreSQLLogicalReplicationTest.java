@@ -82,13 +82,28 @@ class PostgreSQLLogicalReplicationTest {
         when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
         when(chainedLogicalStreamBuilder.withSlotOption(anyString(), eq(true))).thenReturn(chainedLogicalStreamBuilder, chainedLogicalStreamBuilder);
         BaseLogSequenceNumber basePosition = new PostgreSQLLogSequenceNumber(startPosition);
-        logicalReplication.createReplicationStream(connection, "", basePosition);
+        logicalReplication.createReplicationStream(connection, "", basePosition, "test_decoding");
+        verify(chainedLogicalStreamBuilder).start();
+    }
+    
+    @Test
+    void assertCreatePgOutputReplicationStreamSuccess() throws SQLException {
+        LogSequenceNumber startPosition = LogSequenceNumber.valueOf(100L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(connection);
+        when(connection.getReplicationAPI()).thenReturn(pgReplicationConnection);
+        when(pgReplicationConnection.replicationStream()).thenReturn(chainedStreamBuilder);
+        when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("proto_version", 1)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("publication_names", "shardingsphere_pipeline")).thenReturn(chainedLogicalStreamBuilder);
+        logicalReplication.createReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(startPosition), "pgoutput");
         verify(chainedLogicalStreamBuilder).start();
     }
     
     @Test
     void assertCreateReplicationStreamFailure() throws SQLException {
         when(connection.unwrap(PGConnection.class)).thenThrow(new SQLException(""));
-        assertThrows(SQLException.class, () -> logicalReplication.createReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))));
+        assertThrows(SQLException.class, () -> logicalReplication.createReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L)), "test_decoding"));
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.core.Oid;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgOutputDecodingPluginTest {
+    
+    private static final String UNCHANGED_TOAST_VALUE = "unchanged-toast-datum";
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        assertThat(decodingPlugin.decode(createRelationMessage(), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    private ByteBuffer createRelationMessage() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(result);
+        out.writeByte('R');
+        out.writeInt(16384);
+        writeCString(out, "public");
+        writeCString(out, "t_order");
+        out.writeByte('d');
+        out.writeShort(5);
+        writeColumn(out, true, "order_id", Oid.INT8);
+        writeColumn(out, false, "user_id", Oid.INT4);
+        writeColumn(out, false, "status", Oid.VARCHAR);
+        writeColumn(out, false, "amount", Oid.NUMERIC);
+        writeColumn(out, false, "content", Oid.BYTEA);
+        return ByteBuffer.wrap(result.toByteArray());
+    }
+    
+    private void writeColumn(final DataOutputStream out, final boolean key, final String name, final int type) throws IOException {
+        out.writeByte(key ? 1 : 0);
+        writeCString(out, name);
+        out.writeInt(type);
+        out.writeInt(-1);
+    }
+    
+    private void writeCString(final DataOutputStream out, final String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+        out.writeByte(0);
+    }
+    
+    private void writeTuple(final DataOutputStream out, final String... values) throws IOException {
+        out.writeShort(values.length);
+        for (String each : values) {
+            if (null == each) {
+                out.writeByte('n');
+            } else if (UNCHANGED_TOAST_VALUE.equals(each)) {
+                out.writeByte('u');
+            } else {
+                byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+                out.writeByte('t');
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+    
+    @Test
+    void assertDecodeBeginAndCommitTXEvent() throws IOException {
+        ByteArrayOutputStream begin = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(begin);
+        out.writeByte('B');
+        out.writeLong(100L);
+        out.writeLong(200L);
+        out.writeInt(616281);
+        BeginTXEvent actualBegin = (BeginTXEvent) decodingPlugin.decode(ByteBuffer.wrap(begin.toByteArray()), logSequenceNumber);
+        assertThat(actualBegin.getXid(), is(616281L));
+        assertThat(actualBegin.getLogSequenceNumber(), is(logSequenceNumber));
+        byte[] commit = new byte[26];
+        commit[0] = 'C';
+        CommitTXEvent actualCommit = (CommitTXEvent) decodingPlugin.decode(ByteBuffer.wrap(commit), logSequenceNumber);
+        assertThat(actualCommit.getXid(), is(616281L));
+    }
+    
+    @Test
+    void assertDecodeWriteRowEvent() throws IOException {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(message);
+        out.writeByte('I');
+        out.writeInt(16384);
+        out.writeByte('N');
+        writeTuple(out, "-9223372036854775807", "1", " 1 2 3' 😊中", "12.30", "\\x0aff");
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(message.toByteArray()), logSequenceNumber);
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(-9223372036854775807L));
+        assertThat(actual.getAfterRow().get(1), is(1));
+        assertThat(actual.getAfterRow().get(2), is(" 1 2 3' 😊中"));
+        assertThat(actual.getAfterRow().get(3), is(new BigDecimal("12.30")));
+        assertThat(Arrays.equals((byte[]) actual.getAfterRow().get(4), new byte[]{10, -1}), is(true));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithOldTuple() throws IOException {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(message);
+        out.writeByte('U');
+        out.writeInt(16384);
+        out.writeByte('O');
+        writeTuple(out, "1", "2", "old", null, "\\x01");
+        out.writeByte('N');
+        writeTuple(out, "1", "3", "new", null, UNCHANGED_TOAST_VALUE);
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(ByteBuffer.wrap(message.toByteArray()), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(1), is(3));
+        assertThat(actual.getAfterRow().get(2), is("new"));
+        assertNull(actual.getAfterRow().get(3));
+        assertThat(Arrays.equals((byte[]) actual.getAfterRow().get(4), new byte[]{1}), is(true));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnknownToastValue() throws IOException {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(message);
+        out.writeByte('U');
+        out.writeInt(16384);
+        out.writeByte('N');
+        writeTuple(out, "1", "3", "new", null, UNCHANGED_TOAST_VALUE);
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(ByteBuffer.wrap(message.toByteArray()), logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEvent() throws IOException {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(message);
+        out.writeByte('D');
+        out.writeInt(16384);
+        out.writeByte('K');
+        writeTuple(out, "101", null, null, null, null);
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(message.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys().size(), is(1));
+        assertThat(actual.getPrimaryKeys().get(0), is(101L));
+    }
+    
+    @Test
+    void assertDecodeWithUnknownRelation() {
+        ByteBuffer message = ByteBuffer.allocate(6).put((byte) 'I').putInt(1).put((byte) 'N');
+        message.flip();
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(message, logSequenceNumber));
+    }
+}
@@ -44,6 +44,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DropStreamingRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.GrantCreditRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.LoginType;
@@ -105,12 +106,16 @@ public final class CDCClient implements AutoCloseable {
                         channel.pipeline().addLast(new ProtobufDecoder(CDCResponse.getDefaultInstance()));
                         channel.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
                         channel.pipeline().addLast(new ProtobufEncoder());
-                        channel.pipeline().addLast(new CDCRequestHandler(dataConsumer, exceptionHandler, errorResultHandler));
+                        channel.pipeline().addLast(new CDCRequestHandler(dataConsumer, exceptionHandler, errorResultHandler, isCreditEnabled()));
                     }
                 });
         channel = bootstrap.connect(config.getAddress(), config.getPort()).sync().channel();
     }
     
+    private boolean isCreditEnabled() {
+        return config.getRecordCreditWindow() > 0L && config.getByteCreditWindow() > 0L;
+    }
+    
     /**
      * Await channel close.
      *
@@ -141,6 +146,24 @@ public final class CDCClient implements AutoCloseable {
         channel.writeAndFlush(data);
         responseFuture.waitResponseResult(config.getTimeoutMills(), connectionContext);
         log.info("Login success, username: {}", parameter.getUsername());
+        if (isCreditEnabled()) {
+            grantCredit(config.getRecordCreditWindow(), config.getByteCreditWindow());
+        }
+    }
+    
+    /**
+     * Grant credits to server, then server sends data records only when both record credit and byte credit are positive.
+     *
+     * <p>Credits are replenished automatically after data records consumed if credit windows configured.</p>
+     *
+     * @param recordCredit record credit
+     * @param byteCredit byte credit
+     * @throws IllegalStateException the channel is not active
+     */
+    public void grantCredit(final long recordCredit, final long byteCredit) {
+        checkChannelActive();
+        GrantCreditRequestBody body = GrantCreditRequestBody.newBuilder().setRecordCredit(recordCredit).setByteCredit(byteCredit).build();
+        channel.writeAndFlush(CDCRequest.newBuilder().setRequestId(RequestIdUtils.generateRequestId()).setType(Type.GRANT_CREDIT).setGrantCreditRequestBody(body).build());
     }
     
     private void checkChannelActive() {
@@ -32,4 +32,18 @@ public final class CDCClientConfiguration {
     private final int port;
     
     private final int timeoutMills;
+    
+    /**
+     * Max data records sent by server and not consumed yet, 0 means no credit based flow control.
+     */
+    private final long recordCreditWindow;
+    
+    /**
+     * Max data bytes sent by server and not consumed yet, 0 means no credit based flow control.
+     */
+    private final long byteCreditWindow;
+    
+    public CDCClientConfiguration(final String address, final int port, final int timeoutMills) {
+        this(address, port, timeoutMills, 0L, 0L);
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.client.util.ServerErrorResult
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.GrantCreditRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
@@ -52,6 +53,8 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     
     private final ServerErrorResultHandler errorResultHandler;
     
+    private final boolean creditEnabled;
+    
     @Override
     public void channelRegistered(final ChannelHandlerContext ctx) {
         ClientConnectionContext context = new ClientConnectionContext();
@@ -103,14 +106,19 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
             responseFuture.ifPresent(future -> future.setResult(response.getStreamDataResult().getStreamingId()));
             connectionContext.getStreamingIds().add(streamDataResult.getStreamingId());
         } else if (response.hasDataRecordResult()) {
-            processDataRecords(ctx, response.getDataRecordResult());
+            processDataRecords(ctx, response);
         }
         responseFuture.ifPresent(ResponseFuture::countDown);
     }
     
-    private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
+    private void processDataRecords(final ChannelHandlerContext ctx, final CDCResponse response) {
+        DataRecordResult result = response.getDataRecordResult();
         consumer.accept(result.getRecordList());
         ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
+        if (creditEnabled) {
+            GrantCreditRequestBody grantCreditRequestBody = GrantCreditRequestBody.newBuilder().setRecordCredit(result.getRecordCount()).setByteCredit(response.getSerializedSize()).build();
+            ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.GRANT_CREDIT).setGrantCreditRequestBody(grantCreditRequestBody).build());
+        }
     }
     
     @Override
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import lombok.SneakyThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CDC flow controller of channel.
+ *
+ * <p>Data records are sent when channel is writable before CDC client grants any credit.
+ * After first credit granted, data records are only sent when both record credit and byte credit are positive,
+ * and credits are consumed by sent data records, so one batch may overdraw credits.</p>
+ */
+public final class CDCFlowController {
+    
+    private static final AttributeKey<CDCFlowController> FLOW_CONTROLLER_KEY = AttributeKey.valueOf("cdc.flow.controller");
+    
+    private static final long MAX_AWAIT_MILLISECONDS = 100L;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition changed = lock.newCondition();
+    
+    private volatile boolean creditEnabled;
+    
+    private long recordCredit;
+    
+    private long byteCredit;
+    
+    /**
+     * Get flow controller of channel.
+     *
+     * @param channel channel
+     * @return flow controller
+     */
+    public static CDCFlowController get(final Channel channel) {
+        Attribute<CDCFlowController> attribute = channel.attr(FLOW_CONTROLLER_KEY);
+        CDCFlowController result = attribute.get();
+        if (null != result) {
+            return result;
+        }
+        CDCFlowController flowController = new CDCFlowController();
+        result = attribute.setIfAbsent(flowController);
+        return null == result ? flowController : result;
+    }
+    
+    /**
+     * Grant credits.
+     *
+     * @param recordCredit record credit
+     * @param byteCredit byte credit
+     */
+    public void grant(final long recordCredit, final long byteCredit) {
+        lock.lock();
+        try {
+            creditEnabled = true;
+            this.recordCredit += recordCredit;
+            this.byteCredit += byteCredit;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Consume credits.
+     *
+     * @param recordCount record count
+     * @param byteCount byte count
+     */
+    public void consume(final long recordCount, final long byteCount) {
+        if (!creditEnabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            recordCredit -= recordCount;
+            byteCredit -= byteCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Notify waiting sink that channel writability or activity changed.
+     */
+    public void notifyChanged() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Await until data records could be sent to channel.
+     *
+     * @param channel channel
+     * @return whether channel is still active
+     */
+    @SneakyThrows(InterruptedException.class)
+    public boolean awaitSendable(final Channel channel) {
+        if (isSendable(channel)) {
+            return true;
+        }
+        lock.lock();
+        try {
+            while (channel.isActive() && !isSendable(channel)) {
+                // Writability changes are notified by channel handler, waiting with timeout in case of handler absent
+                changed.await(MAX_AWAIT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return channel.isActive();
+    }
+    
+    private boolean isSendable(final Channel channel) {
+        if (!channel.isWritable()) {
+            return false;
+        }
+        if (!creditEnabled) {
+            return true;
+        }
+        lock.lock();
+        try {
+            return recordCredit > 0L && byteCredit > 0L;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -19,8 +19,8 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
@@ -34,24 +34,13 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Pipeline CDC socket sink.
  */
 public final class PipelineCDCSocketSink implements PipelineSink {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 100L;
-    
-    private final Lock lock = new ReentrantLock();
-    
-    private final Condition condition = lock.newCondition();
-    
     @Getter
     private final Channel channel;
     
@@ -59,6 +48,8 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableSchemaNameMap;
     
+    private final CDCFlowController flowController;
+    
     public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
         this.channel = channel;
         this.database = database;
@@ -67,6 +58,7 @@ public final class PipelineCDCSocketSink implements PipelineSink {
             String[] split = each.split("\\.");
             tableSchemaNameMap.put(split[1], split[0]);
         });
+        flowController = CDCFlowController.get(channel);
     }
     
     @Override
@@ -74,43 +66,20 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         if (records.isEmpty()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
-        while (!channel.isWritable() && channel.isActive()) {
-            doAwait();
-        }
-        if (!channel.isActive()) {
+        if (!flowController.awaitSendable(channel)) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
-        Collection<DataRecordResult.Record> resultRecords = getResultRecords(records);
-        DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
-        return new PipelineJobProgressUpdatedParameter(resultRecords.size());
-    }
-    
-    @SneakyThrows(InterruptedException.class)
-    private void doAwait() {
-        lock.lock();
-        long startMillis = System.currentTimeMillis();
-        long endMillis = startMillis;
-        boolean awaitResult;
-        try {
-            do {
-                awaitResult = condition.await(DEFAULT_TIMEOUT_MILLISECONDS - (endMillis - startMillis), TimeUnit.MILLISECONDS);
-                endMillis = System.currentTimeMillis();
-            } while (!awaitResult && DEFAULT_TIMEOUT_MILLISECONDS > endMillis - startMillis);
-        } finally {
-            lock.unlock();
-        }
-    }
-    
-    private Collection<DataRecordResult.Record> getResultRecords(final Collection<Record> records) {
-        Collection<DataRecordResult.Record> result = new LinkedList<>();
+        DataRecordResult.Builder dataRecordResultBuilder = DataRecordResult.newBuilder().setAckId(ackId);
         for (Record each : records) {
             if (each instanceof DataRecord) {
                 DataRecord dataRecord = (DataRecord) each;
-                result.add(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableSchemaNameMap.get(dataRecord.getTableName()), dataRecord));
+                dataRecordResultBuilder.addRecord(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableSchemaNameMap.get(dataRecord.getTableName()), dataRecord));
             }
         }
-        return result;
+        CDCResponse response = CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResultBuilder.build());
+        flowController.consume(dataRecordResultBuilder.getRecordCount(), response.getSerializedSize());
+        channel.writeAndFlush(response);
+        return new PipelineJobProgressUpdatedParameter(dataRecordResultBuilder.getRecordCount());
     }
     
     @Override
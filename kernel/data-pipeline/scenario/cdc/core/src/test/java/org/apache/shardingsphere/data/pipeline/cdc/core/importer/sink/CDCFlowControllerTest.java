@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CDCFlowControllerTest {
+    
+    @Test
+    void assertGetSameFlowControllerOfChannel() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        assertThat(CDCFlowController.get(channel), sameInstance(CDCFlowController.get(channel)));
+    }
+    
+    @Test
+    void assertAwaitSendableWithoutCredit() {
+        assertTrue(new CDCFlowController().awaitSendable(new EmbeddedChannel()));
+    }
+    
+    @Test
+    void assertAwaitSendableUntilCreditGranted() throws ExecutionException, InterruptedException, TimeoutException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CDCFlowController flowController = new CDCFlowController();
+        flowController.grant(1L, 100L);
+        assertTrue(flowController.awaitSendable(channel));
+        flowController.consume(2L, 10L);
+        CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> flowController.awaitSendable(channel));
+        assertThrows(TimeoutException.class, () -> future.get(200L, TimeUnit.MILLISECONDS));
+        flowController.grant(1L, 0L);
+        assertThrows(TimeoutException.class, () -> future.get(200L, TimeUnit.MILLISECONDS));
+        flowController.grant(1L, 0L);
+        assertThat(future.get(1L, TimeUnit.SECONDS), is(true));
+    }
+    
+    @Test
+    void assertAwaitSendableWhenChannelClosed() throws ExecutionException, InterruptedException, TimeoutException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CDCFlowController flowController = new CDCFlowController();
+        flowController.grant(0L, 0L);
+        CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> flowController.awaitSendable(channel));
+        channel.close();
+        flowController.notifyChanged();
+        assertFalse(future.get(1L, TimeUnit.SECONDS));
+    }
+}
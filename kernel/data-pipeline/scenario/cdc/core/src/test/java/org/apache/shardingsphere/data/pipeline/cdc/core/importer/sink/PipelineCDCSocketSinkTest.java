@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -31,6 +34,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +45,8 @@ class PipelineCDCSocketSinkTest {
         Channel mockChannel = mock(Channel.class);
         when(mockChannel.isWritable()).thenReturn(false, true);
         when(mockChannel.isActive()).thenReturn(true);
+        DefaultAttributeMap attributeMap = new DefaultAttributeMap();
+        when(mockChannel.attr(any())).thenAnswer(invocation -> attributeMap.attr(invocation.getArgument(0)));
         ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
         when(mockDatabase.getName()).thenReturn("test");
         try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"))) {
@@ -50,4 +56,22 @@ class PipelineCDCSocketSinkTest {
             assertThat(actual.getProcessedRecordsCount(), is(1));
         }
     }
+    
+    @Test
+    void assertWriteWithCredit() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CDCFlowController.get(channel).grant(1L, Long.MAX_VALUE);
+        ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
+        when(mockDatabase.getName()).thenReturn("test");
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, mockDatabase, Collections.singletonList("test.t_order"))) {
+            PipelineJobProgressUpdatedParameter actual = sink.write("ack", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
+            assertThat(actual.getProcessedRecordsCount(), is(1));
+            CDCResponse response = channel.readOutbound();
+            assertThat(response.getDataRecordResult().getAckId(), is("ack"));
+            assertThat(response.getDataRecordResult().getRecordCount(), is(1));
+            channel.close();
+            actual = sink.write("ack", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
+            assertThat(actual.getProcessedRecordsCount(), is(0));
+        }
+    }
 }
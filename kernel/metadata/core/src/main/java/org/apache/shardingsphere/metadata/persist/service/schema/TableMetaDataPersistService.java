@@ -22,10 +22,12 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.util.yaml.constructor.ShardingSphereYamlConstructor;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.metadata.persist.node.metadata.TableMetaDataNode;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.yaml.snakeyaml.Yaml;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -101,13 +103,15 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
         Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
-        tableNames.forEach(each -> {
+        Yaml yaml = new Yaml(new ShardingSphereYamlConstructor(YamlShardingSphereTable.class));
+        YamlTableSwapper swapper = new YamlTableSwapper();
+        for (String each : tableNames) {
             String table = repository.getDirectly(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, each,
                     repository.getDirectly(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each))));
             if (!Strings.isNullOrEmpty(table)) {
-                result.put(each.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class)));
+                result.put(each.toLowerCase(), swapper.swapToObject(yaml.loadAs(table, YamlShardingSphereTable.class)));
             }
-        });
+        }
         return result;
     }
     
@@ -35,6 +35,8 @@ import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUn
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.MissingTableListener;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.MissingTableLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
@@ -47,6 +49,8 @@ import org.apache.shardingsphere.mode.manager.context.ShardingSphereDatabaseCont
 import org.apache.shardingsphere.mode.manager.switcher.ResourceSwitchManager;
 import org.apache.shardingsphere.mode.manager.switcher.SwitchingResource;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.MetaDataSnapshotRevalidator;
+import org.apache.shardingsphere.mode.metadata.MissingTablePersistListener;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -75,6 +79,10 @@ public final class ContextManager implements AutoCloseable {
     
     private final ClusterStateContext clusterStateContext = new ClusterStateContext();
     
+    private final MetaDataSnapshotRevalidator metaDataSnapshotRevalidator;
+    
+    private final MissingTableListener missingTableListener;
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = new AtomicReference<>(metaDataContexts);
         this.instanceContext = instanceContext;
@@ -82,6 +90,9 @@ public final class ContextManager implements AutoCloseable {
         configurationContextManager = new ConfigurationContextManager(this.metaDataContexts, instanceContext);
         resourceMetaDataContextManager = new ResourceMetaDataContextManager(this.metaDataContexts);
         executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        metaDataSnapshotRevalidator = new MetaDataSnapshotRevalidator(this.metaDataContexts, instanceContext);
+        missingTableListener = new MissingTablePersistListener(this.metaDataContexts);
+        MissingTableLoader.register(missingTableListener);
     }
     
     /**
@@ -284,6 +295,8 @@ public final class ContextManager implements AutoCloseable {
     
     @Override
     public void close() {
+        MissingTableLoader.unregister(missingTableListener);
+        metaDataSnapshotRevalidator.close();
         executorEngine.close();
         metaDataContexts.get().close();
     }
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import com.google.common.collect.Lists;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.lock.GlobalLockNames;
+import org.apache.shardingsphere.infra.lock.LockContext;
+import org.apache.shardingsphere.infra.lock.LockDefinition;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Meta data snapshot revalidator.
+ * 
+ * <p>Table meta data loaded from persisted snapshot at startup is compared with storage units in small batches of tables on a background thread,
+ * changed tables are refreshed in memory and persisted as new active versions, tables absent from storage units are kept.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class MetaDataSnapshotRevalidator implements AutoCloseable {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    private static final long LOCK_TIMEOUT_MILLIS = 1000L;
+    
+    private final AtomicReference<MetaDataContexts> metaDataContexts;
+    
+    private final InstanceContext instanceContext;
+    
+    private ExecutorService executorService;
+    
+    /**
+     * Start revalidating in background if enabled.
+     */
+    public synchronized void start() {
+        if (null != executorService || !metaDataContexts.get().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_REVALIDATION_ENABLED)) {
+            return;
+        }
+        executorService = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("metadata-snapshot-revalidate-%d"));
+        executorService.execute(this::revalidate);
+    }
+    
+    /**
+     * Revalidate table meta data of all databases.
+     * Only the compute node holding the revalidation lock revalidates in cluster mode, others skip it.
+     */
+    @SuppressWarnings("unchecked")
+    public void revalidate() {
+        if (!instanceContext.isCluster()) {
+            revalidateDatabases();
+            return;
+        }
+        LockContext<LockDefinition> lockContext = instanceContext.getLockContext();
+        LockDefinition lockDefinition = new GlobalLockDefinition(GlobalLockNames.METADATA_SNAPSHOT_REVALIDATION.getLockName());
+        if (!lockContext.tryLock(lockDefinition, LOCK_TIMEOUT_MILLIS)) {
+            log.info("Skip revalidating meta data snapshot, it is being revalidated by another compute node");
+            return;
+        }
+        try {
+            revalidateDatabases();
+        } finally {
+            lockContext.unlock(lockDefinition);
+        }
+    }
+    
+    private void revalidateDatabases() {
+        for (ShardingSphereDatabase each : new ArrayList<>(metaDataContexts.get().getMetaData().getDatabases().values())) {
+            if (each.containsDataSource()) {
+                revalidateDatabase(each);
+            }
+        }
+    }
+    
+    private void revalidateDatabase(final ShardingSphereDatabase database) {
+        Collection<String> systemSchemas = new SystemDatabase(database.getProtocolType()).getSystemSchemas();
+        for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
+            if (systemSchemas.contains(entry.getKey())) {
+                continue;
+            }
+            for (List<String> each : Lists.partition(new ArrayList<>(getTableNames(database, entry.getKey(), entry.getValue())), BATCH_SIZE)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                revalidateTables(database, entry.getKey(), entry.getValue(), each);
+            }
+        }
+    }
+    
+    private void revalidateTables(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereSchema schema, final Collection<String> tableNames) {
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(),
+                database.getResourceMetaData().getStorageUnits(), database.getRuleMetaData().getRules(), metaDataContexts.get().getMetaData().getProps(), schemaName);
+        Map<String, ShardingSphereTable> changedTables;
+        try {
+            Map<String, ShardingSphereTable> loadedTables = GenericSchemaBuilder.build(tableNames, material).getOrDefault(schemaName, new ShardingSphereSchema()).getTables();
+            changedTables = GenericSchemaManager.getToBeAddedTables(loadedTables, schema.getTables());
+        } catch (final SQLException ex) {
+            log.warn("Revalidate meta data snapshot of database: {} schema: {} failed", database.getName(), schemaName, ex);
+            return;
+        }
+        if (changedTables.isEmpty()) {
+            return;
+        }
+        schema.putAll(changedTables);
+        MetaDataBasedPersistService persistService = metaDataContexts.get().getPersistService();
+        persistService.getMetaDataVersionPersistService().switchActiveVersion(
+                persistService.getDatabaseMetaDataService().getTableMetaDataPersistService().persistSchemaMetaData(database.getName(), schemaName, changedTables));
+    }
+    
+    private Collection<String> getTableNames(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereSchema schema) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(schema.getAllTableNames());
+        if (schemaName.equalsIgnoreCase(new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()))) {
+            database.getRuleMetaData().getAttributes(TableMapperRuleAttribute.class).forEach(each -> result.addAll(each.getLogicTableMapper().getTableNames()));
+        }
+        return result;
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
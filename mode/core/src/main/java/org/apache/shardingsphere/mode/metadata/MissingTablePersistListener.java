@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.MissingTableListener;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Missing table persist listener, which persists missing table loaded into meta data of current context manager.
+ */
+@RequiredArgsConstructor
+public final class MissingTablePersistListener implements MissingTableListener {
+    
+    private final AtomicReference<MetaDataContexts> metaDataContexts;
+    
+    @Override
+    public void onLoaded(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table) {
+        ShardingSphereMetaData metaData = metaDataContexts.get().getMetaData();
+        if (!metaData.containsDatabase(database.getName()) || database != metaData.getDatabase(database.getName())) {
+            return;
+        }
+        MetaDataBasedPersistService persistService = metaDataContexts.get().getPersistService();
+        persistService.getMetaDataVersionPersistService().switchActiveVersion(persistService.getDatabaseMetaDataService().getTableMetaDataPersistService()
+                .persistSchemaMetaData(database.getName(), schemaName, Collections.singletonMap(table.getName().toLowerCase(), table)));
+    }
+}
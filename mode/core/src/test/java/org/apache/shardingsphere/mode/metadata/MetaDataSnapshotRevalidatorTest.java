@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableNamesMapper;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(GenericSchemaBuilder.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MetaDataSnapshotRevalidatorTest {
+    
+    private MetaDataContexts metaDataContexts;
+    
+    private InstanceContext instanceContext;
+    
+    private ShardingSphereSchema schema;
+    
+    @BeforeEach
+    void setUp() {
+        schema = new ShardingSphereSchema(Collections.singletonMap("foo_tbl", createTable("foo_tbl")), Collections.emptyMap());
+        metaDataContexts = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
+        instanceContext = mock(InstanceContext.class, RETURNS_DEEP_STUBS);
+        ShardingSphereDatabase database = mockDatabase();
+        when(metaDataContexts.getMetaData().getDatabases()).thenReturn(Collections.singletonMap("foo_db", database));
+        when(metaDataContexts.getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(result.containsDataSource()).thenReturn(true);
+        when(result.getSchemas()).thenReturn(Collections.singletonMap("foo_db", schema));
+        TableNamesMapper logicTableMapper = new TableNamesMapper();
+        logicTableMapper.put("bar_tbl");
+        TableMapperRuleAttribute ruleAttribute = mock(TableMapperRuleAttribute.class);
+        when(ruleAttribute.getLogicTableMapper()).thenReturn(logicTableMapper);
+        when(result.getRuleMetaData().getAttributes(TableMapperRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertRevalidateWithChangedTables() throws SQLException {
+        ShardingSphereTable changedTable = new ShardingSphereTable("foo_tbl",
+                Collections.singleton(new ShardingSphereColumn("foo_col", Types.INTEGER, true, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        Map<String, ShardingSphereTable> loadedTables = new LinkedHashMap<>(2, 1F);
+        loadedTables.put("foo_tbl", changedTable);
+        loadedTables.put("bar_tbl", createTable("bar_tbl"));
+        when(GenericSchemaBuilder.build(eq(Arrays.asList("bar_tbl", "foo_tbl")), any())).thenReturn(Collections.singletonMap("foo_db", new ShardingSphereSchema(loadedTables, Collections.emptyMap())));
+        new MetaDataSnapshotRevalidator(new AtomicReference<>(metaDataContexts), instanceContext).revalidate();
+        assertThat(schema.getTable("foo_tbl"), is(changedTable));
+        assertTrue(schema.containsTable("bar_tbl"));
+        ArgumentCaptor<Map<String, ShardingSphereTable>> persistedTablesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(metaDataContexts.getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService()).persistSchemaMetaData(eq("foo_db"), eq("foo_db"), persistedTablesCaptor.capture());
+        assertThat(persistedTablesCaptor.getValue().size(), is(2));
+        verify(metaDataContexts.getPersistService().getMetaDataVersionPersistService()).switchActiveVersion(any());
+    }
+    
+    @Test
+    void assertRevalidateWithUnchangedTables() throws SQLException {
+        ShardingSphereSchema loadedSchema = new ShardingSphereSchema(Collections.singletonMap("foo_tbl", createTable("foo_tbl")), Collections.emptyMap());
+        when(GenericSchemaBuilder.build(any(), any())).thenReturn(Collections.singletonMap("foo_db", loadedSchema));
+        new MetaDataSnapshotRevalidator(new AtomicReference<>(metaDataContexts), instanceContext).revalidate();
+        assertThat(schema.getAllTableNames().size(), is(1));
+        verify(metaDataContexts.getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService(), never()).persistSchemaMetaData(anyString(), anyString(), anyMap());
+    }
+    
+    private ShardingSphereTable createTable(final String tableName) {
+        return new ShardingSphereTable(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertRevalidateInClusterWithLockAcquired() throws SQLException {
+        ShardingSphereSchema loadedSchema = new ShardingSphereSchema(Collections.singletonMap("bar_tbl", createTable("bar_tbl")), Collections.emptyMap());
+        when(GenericSchemaBuilder.build(any(), any())).thenReturn(Collections.singletonMap("foo_db", loadedSchema));
+        when(instanceContext.isCluster()).thenReturn(true);
+        when(instanceContext.getLockContext().tryLock(any(), anyLong())).thenReturn(true);
+        new MetaDataSnapshotRevalidator(new AtomicReference<>(metaDataContexts), instanceContext).revalidate();
+        assertTrue(schema.containsTable("bar_tbl"));
+        verify(instanceContext.getLockContext()).unlock(any());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertRevalidateInClusterWithoutLockAcquired() {
+        when(instanceContext.isCluster()).thenReturn(true);
+        when(instanceContext.getLockContext().tryLock(any(), anyLong())).thenReturn(false);
+        new MetaDataSnapshotRevalidator(new AtomicReference<>(metaDataContexts), instanceContext).revalidate();
+        verify(metaDataContexts.getMetaData(), never()).getDatabases();
+        verify(instanceContext.getLockContext(), never()).unlock(any());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MissingTablePersistListenerTest {
+    
+    private final ShardingSphereTable table = new ShardingSphereTable("FOO_TBL", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    
+    private MetaDataContexts metaDataContexts;
+    
+    private ShardingSphereDatabase database;
+    
+    @BeforeEach
+    void setUp() {
+        metaDataContexts = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
+        database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("foo_db");
+        when(metaDataContexts.getMetaData().containsDatabase("foo_db")).thenReturn(true);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db")).thenReturn(database);
+    }
+    
+    @Test
+    void assertOnLoaded() {
+        new MissingTablePersistListener(new AtomicReference<>(metaDataContexts)).onLoaded(database, "foo_schema", table);
+        verify(metaDataContexts.getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService())
+                .persistSchemaMetaData("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", table));
+        verify(metaDataContexts.getPersistService().getMetaDataVersionPersistService()).switchActiveVersion(any());
+    }
+    
+    @Test
+    void assertOnLoadedWithDatabaseOfOtherMetaData() {
+        ShardingSphereDatabase otherDatabase = mock(ShardingSphereDatabase.class);
+        when(otherDatabase.getName()).thenReturn("foo_db");
+        new MissingTablePersistListener(new AtomicReference<>(metaDataContexts)).onLoaded(otherDatabase, "foo_schema", table);
+        verify(metaDataContexts.getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService(), never()).persistSchemaMetaData(anyString(), anyString(), anyMap());
+    }
+}
@@ -58,6 +58,7 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         ContextManager result = new ContextManager(metaDataContexts, instanceContext);
         setContextManagerAware(result);
         registerOnline(registryCenter, param, result);
+        result.getMetaDataSnapshotRevalidator().start();
         return result;
     }
     
@@ -54,6 +54,7 @@ public final class StandaloneContextManagerBuilder implements ContextManagerBuil
         ContextManager result = new ContextManager(metaDataContexts, instanceContext);
         registerSubscriber(result);
         setContextManagerAware(result);
+        result.getMetaDataSnapshotRevalidator().start();
         return result;
     }
     
@@ -77,6 +77,7 @@ import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.implicit.ImplicitTransactionCallback;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -86,7 +87,10 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Database connector.
@@ -99,6 +103,8 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private final Collection<ResultSet> cachedResultSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
     
+    private final Collection<Future<?>> pendingExecutions = new LinkedList<>();
+    
     private final String driverType;
     
     private final ShardingSphereDatabase database;
@@ -154,6 +160,15 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add pending execution, which is cancelled and awaited before closing result sets and statements.
+     *
+     * @param execution execution completes after all statements settled
+     */
+    public void addPendingExecution(final Future<?> execution) {
+        pendingExecutions.add(execution);
+    }
+    
     /**
      * Execute to database.
      *
@@ -373,9 +388,20 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        Object[] result = new Object[queryHeaders.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closePendingExecutions();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -387,6 +413,36 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private void closePendingExecutions() {
+        for (Future<?> each : pendingExecutions) {
+            if (each.isDone()) {
+                continue;
+            }
+            each.cancel(true);
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException | CancellationException ignore) {
+            }
+        }
+        pendingExecutions.clear();
+    }
+    
+    private Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -404,6 +460,9 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
             try {
+                if (releaseStatement(each)) {
+                    continue;
+                }
                 each.cancel();
                 each.close();
             } catch (final SQLException ex) {
@@ -414,6 +473,14 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return result;
     }
     
+    private boolean releaseStatement(final Statement statement) throws SQLException {
+        Object statementManager = databaseConnectionManager.getConnectionSession().getStatementManager();
+        if (!(statement instanceof PreparedStatement) || !(statementManager instanceof JDBCBackendStatement) || !((JDBCBackendStatement) statementManager).isPreparedStatementCached()) {
+            return false;
+        }
+        return ((JDBCBackendStatement) statementManager).releaseStorageResource(statement.getConnection(), statement);
+    }
+    
     private Optional<SQLException> closeSQLFederationEngine() {
         if (null != proxySQLExecutor.getSqlFederationEngine()) {
             try {
@@ -23,10 +23,12 @@ import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ConnectionModeUtils;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
@@ -81,8 +83,8 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         if (connections.size() >= maxConnectionSize) {
             result = new ArrayList<>(connections).subList(connectionOffset, maxConnectionSize);
         } else if (connections.isEmpty()) {
-            Collection<Connection> newConnections = createNewConnections(dataSourceName, maxConnectionSize, connectionMode);
-            result = new ArrayList<>(newConnections).subList(connectionOffset, maxConnectionSize);
+            Collection<Connection> newConnections = createNewConnections(dataSourceName, maxConnectionSize, ConnectionModeUtils.getNewConnectionMode(connectionOffset, 0, connectionMode));
+            result = new ArrayList<>(newConnections).subList(connectionOffset, Math.min(maxConnectionSize, newConnections.size()));
             synchronized (cachedConnections) {
                 cachedConnections.putAll(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName, newConnections);
             }
@@ -90,9 +92,9 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         } else {
             List<Connection> allConnections = new ArrayList<>(maxConnectionSize);
             allConnections.addAll(connections);
-            List<Connection> newConnections = createNewConnections(dataSourceName, maxConnectionSize - connections.size(), connectionMode);
+            List<Connection> newConnections = createNewConnections(dataSourceName, maxConnectionSize - connections.size(), ConnectionModeUtils.getNewConnectionMode(connectionOffset, connections.size(), connectionMode));
             allConnections.addAll(newConnections);
-            result = allConnections.subList(connectionOffset, maxConnectionSize);
+            result = allConnections.subList(connectionOffset, Math.min(maxConnectionSize, allConnections.size()));
             synchronized (cachedConnections) {
                 cachedConnections.putAll(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName, newConnections);
             }
@@ -308,6 +310,7 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         synchronized (cachedConnections) {
             resetSessionVariablesIfNecessary(cachedConnections.values(), result);
             for (Connection each : cachedConnections.values()) {
+                closePreparedStatementCache(each);
                 try {
                     if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
                         each.rollback();
@@ -325,6 +328,13 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         return result;
     }
     
+    private void closePreparedStatementCache(final Connection connection) {
+        Object statementManager = connectionSession.getStatementManager();
+        if (statementManager instanceof JDBCBackendStatement) {
+            ((JDBCBackendStatement) statementManager).closePreparedStatementCache(connection);
+        }
+    }
+    
     private void resetSessionVariablesIfNecessary(final Collection<Connection> values, final Collection<SQLException> exceptions) {
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
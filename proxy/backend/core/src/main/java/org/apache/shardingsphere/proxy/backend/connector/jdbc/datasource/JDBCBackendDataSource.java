@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.GlobalDataSourceRegistry;
+import org.apache.shardingsphere.infra.datasource.pool.acquirer.BatchConnectionAcquirer;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.connector.BackendDataSource;
@@ -46,7 +48,7 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @param dataSourceName data source name
      * @param connectionSize size of connections
      * @param connectionMode connection mode
-     * @return connections
+     * @return connections, only one connection if connections of memory strictly mode can not be acquired in batch within timeout
      * @throws SQLException SQL exception
      */
     public List<Connection> getConnections(final String databaseName, final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
@@ -62,20 +64,12 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @param connectionSize size of connections to be got
      * @param connectionMode connection mode
      * @param transactionType transaction type
-     * @return connections
+     * @return connections, only one connection if connections of memory strictly mode can not be acquired in batch within timeout
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
-        DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()
-                .getDatabase(databaseName).getResourceMetaData().getStorageUnits().get(dataSourceName).getDataSource();
-        if (dataSourceName.contains(".")) {
-            String dataSourceStr = dataSourceName.split("\\.")[0];
-            if (GlobalDataSourceRegistry.getInstance().getCachedDataSources().containsKey(dataSourceStr)) {
-                dataSource = GlobalDataSourceRegistry.getInstance().getCachedDataSources().get(dataSourceStr);
-            }
-        }
+        DataSource dataSource = getDataSource(databaseName, dataSourceName);
         Preconditions.checkNotNull(dataSource, "Can not get connection from datasource %s.", dataSourceName);
         if (1 == connectionSize) {
             return Collections.singletonList(createConnection(databaseName, dataSourceName, dataSource, transactionType));
@@ -83,9 +77,19 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
-            return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        long timeoutMillis = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Long>getValue(ConfigurationPropertyKey.BATCH_CONNECTIONS_ACQUIRE_TIMEOUT_MILLISECONDS);
+        return BatchConnectionAcquirer.getInstance(dataSource).acquire(connectionSize, timeoutMillis, size -> createConnections(databaseName, dataSourceName, dataSource, size, transactionType));
+    }
+    
+    private DataSource getDataSource(final String databaseName, final String dataSourceName) {
+        if (dataSourceName.contains(".")) {
+            String dataSourceStr = dataSourceName.split("\\.")[0];
+            if (GlobalDataSourceRegistry.getInstance().getCachedDataSources().containsKey(dataSourceStr)) {
+                return GlobalDataSourceRegistry.getInstance().getCachedDataSources().get(dataSourceStr);
+            }
         }
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getResourceMetaData().getStorageUnits().get(dataSourceName).getDataSource();
     }
     
     private List<Connection> createConnections(final String databaseName, final String dataSourceName,
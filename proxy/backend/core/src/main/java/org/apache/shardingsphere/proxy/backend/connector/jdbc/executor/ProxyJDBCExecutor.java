@@ -19,22 +19,30 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.deferred.DeferredQueryResults;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Proxy JDBC executor.
@@ -70,15 +78,50 @@ public final class ProxyJDBCExecutor {
             DatabaseType protocolType = database.getProtocolType();
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext context = queryContext.getSqlStatementContext();
-            return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            false));
+            ProxyJDBCExecutorCallback firstCallback = ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(),
+                    databaseConnector, isReturnGeneratedKeys, isExceptionThrown, true);
+            ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(),
+                    databaseConnector, isReturnGeneratedKeys, isExceptionThrown, false);
+            return isAsyncQuery(metaDataContexts, database, context, executionGroupContext, isExceptionThrown)
+                    ? executeQueryAsync(executionGroupContext, firstCallback, callback)
+                    : jdbcExecutor.execute(executionGroupContext, firstCallback, callback);
         } finally {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
         }
     }
+    
+    private boolean isAsyncQuery(final MetaDataContexts metaDataContexts, final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext,
+                                 final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final boolean isExceptionThrown) {
+        return isExceptionThrown && sqlStatementContext.getSqlStatement() instanceof SelectStatement && executionGroupContext.getInputGroups().size() > 1
+                && metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_ASYNC_QUERY_ENABLED)
+                && database.getResourceMetaData().getStorageUnits().values().stream().allMatch(each -> each.getStorageType().equals(database.getProtocolType()));
+    }
+    
+    private List<ExecuteResult> executeQueryAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                  final ProxyJDBCExecutorCallback firstCallback, final ProxyJDBCExecutorCallback callback) throws SQLException {
+        DeferredQueryResults result = new DeferredQueryResults(executionGroupContext.getInputGroups().stream().mapToInt(each -> each.getInputs().size()).sum());
+        CompletableFuture<List<ExecuteResult>> future = jdbcExecutor.executeAsync(executionGroupContext, firstCallback, callback, 0L, result::fill);
+        result.bind(future);
+        databaseConnector.addPendingExecution(future);
+        if (!result.isFirstCompleted()) {
+            awaitFailure(future);
+        }
+        return new ArrayList<>(result.getQueryResults());
+    }
+    
+    private void awaitFailure(final CompletableFuture<List<ExecuteResult>> future) throws SQLException {
+        try {
+            future.get();
+        } catch (final InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+        throw new SQLException("Query results are less than execution units.");
+    }
 }
@@ -74,6 +74,11 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
         return new UpdateResult(Math.max(statement.getUpdateCount(), 0), isReturnGeneratedKeys ? getGeneratedKey(statement) : 0L);
     }
     
+    @Override
+    protected ExecuteResult mergeMultiStatementsResult(final ExecuteResult result, final Statement statement) throws SQLException {
+        return result instanceof UpdateResult ? new UpdateResult(getMultiStatementsUpdateCount(statement), ((UpdateResult) result).getLastInsertId()) : result;
+    }
+    
     protected abstract boolean execute(String sql, Statement statement, boolean isReturnGeneratedKeys) throws SQLException;
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
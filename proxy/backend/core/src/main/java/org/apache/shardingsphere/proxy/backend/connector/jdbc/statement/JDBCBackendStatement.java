@@ -18,12 +18,15 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
 
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -32,13 +35,19 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JDBC backend statement.
  */
 public final class JDBCBackendStatement implements ExecutorJDBCStatementManager {
     
+    private final Map<Connection, PreparedStatementCache> preparedStatementCaches = new ConcurrentHashMap<>();
+    
+    private Integer preparedStatementCacheSize;
+    
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option, final DatabaseType databaseType) throws SQLException {
         Statement result = connection.createStatement();
@@ -53,9 +62,7 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
                                            final DatabaseType databaseType) throws SQLException {
         String sql = executionUnit.getSqlUnit().getSql();
         List<Object> params = executionUnit.getSqlUnit().getParameters();
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(executionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql);
+        PreparedStatement result = prepareStatement(connection, sql, option.isReturnGeneratedKeys(), connectionMode);
         Iterator<Object> paramIterator = params.iterator();
         int index = 0;
         while (paramIterator.hasNext()) {
@@ -73,6 +80,65 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
         return result;
     }
     
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys, final ConnectionMode connectionMode) throws SQLException {
+        int cacheSize = getPreparedStatementCacheSize();
+        if (cacheSize > 0) {
+            return preparedStatementCaches.computeIfAbsent(connection, key -> new PreparedStatementCache(key, cacheSize)).borrow(sql, returnGeneratedKeys, connectionMode);
+        }
+        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    private int getPreparedStatementCacheSize() {
+        if (null == preparedStatementCacheSize) {
+            preparedStatementCacheSize = loadPreparedStatementCacheSize();
+        }
+        return preparedStatementCacheSize;
+    }
+    
+    private int loadPreparedStatementCacheSize() {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        return null == contextManager ? 0 : contextManager.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+    }
+    
+    /**
+     * Judge whether prepared statements are cached.
+     *
+     * @return prepared statements are cached or not, statements need not to be released if not cached
+     */
+    public boolean isPreparedStatementCached() {
+        return !preparedStatementCaches.isEmpty();
+    }
+    
+    /**
+     * Release statement after execution.
+     *
+     * @param connection connection of statement
+     * @param statement statement to be released
+     * @return whether statement is released to prepared statement cache, statement not released should be closed by caller
+     */
+    public boolean releaseStorageResource(final Connection connection, final Statement statement) {
+        if (null == connection || !isPreparedStatementCached()) {
+            return false;
+        }
+        PreparedStatementCache preparedStatementCache = preparedStatementCaches.get(connection);
+        return null != preparedStatementCache && preparedStatementCache.release(statement);
+    }
+    
+    /**
+     * Close prepared statement cache of connection.
+     *
+     * @param connection connection to be closed
+     */
+    public void closePreparedStatementCache(final Connection connection) {
+        if (null == connection) {
+            return;
+        }
+        PreparedStatementCache preparedStatementCache = preparedStatementCaches.remove(connection);
+        if (null != preparedStatementCache) {
+            preparedStatementCache.close();
+        }
+    }
+    
     private void setFetchSize(final Statement statement, final DatabaseType databaseType) throws SQLException {
         Optional<StatementMemoryStrictlyFetchSizeSetter> fetchSizeSetter = DatabaseTypedSPILoader.findService(StatementMemoryStrictlyFetchSizeSetter.class, databaseType);
         if (fetchSizeSetter.isPresent()) {
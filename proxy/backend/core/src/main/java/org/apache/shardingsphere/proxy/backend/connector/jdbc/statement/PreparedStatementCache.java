@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prepared statement cache of backend connection.
+ * 
+ * <p>Idle prepared statements are kept in least recently used order and reused by later executions of same SQL on same connection.
+ * Hits and misses of all caches are counted for monitoring.</p>
+ */
+@RequiredArgsConstructor
+public final class PreparedStatementCache {
+    
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    
+    private final Connection connection;
+    
+    private final int maxSize;
+    
+    private final Map<CacheKey, PreparedStatement> idleStatements = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private final Map<PreparedStatement, CacheKey> borrowedStatements = new IdentityHashMap<>();
+    
+    /**
+     * Get hit count of all prepared statement caches.
+     *
+     * @return hit count
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+    
+    /**
+     * Get miss count of all prepared statement caches.
+     *
+     * @return miss count
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.sum();
+    }
+    
+    /**
+     * Borrow prepared statement, prepare a new one if no idle prepared statement of SQL.
+     *
+     * @param sql SQL
+     * @param returnGeneratedKeys whether return generated keys
+     * @param connectionMode connection mode
+     * @return borrowed prepared statement
+     * @throws SQLException SQL exception
+     */
+    public synchronized PreparedStatement borrow(final String sql, final boolean returnGeneratedKeys, final ConnectionMode connectionMode) throws SQLException {
+        CacheKey key = new CacheKey(sql, returnGeneratedKeys, connectionMode);
+        PreparedStatement idleStatement = idleStatements.remove(key);
+        PreparedStatement result;
+        if (null == idleStatement || idleStatement.isClosed()) {
+            MISS_COUNT.increment();
+            result = prepare(key);
+        } else {
+            HIT_COUNT.increment();
+            result = idleStatement;
+        }
+        if (borrowedStatements.size() >= maxSize) {
+            removeClosedBorrowedStatements();
+        }
+        borrowedStatements.put(result, key);
+        return result;
+    }
+    
+    private PreparedStatement prepare(final CacheKey key) throws SQLException {
+        return key.returnGeneratedKeys ? connection.prepareStatement(key.sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(key.sql);
+    }
+    
+    private void removeClosedBorrowedStatements() throws SQLException {
+        Iterator<PreparedStatement> iterator = borrowedStatements.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isClosed()) {
+                iterator.remove();
+            }
+        }
+    }
+    
+    /**
+     * Release borrowed prepared statement to cache.
+     *
+     * @param statement statement to be released
+     * @return whether statement is borrowed from cache, statement not borrowed from cache should be closed by caller
+     */
+    public synchronized boolean release(final Statement statement) {
+        CacheKey key = borrowedStatements.remove(statement);
+        if (null == key) {
+            return false;
+        }
+        PreparedStatement preparedStatement = (PreparedStatement) statement;
+        try {
+            preparedStatement.clearParameters();
+        } catch (final SQLException ex) {
+            QuietlyCloser.close(preparedStatement);
+            return true;
+        }
+        QuietlyCloser.close(idleStatements.put(key, preparedStatement));
+        evictIdleStatements();
+        return true;
+    }
+    
+    private void evictIdleStatements() {
+        Iterator<Entry<CacheKey, PreparedStatement>> iterator = idleStatements.entrySet().iterator();
+        while (idleStatements.size() > maxSize && iterator.hasNext()) {
+            QuietlyCloser.close(iterator.next().getValue());
+            iterator.remove();
+        }
+    }
+    
+    /**
+     * Get idle statement size.
+     *
+     * @return idle statement size
+     */
+    public synchronized int getIdleSize() {
+        return idleStatements.size();
+    }
+    
+    /**
+     * Close all prepared statements of cache.
+     */
+    public synchronized void close() {
+        idleStatements.values().forEach(QuietlyCloser::close);
+        idleStatements.clear();
+        borrowedStatements.keySet().forEach(QuietlyCloser::close);
+        borrowedStatements.clear();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+        
+        private final ConnectionMode connectionMode;
+    }
+}
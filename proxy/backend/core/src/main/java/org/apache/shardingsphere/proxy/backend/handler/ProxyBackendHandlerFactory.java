@@ -64,6 +64,7 @@ import org.apache.shardingsphere.transaction.util.AutoCommitUtils;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -85,13 +86,30 @@ public final class ProxyBackendHandlerFactory {
      */
     public static ProxyBackendHandler newInstance(final DatabaseType databaseType, final String sql, final SQLStatement sqlStatement,
                                                   final ConnectionSession connectionSession, final HintValueContext hintValueContext) throws SQLException {
+        return newInstance(databaseType, sql, sqlStatement, Collections.emptyList(), connectionSession, hintValueContext);
+    }
+    
+    /**
+     * Create new instance of backend handler.
+     *
+     * @param databaseType database type
+     * @param sql SQL to be executed
+     * @param sqlStatement SQL statement
+     * @param params SQL parameters
+     * @param connectionSession connection session
+     * @param hintValueContext hint query context
+     * @return created instance
+     * @throws SQLException SQL exception
+     */
+    public static ProxyBackendHandler newInstance(final DatabaseType databaseType, final String sql, final SQLStatement sqlStatement, final List<Object> params,
+                                                  final ConnectionSession connectionSession, final HintValueContext hintValueContext) throws SQLException {
         if (sqlStatement instanceof EmptyStatement) {
             return new SkipBackendHandler(sqlStatement);
         }
         SQLStatementContext sqlStatementContext = sqlStatement instanceof DistSQLStatement ? new DistSQLStatementContext((DistSQLStatement) sqlStatement)
                 : new SQLBindEngine(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), connectionSession.getDefaultDatabaseName(), hintValueContext).bind(sqlStatement,
-                        Collections.emptyList());
-        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, Collections.emptyList(), hintValueContext);
+                        params);
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, params, hintValueContext);
         connectionSession.setQueryContext(queryContext);
         return newInstance(databaseType, queryContext, connectionSession, false);
     }
@@ -20,7 +20,12 @@ package org.apache.shardingsphere.proxy.backend.handler;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.parser.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.infra.parser.fingerprint.SQLFingerprintNormalizer;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -28,6 +33,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 
+import java.util.Optional;
+
 /**
  * Proxy SQL com query parser.
  */
@@ -43,11 +50,49 @@ public final class ProxySQLComQueryParser {
      * @return SQL statement
      */
     public static SQLStatement parse(final String sql, final DatabaseType databaseType, final ConnectionSession connectionSession) {
+        return parse(sql, databaseType, connectionSession, false);
+    }
+    
+    /**
+     * Parse SQL fingerprint.
+     * 
+     * <p>The parameterized SQL of fingerprint is cached, so the SQL statement is shared by all SQL which differ only in literals.</p>
+     * 
+     * @param sqlFingerprint SQL fingerprint to be parsed
+     * @param databaseType database type
+     * @param connectionSession connection session
+     * @return SQL statement
+     */
+    public static SQLStatement parse(final SQLFingerprint sqlFingerprint, final DatabaseType databaseType, final ConnectionSession connectionSession) {
+        return parse(sqlFingerprint.getParameterizedSQL(), databaseType, connectionSession, true);
+    }
+    
+    private static SQLStatement parse(final String sql, final DatabaseType databaseType, final ConnectionSession connectionSession, final boolean useCache) {
         if (SQLUtils.trimComment(sql).isEmpty()) {
             return new EmptyStatement();
         }
         SQLParserRule rule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        return rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parse(sql, false);
+        return rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parse(sql, useCache);
+    }
+    
+    /**
+     * Find SQL fingerprint.
+     * 
+     * <p>String literals are kept for database whose string parameters are strictly typed, such as PostgreSQL, to avoid type mismatch of parameters bound as varchar.</p>
+     * 
+     * @param sql SQL to be normalized
+     * @param databaseType database type
+     * @return SQL fingerprint, empty if SQL fingerprint is disabled or SQL can not be normalized
+     */
+    public static Optional<SQLFingerprint> findSQLFingerprint(final String sql, final DatabaseType databaseType) {
+        if (sql.isEmpty()) {
+            return Optional.empty();
+        }
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_SQL_FINGERPRINT_ENABLED)) {
+            return Optional.empty();
+        }
+        return SQLFingerprintNormalizer.normalize(sql, !new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData().isStringParameterStrictlyTyped());
     }
     
     private static DatabaseType getProtocolType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
@@ -89,6 +89,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseConnector.getRowData();
     }
     
+    @Override
+    public Object[] getRowValues() throws SQLException {
+        return databaseConnector.getRowValues();
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseConnector) {
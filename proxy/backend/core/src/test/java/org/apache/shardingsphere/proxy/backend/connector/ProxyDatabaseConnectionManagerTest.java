@@ -139,6 +139,16 @@ class ProxyDatabaseConnectionManagerTest {
         assertTrue(connectionSession.getTransactionStatus().isInTransaction());
     }
     
+    @Test
+    void assertGetConnectionsWhenFewerConnectionsAcquired() throws SQLException {
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(3), eq(ConnectionMode.MEMORY_STRICTLY))).thenReturn(MockConnectionUtils.mockNewConnections(1));
+        assertThat(databaseConnectionManager.getConnections("ds1", 0, 3, ConnectionMode.MEMORY_STRICTLY).size(), is(1));
+        assertThat(databaseConnectionManager.getConnectionSize(), is(1));
+        when(backendDataSource.getConnections(anyString(), anyString(), eq(2), eq(ConnectionMode.CONNECTION_STRICTLY))).thenReturn(MockConnectionUtils.mockNewConnections(2));
+        assertThat(databaseConnectionManager.getConnections("ds1", 2, 1, ConnectionMode.MEMORY_STRICTLY).size(), is(1));
+        assertThat(databaseConnectionManager.getConnectionSize(), is(3));
+    }
+    
     @Test
     void assertGetConnectionWithConnectionPostProcessors() throws SQLException {
         connectionSession.getTransactionStatus().setInTransaction(true);
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PreparedStatementCacheTest {
+    
+    @Mock
+    private Connection connection;
+    
+    @Test
+    void assertBorrowReleasedStatement() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+        assertThat(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY), is(preparedStatement));
+        assertTrue(cache.release(preparedStatement));
+        verify(preparedStatement).clearParameters();
+        assertThat(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY), is(preparedStatement));
+        verify(connection, times(1)).prepareStatement("SELECT 1");
+    }
+    
+    @Test
+    void assertCountHitsAndMisses() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+        long hitCount = PreparedStatementCache.getHitCount();
+        long missCount = PreparedStatementCache.getMissCount();
+        cache.release(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY));
+        cache.release(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY));
+        cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY);
+        assertThat(PreparedStatementCache.getHitCount() - hitCount, is(2L));
+        assertThat(PreparedStatementCache.getMissCount() - missCount, is(1L));
+    }
+    
+    @Test
+    void assertBorrowBorrowedStatement() throws SQLException {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class));
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+        assertThat(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY), not(sameInstance(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY))));
+    }
+    
+    @Test
+    void assertBorrowWithDifferentOptions() throws SQLException {
+        when(connection.prepareStatement("INSERT INTO t VALUES (1)")).thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class));
+        when(connection.prepareStatement("INSERT INTO t VALUES (1)", Statement.RETURN_GENERATED_KEYS)).thenReturn(mock(PreparedStatement.class));
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+        PreparedStatement preparedStatement = cache.borrow("INSERT INTO t VALUES (1)", false, ConnectionMode.MEMORY_STRICTLY);
+        assertTrue(cache.release(preparedStatement));
+        assertThat(cache.borrow("INSERT INTO t VALUES (1)", true, ConnectionMode.MEMORY_STRICTLY), not(sameInstance(preparedStatement)));
+        assertThat(cache.borrow("INSERT INTO t VALUES (1)", false, ConnectionMode.CONNECTION_STRICTLY), not(sameInstance(preparedStatement)));
+    }
+    
+    @Test
+    void assertBorrowClosedIdleStatement() throws SQLException {
+        PreparedStatement closedStatement = mock(PreparedStatement.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(closedStatement, preparedStatement);
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+        cache.release(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY));
+        when(closedStatement.isClosed()).thenReturn(true);
+        assertThat(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY), is(preparedStatement));
+    }
+    
+    @Test
+    void assertReleaseNotBorrowedStatement() {
+        assertFalse(new PreparedStatementCache(connection, 2).release(mock(PreparedStatement.class)));
+    }
+    
+    @Test
+    void assertEvictLeastRecentlyUsedStatement() throws SQLException {
+        PreparedStatement statement1 = mock(PreparedStatement.class);
+        PreparedStatement statement2 = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement1);
+        when(connection.prepareStatement("SELECT 2")).thenReturn(statement2);
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 1);
+        cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY);
+        cache.borrow("SELECT 2", false, ConnectionMode.MEMORY_STRICTLY);
+        cache.release(statement1);
+        cache.release(statement2);
+        assertThat(cache.getIdleSize(), is(1));
+        verify(statement1).close();
+        assertThat(cache.borrow("SELECT 2", false, ConnectionMode.MEMORY_STRICTLY), is(statement2));
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        PreparedStatement idleStatement = mock(PreparedStatement.class);
+        PreparedStatement borrowedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(idleStatement);
+        when(connection.prepareStatement("SELECT 2")).thenReturn(borrowedStatement);
+        PreparedStatementCache cache = new PreparedStatementCache(connection, 2);
+        cache.release(cache.borrow("SELECT 1", false, ConnectionMode.MEMORY_STRICTLY));
+        cache.borrow("SELECT 2", false, ConnectionMode.MEMORY_STRICTLY);
+        cache.close();
+        assertThat(cache.getIdleSize(), is(0));
+        verify(idleStatement).close();
+        verify(borrowedStatement).close();
+    }
+}
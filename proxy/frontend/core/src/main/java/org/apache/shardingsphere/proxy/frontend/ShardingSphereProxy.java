@@ -38,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
@@ -57,6 +58,7 @@ public final class ShardingSphereProxy {
     public ShardingSphereProxy() {
         bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
         workerGroup = getWorkerGroup();
+        initConnectionThreadExecutorGroup();
         Runtime.getRuntime().addShutdownHook(new Thread(this::close));
     }
     
@@ -65,6 +67,15 @@ public final class ShardingSphereProxy {
         return Epoll.isAvailable() ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads);
     }
     
+    private void initConnectionThreadExecutorGroup() {
+        boolean virtualThreadEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED);
+        ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(virtualThreadEnabled);
+        if (virtualThreadEnabled && !ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled()) {
+            log.warn("Virtual thread is not supported by current JVM, which requires JDK 21+, commands will be executed on platform threads.");
+        }
+    }
+    
     /**
      * Start ShardingSphere-Proxy.
      *
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +34,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * If virtual thread is enabled, commands of each connection run on its own virtual thread in order.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -42,6 +44,8 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private volatile ThreadFactory virtualThreadFactory;
+    
     /**
      * Get connection thread executor group.
      *
@@ -61,7 +65,30 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        ThreadFactory threadFactory = virtualThreadFactory;
+        if (null == threadFactory) {
+            threadFactory = runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId));
+        }
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+    
+    /**
+     * Set whether to run commands of each connection on its own virtual thread.
+     * It takes effect for connections registered later, and is ignored if virtual thread is not supported by current JVM.
+     *
+     * @param virtualThreadEnabled whether to enable virtual thread
+     */
+    public void setVirtualThreadEnabled(final boolean virtualThreadEnabled) {
+        virtualThreadFactory = virtualThreadEnabled ? VirtualThreadFactoryLoader.load().orElse(null) : null;
+    }
+    
+    /**
+     * Judge whether commands of each connection run on its own virtual thread.
+     *
+     * @return virtual thread is enabled or not
+     */
+    public boolean isVirtualThreadEnabled() {
+        return null != virtualThreadFactory;
     }
     
     /**
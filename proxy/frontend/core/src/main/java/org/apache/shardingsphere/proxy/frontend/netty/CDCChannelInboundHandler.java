@@ -27,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.data.pipeline.cdc.context.CDCConnectionContext;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink.CDCFlowController;
 import org.apache.shardingsphere.data.pipeline.cdc.exception.CDCExceptionWrapper;
 import org.apache.shardingsphere.data.pipeline.cdc.exception.CDCLoginException;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.handler.CDCBackendHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DropStreamingRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.GrantCreditRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StopStreamingRequestBody;
@@ -82,6 +84,13 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
             backendHandler.stopStreaming(connectionContext.getJobId(), ctx.channel().id());
         }
         ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(null);
+        CDCFlowController.get(ctx.channel()).notifyChanged();
+    }
+    
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+        CDCFlowController.get(ctx.channel()).notifyChanged();
+        ctx.fireChannelWritabilityChanged();
     }
     
     @Override
@@ -126,6 +135,9 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
             case DROP_STREAMING:
                 processDropStreamingRequest(ctx, request, connectionContext);
                 break;
+            case GRANT_CREDIT:
+                processGrantCreditRequest(ctx, request);
+                break;
             default:
                 log.warn("can't handle this type of request {}", request);
                 break;
@@ -192,6 +204,17 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         backendHandler.processAck(requestBody);
     }
     
+    private void processGrantCreditRequest(final ChannelHandlerContext ctx, final CDCRequest request) {
+        if (!request.hasGrantCreditRequestBody()) {
+            throw new CDCExceptionWrapper(request.getRequestId(), new PipelineInvalidParameterException("Grant credit request body is empty"));
+        }
+        GrantCreditRequestBody requestBody = request.getGrantCreditRequestBody();
+        if (requestBody.getRecordCredit() < 0L || requestBody.getByteCredit() < 0L) {
+            throw new CDCExceptionWrapper(request.getRequestId(), new PipelineInvalidParameterException("Credit can not be negative"));
+        }
+        backendHandler.processGrantCredit(ctx.channel(), requestBody);
+    }
+    
     private void processStartStreamingRequest(final ChannelHandlerContext ctx, final CDCRequest request, final CDCConnectionContext connectionContext) {
         if (!request.hasStartStreamingRequestBody()) {
             throw new CDCExceptionWrapper(request.getRequestId(), new PipelineInvalidParameterException("Start streaming request body is empty"));
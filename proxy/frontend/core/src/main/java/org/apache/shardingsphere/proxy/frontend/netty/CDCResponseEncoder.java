@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import com.google.protobuf.CodedOutputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+
+import java.io.IOException;
+
+/**
+ * CDC response encoder.
+ *
+ * <p>Encode CDC response with varint32 length prefix directly into one pooled buffer of exact size, instead of serializing it to byte array before prepending length.</p>
+ */
+public final class CDCResponseEncoder extends MessageToByteEncoder<CDCResponse> {
+    
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext ctx, final CDCResponse msg, final boolean preferDirect) {
+        int serializedSize = msg.getSerializedSize();
+        int frameSize = CodedOutputStream.computeUInt32SizeNoTag(serializedSize) + serializedSize;
+        return preferDirect ? ctx.alloc().ioBuffer(frameSize) : ctx.alloc().heapBuffer(frameSize);
+    }
+    
+    @Override
+    protected void encode(final ChannelHandlerContext ctx, final CDCResponse msg, final ByteBuf out) throws IOException {
+        int serializedSize = msg.getSerializedSize();
+        int frameSize = CodedOutputStream.computeUInt32SizeNoTag(serializedSize) + serializedSize;
+        out.ensureWritable(frameSize);
+        if (1 == out.nioBufferCount()) {
+            CodedOutputStream output = CodedOutputStream.newInstance(out.nioBuffer(out.writerIndex(), frameSize));
+            output.writeUInt32NoTag(serializedSize);
+            msg.writeTo(output);
+            output.flush();
+            out.writerIndex(out.writerIndex() + frameSize);
+            return;
+        }
+        CodedOutputStream output = CodedOutputStream.newInstance(new ByteBufOutputStream(out), frameSize);
+        output.writeUInt32NoTag(serializedSize);
+        msg.writeTo(output);
+        output.flush();
+    }
+}
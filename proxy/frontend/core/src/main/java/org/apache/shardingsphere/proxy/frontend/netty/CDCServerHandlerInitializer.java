@@ -20,9 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.netty;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.protobuf.ProtobufDecoder;
-import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
-import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 
 /**
@@ -34,8 +32,7 @@ public final class CDCServerHandlerInitializer extends ChannelInitializer<Socket
     protected void initChannel(final SocketChannel channel) {
         channel.pipeline().addLast(new ProtobufVarint32FrameDecoder());
         channel.pipeline().addLast(new ProtobufDecoder(CDCRequest.getDefaultInstance()));
-        channel.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
-        channel.pipeline().addLast(new ProtobufEncoder());
+        channel.pipeline().addLast(new CDCResponseEncoder());
         channel.pipeline().addLast(new CDCChannelInboundHandler());
     }
 }
@@ -46,6 +46,6 @@ public final class OKProxyState implements ProxyState {
     }
     
     private boolean requireOccupyThreadForConnection(final ConnectionSession connectionSession) {
-        return TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType());
+        return ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled() || TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType());
     }
 }
@@ -19,6 +19,18 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -39,4 +51,28 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    void assertExecuteInOrderWithVirtualThreadEnabled() throws InterruptedException, ExecutionException {
+        ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(true);
+        assertThat(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled(), is(VirtualThreadFactoryLoader.load().isPresent()));
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(false);
+        assertFalse(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled());
+        List<Integer> actual = new CopyOnWriteArrayList<>();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Future<?> lastFuture = null;
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            lastFuture = ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> {
+                actual.add(index);
+                threads.add(Thread.currentThread());
+            });
+        }
+        lastFuture.get();
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        assertThat(actual, is(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+        assertThat(threads.size(), is(1));
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CDCResponseEncoderTest {
+    
+    @Test
+    void assertEncode() {
+        DataRecordResult.Builder dataRecordResult = DataRecordResult.newBuilder().setAckId("ack");
+        for (int i = 0; i < 100; i++) {
+            dataRecordResult.addRecord(Record.newBuilder().setMetaData(MetaData.newBuilder().setDatabase("foo_db").setTable("t_order_" + i).build()).build());
+        }
+        CDCResponse expected = CDCResponse.newBuilder().setStatus(Status.SUCCEED).setRequestId("").setDataRecordResult(dataRecordResult).build();
+        EmbeddedChannel encodeChannel = new EmbeddedChannel(new CDCResponseEncoder());
+        encodeChannel.writeOutbound(expected);
+        ByteBuf encoded = encodeChannel.readOutbound();
+        assertThat(encoded.readableBytes(), is(encoded.capacity()));
+        EmbeddedChannel decodeChannel = new EmbeddedChannel(new ProtobufVarint32FrameDecoder(), new ProtobufDecoder(CDCResponse.getDefaultInstance()));
+        decodeChannel.writeInbound(encoded);
+        CDCResponse actual = decodeChannel.readInbound();
+        assertThat(actual, is(expected));
+    }
+}
@@ -20,9 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.netty;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.protobuf.ProtobufDecoder;
-import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
-import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
 import org.junit.jupiter.api.Test;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -41,8 +39,7 @@ class CDCServerHandlerInitializerTest {
         initializer.initChannel(channel);
         verify(pipeline).addLast(any(ProtobufVarint32FrameDecoder.class));
         verify(pipeline).addLast(any(ProtobufDecoder.class));
-        verify(pipeline).addLast(any(ProtobufVarint32LengthFieldPrepender.class));
-        verify(pipeline).addLast(any(ProtobufEncoder.class));
+        verify(pipeline).addLast(any(CDCResponseEncoder.class));
         verify(pipeline).addLast(any(CDCChannelInboundHandler.class));
     }
 }
@@ -35,8 +35,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.internal.configuration.plugins.Plugins;
 
+import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -74,7 +76,25 @@ class OKProxyStateTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
-    @SuppressWarnings({"unchecked", "SameParameterValue"})
+    @Test
+    void assertExecuteWithVirtualThreadEnabled() throws ReflectiveOperationException {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getConnectionId()).thenReturn(2);
+        ExecutorService executorService = registerMockExecutorService(2);
+        Field virtualThreadFactoryField = ConnectionThreadExecutorGroup.class.getDeclaredField("virtualThreadFactory");
+        Plugins.getMemberAccessor().set(virtualThreadFactoryField, ConnectionThreadExecutorGroup.getInstance(), (ThreadFactory) Thread::new);
+        try {
+            new OKProxyState().execute(context, null, mock(DatabaseProtocolFrontendEngine.class), connectionSession);
+        } finally {
+            Plugins.getMemberAccessor().set(virtualThreadFactoryField, ConnectionThreadExecutorGroup.getInstance(), null);
+        }
+        verify(executorService).execute(any(CommandExecutorTask.class));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(2);
+    }
+    
+    @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private ExecutorService registerMockExecutorService(final int connectionId) {
         Map<Integer, ExecutorService> executorServices = (Map<Integer, ExecutorService>) Plugins.getMemberAccessor()
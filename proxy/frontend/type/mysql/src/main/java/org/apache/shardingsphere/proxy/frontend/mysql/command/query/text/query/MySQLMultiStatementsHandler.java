@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -69,6 +70,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.regex.Pattern;
 
 /**
@@ -148,12 +150,24 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     
     private Collection<ExecutionContext> createExecutionContexts() {
         Collection<ExecutionContext> result = new LinkedList<>();
+        ConfigurationProperties props = getPropsWithoutMultiStatementsRewrite(metaDataContexts.getMetaData().getProps());
         for (QueryContext each : multiSQLQueryContexts) {
-            result.add(createExecutionContext(each));
+            result.add(createExecutionContext(each, props));
         }
         return result;
     }
     
+    private ConfigurationProperties getPropsWithoutMultiStatementsRewrite(final ConfigurationProperties props) {
+        // Execution units of each data source are already sent in one JDBC batch, and multi statements SQL unit in batch could not report update count of each statement.
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.EXTENDED_AGGREGATE_REWRITE_ENABLED)) {
+            return props;
+        }
+        Properties result = new Properties();
+        result.putAll(props.getProps());
+        result.setProperty(ConfigurationPropertyKey.EXTENDED_AGGREGATE_REWRITE_ENABLED.getKey(), Boolean.FALSE.toString());
+        return new ConfigurationProperties(result);
+    }
+    
     private Map<String, List<ExecutionUnit>> buildDataSourcesToExecutionUnits(final Collection<ExecutionContext> executionContexts) {
         Map<String, List<ExecutionUnit>> result = new HashMap<>();
         for (ExecutionContext each : executionContexts) {
@@ -164,11 +178,11 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
         return result;
     }
     
-    private ExecutionContext createExecutionContext(final QueryContext queryContext) {
+    private ExecutionContext createExecutionContext(final QueryContext queryContext, final ConfigurationProperties props) {
         RuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
         ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
         SQLAuditEngine.audit(queryContext.getSqlStatementContext(), queryContext.getParameters(), globalRuleMetaData, currentDatabase, null, queryContext.getHintValueContext());
-        return kernelProcessor.generateExecutionContext(queryContext, currentDatabase, globalRuleMetaData, metaDataContexts.getMetaData().getProps(), connectionSession.getConnectionContext());
+        return kernelProcessor.generateExecutionContext(queryContext, currentDatabase, globalRuleMetaData, props, connectionSession.getConnectionContext());
     }
     
     private Collection<ExecutionUnit> samplingExecutionUnit(final Map<String, List<ExecutionUnit>> dataSourcesToExecutionUnits) {
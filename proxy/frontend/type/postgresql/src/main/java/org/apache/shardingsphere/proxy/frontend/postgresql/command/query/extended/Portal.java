@@ -18,12 +18,12 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
 import lombok.Getter;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowEncoder;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowValuesPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
@@ -42,8 +42,6 @@ import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnection
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
@@ -80,6 +78,10 @@ public final class Portal {
     
     private ResponseHeader responseHeader;
     
+    private PostgreSQLDataRowEncoder rowEncoder;
+    
+    private PostgreSQLColumnType[] textConvertedColumnTypes;
+    
     public Portal(final String name, final PostgreSQLServerPreparedStatement preparedStatement, final List<Object> params, final List<PostgreSQLValueFormat> resultFormats,
                   final ProxyDatabaseConnectionManager databaseConnectionManager) throws SQLException {
         this.name = name;
@@ -171,38 +173,43 @@ public final class Portal {
     }
     
     private PostgreSQLPacket nextPacket() throws SQLException {
-        return new PostgreSQLDataRowPacket(getData(proxyBackendHandler.getRowData()));
+        if (null == rowEncoder) {
+            initRowEncoder(((QueryResponseHeader) responseHeader).getQueryHeaders());
+        }
+        Object[] values = proxyBackendHandler.getRowValues();
+        convertTextValues(values);
+        return new PostgreSQLDataRowValuesPacket(rowEncoder, values);
+    }
+    
+    private void initRowEncoder(final List<QueryHeader> queryHeaders) {
+        List<PostgreSQLColumnType> binaryColumnTypes = new ArrayList<>(queryHeaders.size());
+        textConvertedColumnTypes = new PostgreSQLColumnType[queryHeaders.size()];
+        for (int i = 0; i < queryHeaders.size(); i++) {
+            QueryHeader queryHeader = queryHeaders.get(i);
+            if (PostgreSQLColumnType.isBit(queryHeader.getColumnType(), queryHeader.getColumnTypeName())) {
+                textConvertedColumnTypes[i] = PostgreSQLColumnType.BIT;
+            } else if (PostgreSQLColumnType.isBool(queryHeader.getColumnType(), queryHeader.getColumnTypeName())) {
+                textConvertedColumnTypes[i] = PostgreSQLColumnType.BOOL;
+            }
+            binaryColumnTypes.add(PostgreSQLValueFormat.BINARY == determineValueFormat(i) ? PostgreSQLColumnType.valueOfJDBCType(queryHeader.getColumnType(), queryHeader.getColumnTypeName()) : null);
+        }
+        rowEncoder = new PostgreSQLDataRowEncoder(binaryColumnTypes);
     }
     
-    private List<Object> getData(final QueryResponseRow queryResponseRow) {
-        Collection<QueryResponseCell> cells = queryResponseRow.getCells();
-        List<Object> result = new ArrayList<>(cells.size());
-        List<QueryResponseCell> columns = new ArrayList<>(cells);
-        for (int i = 0; i < columns.size(); i++) {
-            PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : getCellData(columns.get(i)));
+    private void convertTextValues(final Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (PostgreSQLColumnType.BIT == textConvertedColumnTypes[i]) {
+                values[i] = PostgreSQLTextBitUtils.getTextValue(values[i]);
+            } else if (PostgreSQLColumnType.BOOL == textConvertedColumnTypes[i]) {
+                values[i] = PostgreSQLTextBoolUtils.getTextValue(values[i]);
+            }
         }
-        return result;
     }
     
     private PostgreSQLValueFormat determineValueFormat(final int columnIndex) {
         return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(columnIndex % resultFormats.size());
     }
     
-    private BinaryCell createBinaryCell(final QueryResponseCell cell) {
-        return new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(cell.getJdbcType(), cell.getColumnTypeName().orElse(null)), getCellData(cell));
-    }
-    
-    private Object getCellData(final QueryResponseCell cell) {
-        if (PostgreSQLColumnType.isBit(cell.getJdbcType(), cell.getColumnTypeName().orElse(null))) {
-            return PostgreSQLTextBitUtils.getTextValue(cell.getData());
-        }
-        if (PostgreSQLColumnType.isBool(cell.getJdbcType(), cell.getColumnTypeName().orElse(null))) {
-            return PostgreSQLTextBoolUtils.getTextValue(cell.getData());
-        }
-        return cell.getData();
-    }
-    
     private PostgreSQLIdentifierPacket createExecutionCompletedPacket(final boolean isSuspended, final int fetchedRows) {
         if (isSuspended) {
             suspendPortal();
@@ -20,23 +20,33 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowValuesPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -49,7 +59,12 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -78,6 +93,25 @@ class PostgreSQLComQueryExecutorTest {
         Plugins.getMemberAccessor().set(PostgreSQLComQueryExecutor.class.getDeclaredField("proxyBackendHandler"), executor, proxyBackendHandler);
     }
     
+    @Test
+    void assertNewInstanceWithSQLFingerprintKeepingStringLiterals() throws SQLException {
+        PostgreSQLComQueryPacket queryPacket = mock(PostgreSQLComQueryPacket.class);
+        when(queryPacket.getSQL()).thenReturn("SELECT * FROM t_order WHERE create_time > '2024-01-01' AND order_id = 10");
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        try (
+                MockedStatic<ProxyContext> proxyContext = mockStatic(ProxyContext.class, RETURNS_DEEP_STUBS);
+                MockedStatic<ProxySQLComQueryParser> queryParser = mockStatic(ProxySQLComQueryParser.class, CALLS_REAL_METHODS);
+                MockedStatic<ProxyBackendHandlerFactory> backendHandlerFactory = mockStatic(ProxyBackendHandlerFactory.class)) {
+            ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_SQL_FINGERPRINT_ENABLED.getKey(), "true")));
+            proxyContext.when(() -> ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+            queryParser.when(() -> ProxySQLComQueryParser.parse(any(SQLFingerprint.class), any(DatabaseType.class), eq(connectionSession))).thenReturn(sqlStatement);
+            new PostgreSQLComQueryExecutor(portalContext, queryPacket, connectionSession);
+            backendHandlerFactory.verify(() -> ProxyBackendHandlerFactory.newInstance(any(DatabaseType.class), eq("SELECT * FROM t_order WHERE create_time > '2024-01-01' AND order_id = ?"),
+                    eq(sqlStatement), eq(Collections.singletonList(10)), eq(connectionSession), any()));
+        }
+    }
+    
     @Test
     void assertExecuteQueryAndReturnEmptyResult() throws SQLException {
         QueryResponseHeader queryResponseHeader = mock(QueryResponseHeader.class);
@@ -119,8 +153,8 @@ class PostgreSQLComQueryExecutorTest {
     
     @Test
     void assertGetQueryRowPacket() throws SQLException {
-        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Collections.emptyList()));
+        when(proxyBackendHandler.getRowValues()).thenReturn(new Object[0]);
         PostgreSQLPacket actual = queryExecutor.getQueryRowPacket();
-        assertThat(actual, is(instanceOf(PostgreSQLDataRowPacket.class)));
+        assertThat(actual, is(instanceOf(PostgreSQLDataRowValuesPacket.class)));
     }
 }
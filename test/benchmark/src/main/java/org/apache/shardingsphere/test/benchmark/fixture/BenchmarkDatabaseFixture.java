@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sqlfederation.api.config.SQLFederationRuleConfiguration;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.timeservice.api.config.TimestampServiceRuleConfiguration;
+import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark database fixture.
+ * 
+ * <p>Builds an in-memory sharding database whose logic table {@code t_order} is split into {@code shardCount} actual tables,
+ * spread over at most {@value #MAX_STORAGE_UNIT_COUNT} storage units. No physical connection is opened.</p>
+ */
+@Getter
+public final class BenchmarkDatabaseFixture {
+    
+    public static final String DATABASE_NAME = "benchmark_db";
+    
+    public static final String LOGIC_TABLE_NAME = "t_order";
+    
+    private static final int MAX_STORAGE_UNIT_COUNT = 16;
+    
+    private final DatabaseType databaseType;
+    
+    private final int shardCount;
+    
+    private final int storageUnitCount;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final RuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final SQLParserRule sqlParserRule;
+    
+    private final SQLStatementParserEngine sqlStatementParserEngine;
+    
+    public BenchmarkDatabaseFixture(final String databaseType, final int shardCount) {
+        this.databaseType = TypedSPILoader.getService(DatabaseType.class, databaseType);
+        this.shardCount = shardCount;
+        storageUnitCount = Math.min(shardCount, MAX_STORAGE_UNIT_COUNT);
+        props = new ConfigurationProperties(new Properties());
+        sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(
+                DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION, DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION));
+        sqlStatementParserEngine = new SQLStatementParserEngine(this.databaseType, sqlParserRule.getSqlStatementCache(), sqlParserRule.getParseTreeCache());
+        globalRuleMetaData = new RuleMetaData(createGlobalRules());
+        database = createDatabase();
+        Map<String, ShardingSphereDatabase> databases = new LinkedHashMap<>(1, 1F);
+        databases.put(DATABASE_NAME, database);
+        metaData = new ShardingSphereMetaData(databases, new ResourceMetaData(Collections.emptyMap()), globalRuleMetaData, props);
+    }
+    
+    private Collection<ShardingSphereRule> createGlobalRules() {
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        result.add(sqlParserRule);
+        result.add(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()));
+        result.add(new SQLFederationRule(new SQLFederationRuleConfiguration(false, false, new CacheOption(2000, 65535L)), Collections.emptyMap()));
+        result.add(new TimestampServiceRule(new TimestampServiceRuleConfiguration("System", new Properties())));
+        return result;
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        Map<String, DataSource> dataSources = createDataSources();
+        Collection<ShardingSphereRule> rules = new LinkedList<>();
+        rules.add(new ShardingRule(createShardingRuleConfiguration(), dataSources, mock(InstanceContext.class)));
+        String schemaName = new DatabaseTypeRegistry(databaseType).getDefaultSchemaName(DATABASE_NAME);
+        return new ShardingSphereDatabase(DATABASE_NAME, databaseType, new ResourceMetaData(dataSources), new RuleMetaData(rules), Collections.singletonMap(schemaName, createSchema()));
+    }
+    
+    private Map<String, DataSource> createDataSources() {
+        Map<String, DataSource> result = new LinkedHashMap<>(storageUnitCount, 1F);
+        for (int i = 0; i < storageUnitCount; i++) {
+            MockedDataSource dataSource = new MockedDataSource();
+            dataSource.setUrl(getJdbcUrl("ds_" + i));
+            result.put("ds_" + i, dataSource);
+        }
+        return result;
+    }
+    
+    private String getJdbcUrl(final String databaseName) {
+        return "PostgreSQL".equals(databaseType.getType()) ? "jdbc:postgresql://127.0.0.1:5432/" + databaseName : "jdbc:mysql://127.0.0.1:3306/" + databaseName;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration(LOGIC_TABLE_NAME, createActualDataNodes());
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "database_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        result.getTables().add(tableRuleConfig);
+        result.getShardingAlgorithms().put("database_inline", createInlineAlgorithmConfiguration("ds_${order_id % " + storageUnitCount + "}"));
+        result.getShardingAlgorithms().put("table_inline", createInlineAlgorithmConfiguration(LOGIC_TABLE_NAME + "_${order_id % " + shardCount + "}"));
+        return result;
+    }
+    
+    private String createActualDataNodes() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < shardCount; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append("ds_").append(i % storageUnitCount).append('.').append(LOGIC_TABLE_NAME).append('_').append(i);
+        }
+        return result.toString();
+    }
+    
+    private AlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        props.setProperty("allow-range-query-with-inline-sharding", Boolean.TRUE.toString());
+        return new AlgorithmConfiguration("INLINE", props);
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        Collection<ShardingSphereColumn> columns = Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true),
+                new ShardingSphereColumn("amount", Types.DECIMAL, false, false, false, true, false, true));
+        ShardingSphereTable table = new ShardingSphereTable(LOGIC_TABLE_NAME, columns, Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema(Collections.singletonMap(LOGIC_TABLE_NAME, table), Collections.emptyMap());
+    }
+}
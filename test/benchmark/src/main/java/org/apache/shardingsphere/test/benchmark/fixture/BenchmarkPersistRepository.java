@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persist repository for benchmark, which keeps keys in memory as tree like registry center does.
+ */
+public final class BenchmarkPersistRepository implements PersistRepository {
+    
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    
+    private final Map<String, Collection<String>> children = new ConcurrentHashMap<>();
+    
+    @Override
+    public String getDirectly(final String key) {
+        return values.get(key);
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        Collection<String> result = children.get(key);
+        return null == result ? Collections.emptyList() : new ArrayList<>(result);
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        return values.containsKey(key);
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        String current = key;
+        int index = current.lastIndexOf(PATH_SEPARATOR);
+        while (index > 0) {
+            String parent = current.substring(0, index);
+            children.computeIfAbsent(parent, unused -> Collections.synchronizedSet(new LinkedHashSet<>())).add(current.substring(index + 1));
+            values.putIfAbsent(parent, "");
+            current = parent;
+            index = current.lastIndexOf(PATH_SEPARATOR);
+        }
+        values.put(key, value);
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        values.put(key, value);
+    }
+    
+    @Override
+    public void delete(final String key) {
+        values.remove(key);
+        children.remove(key);
+        int index = key.lastIndexOf(PATH_SEPARATOR);
+        if (index > 0 && children.containsKey(key.substring(0, index))) {
+            children.get(key.substring(0, index)).remove(key.substring(index + 1));
+        }
+    }
+    
+    @Override
+    public void close() {
+        values.clear();
+        children.clear();
+    }
+    
+    @Override
+    public String getType() {
+        return "BENCHMARK";
+    }
+}
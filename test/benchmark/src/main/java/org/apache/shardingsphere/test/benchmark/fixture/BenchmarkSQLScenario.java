@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.fixture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark SQL scenario.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkSQLScenario {
+    
+    POINT("SELECT order_id, user_id, status FROM t_order WHERE order_id = ?", Collections.singletonList(1L)),
+    
+    IN_LIST("SELECT order_id, user_id, status FROM t_order WHERE order_id IN (?, ?, ?, ?, ?, ?, ?, ?) ORDER BY order_id", Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L)),
+    
+    RANGE("SELECT order_id, user_id, status FROM t_order WHERE order_id BETWEEN ? AND ? ORDER BY order_id", Arrays.asList(1L, 10000L));
+    
+    private final String sql;
+    
+    private final List<Object> params;
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkDatabaseFixture;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkSQLScenario;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Kernel benchmark state.
+ * 
+ * <p>Every stage input is prepared once per trial, so that each stage benchmark measures its own stage only.</p>
+ */
+@State(Scope.Benchmark)
+@Getter
+public class KernelBenchmarkState {
+    
+    private static final int ROWS_PER_QUERY_RESULT = 16;
+    
+    @Param({"1", "16", "256", "4096"})
+    private int shardCount;
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String databaseType;
+    
+    @Param({"POINT", "IN_LIST", "RANGE"})
+    private BenchmarkSQLScenario scenario;
+    
+    private BenchmarkDatabaseFixture fixture;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private final ConnectionContext connectionContext = new ConnectionContext();
+    
+    private SQLStatement sqlStatement;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    private QueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> queryResultRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new BenchmarkDatabaseFixture(databaseType, shardCount);
+        sqlStatement = parse(false);
+        queryContext = new QueryContext(bind(sqlStatement), scenario.getSql(), scenario.getParams(), new HintValueContext());
+        routeContext = route(queryContext);
+        queryResultMetaData = new RawQueryResultMetaData(Arrays.asList(
+                new RawQueryResultColumnMetaData(BenchmarkDatabaseFixture.LOGIC_TABLE_NAME, "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+                new RawQueryResultColumnMetaData(BenchmarkDatabaseFixture.LOGIC_TABLE_NAME, "user_id", "user_id", Types.INTEGER, "INT", 11, 0),
+                new RawQueryResultColumnMetaData(BenchmarkDatabaseFixture.LOGIC_TABLE_NAME, "status", "status", Types.VARCHAR, "VARCHAR", 32, 0)));
+        queryResultRows = createQueryResultRows(routeContext.getRouteUnits().size());
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createQueryResultRows(final int queryResultCount) {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(queryResultCount);
+        for (int i = 0; i < queryResultCount; i++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(ROWS_PER_QUERY_RESULT);
+            for (int j = 0; j < ROWS_PER_QUERY_RESULT; j++) {
+                long orderId = (long) j * queryResultCount + i;
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList(orderId, (int) (orderId % 1000), "OK")));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL of current scenario.
+     *
+     * @param useCache whether to use SQL statement cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final boolean useCache) {
+        return fixture.getSqlStatementParserEngine().parse(scenario.getSql(), useCache);
+    }
+    
+    /**
+     * Bind SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final SQLStatement sqlStatement) {
+        return new SQLBindEngine(fixture.getMetaData(), BenchmarkDatabaseFixture.DATABASE_NAME, new HintValueContext()).bind(sqlStatement, scenario.getParams());
+    }
+    
+    /**
+     * Route query.
+     *
+     * @param queryContext query context
+     * @return route context
+     */
+    public RouteContext route(final QueryContext queryContext) {
+        return new SQLRouteEngine(fixture.getDatabase().getRuleMetaData().getRules(), fixture.getProps())
+                .route(connectionContext, queryContext, fixture.getGlobalRuleMetaData(), fixture.getDatabase());
+    }
+    
+    /**
+     * Rewrite query.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return SQL rewrite result
+     */
+    public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext) {
+        return new SQLRewriteEntry(fixture.getDatabase(), fixture.getGlobalRuleMetaData(), fixture.getProps()).rewrite(queryContext, routeContext, connectionContext);
+    }
+    
+    /**
+     * Generate execution context with kernel processor.
+     *
+     * @param queryContext query context
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext) {
+        return kernelProcessor.generateExecutionContext(queryContext, fixture.getDatabase(), fixture.getGlobalRuleMetaData(), fixture.getProps(), connectionContext);
+    }
+    
+    /**
+     * Merge prepared query results and consume all merged rows.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return consumed row count
+     * @throws SQLException SQL exception
+     */
+    public int mergeAndConsume(final SQLStatementContext sqlStatementContext) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(queryResultRows.size());
+        for (List<MemoryQueryResultDataRow> each : queryResultRows) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        MergedResult mergedResult = new MergeEngine(fixture.getDatabase(), fixture.getProps(), connectionContext).merge(queryResults, sqlStatementContext);
+        int result = 0;
+        while (mergedResult.next()) {
+            mergedResult.getValue(1, Object.class);
+            result++;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.metadata;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.apache.shardingsphere.test.benchmark.fixture.BenchmarkPersistRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for loading table meta data of database at startup.
+ *
+ * <p>
+ * Storage loads meta data of all tables from storage unit through JDBC as first startup does,
+ * and snapshot loads persisted meta data snapshot from mode repository without touching storage unit as later startups do.
+ * Storage unit is H2 in memory database and mode repository keeps keys in memory, so remote storage units make the gap larger.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MetaDataSnapshotStartupBenchmark {
+    
+    private static final String DATABASE_NAME = "benchmark_db";
+    
+    @Param("10000")
+    private int tableCount;
+    
+    private HikariDataSource storageDataSource;
+    
+    private GenericSchemaBuilderMaterial material;
+    
+    private Collection<String> tableNames;
+    
+    private PersistRepository repository;
+    
+    private MetaDataPersistService persistService;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        storageDataSource = createStorageDataSource();
+        tableNames = createTables();
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        material = new GenericSchemaBuilderMaterial(databaseType, Collections.singletonMap("ds_0", databaseType), Collections.singletonMap("ds_0", storageDataSource),
+                Collections.emptyList(), new ConfigurationProperties(new Properties()), new DatabaseTypeRegistry(databaseType).getDefaultSchemaName(DATABASE_NAME));
+        repository = new BenchmarkPersistRepository();
+        persistService = new MetaDataPersistService(repository);
+        for (Entry<String, ShardingSphereSchema> entry : GenericSchemaBuilder.build(tableNames, material).entrySet()) {
+            persistService.getDatabaseMetaDataService().persist(DATABASE_NAME, entry.getKey(), entry.getValue());
+        }
+    }
+    
+    private HikariDataSource createStorageDataSource() {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl("jdbc:h2:mem:benchmark_storage;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
+        result.setUsername("sa");
+        result.setPassword("");
+        return result;
+    }
+    
+    private Collection<String> createTables() throws SQLException {
+        Collection<String> result = new LinkedList<>();
+        try (
+                Connection connection = storageDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < tableCount; i++) {
+                String tableName = "t_order_" + i;
+                statement.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(50), merchant_id INT, remark VARCHAR(255))", tableName));
+                statement.execute(String.format("CREATE INDEX IF NOT EXISTS idx_user_id_%s ON %s (user_id)", i, tableName));
+                result.add(tableName);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Load meta data of all tables from storage unit.
+     *
+     * @return loaded schemas
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public Map<String, ShardingSphereSchema> loadFromStorage() throws SQLException {
+        return GenericSchemaBuilder.build(tableNames, material);
+    }
+    
+    /**
+     * Load meta data of all tables from persisted snapshot.
+     *
+     * @return loaded schemas
+     */
+    @Benchmark
+    public Map<String, ShardingSphereSchema> loadFromSnapshot() {
+        return persistService.getDatabaseMetaDataService().loadSchemas(DATABASE_NAME);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        repository.close();
+        storageDataSource.close();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import org.apache.shardingsphere.data.pipeline.cdc.client.CDCClient;
+import org.apache.shardingsphere.data.pipeline.cdc.client.config.CDCClientConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink.CDCFlowController;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink.PipelineCDCSocketSink;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.proxy.frontend.netty.CDCResponseEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark for data records sent by CDC socket sink and consumed by local CDC client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CDCSocketSinkBenchmark {
+    
+    private static final int BATCH_SIZE = 256;
+    
+    @Param({"protobuf", "pooled"})
+    private String encoder;
+    
+    @Param({"0", "4096"})
+    private long recordCreditWindow;
+    
+    private final LongAdder consumedRecords = new LongAdder();
+    
+    private final Collection<Record> records = new ArrayList<>(BATCH_SIZE);
+    
+    private NioEventLoopGroup serverGroup;
+    
+    private Channel serverChannel;
+    
+    private CDCClient client;
+    
+    private PipelineCDCSocketSink sink;
+    
+    /**
+     * Set up.
+     *
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     * @throws TimeoutException timeout exception
+     */
+    @Setup
+    public void setUp() throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<Channel> acceptedChannel = new CompletableFuture<>();
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap().group(serverGroup).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<SocketChannel>() {
+            
+            @Override
+            protected void initChannel(final SocketChannel channel) {
+                initServerChannel(channel);
+                acceptedChannel.complete(channel);
+            }
+        }).bind("127.0.0.1", 0).sync().channel();
+        long byteCreditWindow = recordCreditWindow * 1024L;
+        client = new CDCClient(new CDCClientConfiguration("127.0.0.1", ((InetSocketAddress) serverChannel.localAddress()).getPort(), 10000, recordCreditWindow, byteCreditWindow));
+        client.connect(each -> consumedRecords.add(each.size()), (ctx, cause) -> {
+        }, (ctx, result) -> {
+        });
+        if (recordCreditWindow > 0L) {
+            client.grantCredit(recordCreditWindow, byteCreditWindow);
+        }
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", null, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), Collections.emptyMap());
+        sink = new PipelineCDCSocketSink(acceptedChannel.get(10L, TimeUnit.SECONDS), database, Collections.singletonList("public.t_order"));
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            records.add(createDataRecord(i));
+        }
+    }
+    
+    private void initServerChannel(final SocketChannel channel) {
+        channel.pipeline().addLast(new ProtobufVarint32FrameDecoder());
+        channel.pipeline().addLast(new ProtobufDecoder(CDCRequest.getDefaultInstance()));
+        if ("pooled".equals(encoder)) {
+            channel.pipeline().addLast(new CDCResponseEncoder());
+        } else {
+            channel.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
+            channel.pipeline().addLast(new ProtobufEncoder());
+        }
+        channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+            
+            @Override
+            public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                CDCRequest request = (CDCRequest) msg;
+                if (request.hasGrantCreditRequestBody()) {
+                    CDCFlowController.get(ctx.channel()).grant(request.getGrantCreditRequestBody().getRecordCredit(), request.getGrantCreditRequestBody().getByteCredit());
+                }
+            }
+            
+            @Override
+            public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+                CDCFlowController.get(ctx.channel()).notifyChanged();
+            }
+        });
+    }
+    
+    private DataRecord createDataRecord(final int index) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 5);
+        result.addColumn(new Column("order_id", 1000000L + index, true, true));
+        result.addColumn(new Column("user_id", index % 100, true, false));
+        result.addColumn(new Column("status", "PAID", true, false));
+        result.addColumn(new Column("amount", new BigDecimal("1234.56"), true, false));
+        result.addColumn(new Column("remark", "delivered to the front desk of building 7", true, false));
+        return result;
+    }
+    
+    /**
+     * Write one batch of data records to CDC client.
+     *
+     * @return processed records count
+     */
+    @Benchmark
+    public int write() {
+        return sink.write("ack", records).getProcessedRecordsCount();
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        client.close();
+        serverChannel.close().syncUninterruptibly();
+        serverGroup.shutdownGracefully();
+    }
+}
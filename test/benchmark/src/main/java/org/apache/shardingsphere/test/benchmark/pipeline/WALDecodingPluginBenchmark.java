@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.core.Oid;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decoding one insert change event of PostgreSQL logical replication by test_decoding and pgoutput plugins.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WALDecodingPluginBenchmark {
+    
+    private static final String[] COLUMN_NAMES = {"order_id", "user_id", "status", "amount", "remark"};
+    
+    private static final String[] COLUMN_TYPES = {"bigint", "integer", "character varying", "numeric", "text"};
+    
+    private static final int[] COLUMN_TYPE_OIDS = {Oid.INT8, Oid.INT4, Oid.VARCHAR, Oid.NUMERIC, Oid.TEXT};
+    
+    private static final String[] COLUMN_VALUES = {"1000000001", "10001", "PAID", "1234.56", "delivered to the front desk of building 7"};
+    
+    @Param({"test_decoding", "pgoutput"})
+    private String decodingPluginName;
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L));
+    
+    private DecodingPlugin decodingPlugin;
+    
+    private ByteBuffer message;
+    
+    /**
+     * Set up.
+     *
+     * @throws IOException IO exception
+     */
+    @Setup
+    public void setUp() throws IOException {
+        if ("pgoutput".equals(decodingPluginName)) {
+            decodingPlugin = new PgOutputDecodingPlugin(null);
+            decodingPlugin.decode(createPgOutputRelationMessage(), logSequenceNumber);
+            message = createPgOutputInsertMessage();
+        } else {
+            decodingPlugin = new TestDecodingPlugin(null);
+            message = createTestDecodingInsertMessage();
+        }
+    }
+    
+    private ByteBuffer createTestDecodingInsertMessage() {
+        StringBuilder result = new StringBuilder("table public.t_order: INSERT:");
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            String value = 2 == i || 4 == i ? "'" + COLUMN_VALUES[i] + "'" : COLUMN_VALUES[i];
+            result.append(' ').append(COLUMN_NAMES[i]).append('[').append(COLUMN_TYPES[i]).append("]:").append(value);
+        }
+        return ByteBuffer.wrap(result.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private ByteBuffer createPgOutputRelationMessage() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(result);
+        out.writeByte('R');
+        out.writeInt(1);
+        writeCString(out, "public");
+        writeCString(out, "t_order");
+        out.writeByte('d');
+        out.writeShort(COLUMN_NAMES.length);
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            out.writeByte(0 == i ? 1 : 0);
+            writeCString(out, COLUMN_NAMES[i]);
+            out.writeInt(COLUMN_TYPE_OIDS[i]);
+            out.writeInt(-1);
+        }
+        return ByteBuffer.wrap(result.toByteArray());
+    }
+    
+    private ByteBuffer createPgOutputInsertMessage() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(result);
+        out.writeByte('I');
+        out.writeInt(1);
+        out.writeByte('N');
+        out.writeShort(COLUMN_VALUES.length);
+        for (String each : COLUMN_VALUES) {
+            byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+            out.writeByte('t');
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        return ByteBuffer.wrap(result.toByteArray());
+    }
+    
+    private void writeCString(final DataOutputStream out, final String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+        out.writeByte(0);
+    }
+    
+    /**
+     * Decode insert change event.
+     *
+     * @return WAL event
+     */
+    @Benchmark
+    public AbstractWALEvent decode() {
+        message.rewind();
+        return decodingPlugin.decode(message, logSequenceNumber);
+    }
+}
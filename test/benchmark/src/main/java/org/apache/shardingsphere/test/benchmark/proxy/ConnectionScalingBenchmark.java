@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for executing one blocking command on each of many connections.
+ *
+ * <p>
+ * SHARED runs commands on user executor group, PLATFORM runs commands of each connection on its own platform thread as XA sessions do,
+ * and VIRTUAL runs commands of each connection on its own virtual thread, which requires JDK 21+.
+ * Use {@code -p executorMode=...} or {@code -p connectionCount=...} to run part of them.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConnectionScalingBenchmark {
+    
+    private static final long COMMAND_BLOCKING_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    @Param({"1000", "10000", "50000"})
+    private int connectionCount;
+    
+    @Param({"SHARED", "PLATFORM", "VIRTUAL"})
+    private String executorMode;
+    
+    private ExecutorService[] executorServices;
+    
+    /**
+     * Set up.
+     *
+     * @throws IllegalStateException illegal state exception
+     */
+    @Setup
+    public void setUp() {
+        ConnectionThreadExecutorGroup connectionThreadExecutorGroup = ConnectionThreadExecutorGroup.getInstance();
+        connectionThreadExecutorGroup.setVirtualThreadEnabled("VIRTUAL".equals(executorMode));
+        if ("VIRTUAL".equals(executorMode) && !connectionThreadExecutorGroup.isVirtualThreadEnabled()) {
+            throw new IllegalStateException("Virtual thread requires JDK 21+.");
+        }
+        executorServices = new ExecutorService[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            if ("SHARED".equals(executorMode)) {
+                executorServices[i] = UserExecutorGroup.getInstance().getExecutorService();
+            } else {
+                connectionThreadExecutorGroup.register(i);
+                executorServices[i] = connectionThreadExecutorGroup.get(i);
+            }
+        }
+    }
+    
+    /**
+     * Execute one command on each connection and wait for all of them.
+     *
+     * @throws InterruptedException interrupted exception
+     */
+    @Benchmark
+    public void executeCommandOnEachConnection() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(connectionCount);
+        for (ExecutorService each : executorServices) {
+            each.execute(() -> {
+                LockSupport.parkNanos(COMMAND_BLOCKING_NANOS);
+                latch.countDown();
+            });
+        }
+        latch.await();
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        if (!"SHARED".equals(executorMode)) {
+            for (int i = 0; i < connectionCount; i++) {
+                ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(i);
+            }
+        }
+        ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(false);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowValuesPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowEncoder;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowValuesPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for encoding rows of query result into frontend protocol packets.
+ *
+ * <p>
+ * ROW_OBJECTS creates query response row, cells and protocol row objects for each row as before,
+ * DIRECT reads row values into one array and writes them by row encoder with column encoders chosen once.
+ * Use {@code -p protocol=...} to run part of them.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RowEncodingBenchmark {
+    
+    private static final int ROW_COUNT = 1000;
+    
+    private static final int[] COLUMN_TYPES = {Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.DECIMAL, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR};
+    
+    @Param({"MYSQL_BINARY", "MYSQL_TEXT", "POSTGRESQL_TEXT"})
+    private String protocol;
+    
+    @Param({"ROW_OBJECTS", "DIRECT"})
+    private String encoding;
+    
+    private Object[][] resultSet;
+    
+    private ByteBuf byteBuf;
+    
+    private PacketPayload payload;
+    
+    private List<MySQLBinaryColumnType> mysqlBinaryColumnTypes;
+    
+    private MySQLResultSetRowEncoder mysqlRowEncoder;
+    
+    private PostgreSQLDataRowEncoder postgresqlRowEncoder;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        resultSet = new Object[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            resultSet[i] = new Object[]{(long) i, i % 100, "order_" + i, "user_" + i % 1000, new BigDecimal(i + ".25"), new Timestamp(1700000000000L + i * 1000L), null, "status_ok"};
+        }
+        byteBuf = Unpooled.buffer(ROW_COUNT * 128);
+        payload = protocol.startsWith("MYSQL") ? new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8) : new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        mysqlBinaryColumnTypes = new ArrayList<>(COLUMN_TYPES.length);
+        for (int each : COLUMN_TYPES) {
+            mysqlBinaryColumnTypes.add(MySQLBinaryColumnType.valueOfJDBCType(each));
+        }
+    }
+    
+    /**
+     * Encode all rows of result set.
+     *
+     * @return written bytes
+     */
+    @Benchmark
+    public int encodeRows() {
+        byteBuf.clear();
+        mysqlRowEncoder = null;
+        postgresqlRowEncoder = null;
+        for (Object[] each : resultSet) {
+            createRowPacket(each).write(payload);
+        }
+        return byteBuf.writerIndex();
+    }
+    
+    private DatabasePacket createRowPacket(final Object[] row) {
+        if ("DIRECT".equals(encoding)) {
+            return createDirectRowPacket(getRowValues(row));
+        }
+        QueryResponseRow queryResponseRow = getRowData(row);
+        switch (protocol) {
+            case "MYSQL_BINARY":
+                List<BinaryCell> cells = new ArrayList<>(queryResponseRow.getCells().size());
+                for (QueryResponseCell each : queryResponseRow.getCells()) {
+                    cells.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()), each.getData()));
+                }
+                return new MySQLBinaryResultSetRowPacket(new BinaryRow(cells));
+            case "MYSQL_TEXT":
+                return new MySQLTextResultSetRowPacket(queryResponseRow.getData());
+            default:
+                return new PostgreSQLDataRowPacket(queryResponseRow.getData());
+        }
+    }
+    
+    private DatabasePacket createDirectRowPacket(final Object[] values) {
+        if ("POSTGRESQL_TEXT".equals(protocol)) {
+            if (null == postgresqlRowEncoder) {
+                postgresqlRowEncoder = new PostgreSQLDataRowEncoder(values.length);
+            }
+            return new PostgreSQLDataRowValuesPacket(postgresqlRowEncoder, values);
+        }
+        if (null == mysqlRowEncoder) {
+            mysqlRowEncoder = "MYSQL_BINARY".equals(protocol) ? new MySQLBinaryResultSetRowEncoder(mysqlBinaryColumnTypes) : MySQLTextResultSetRowEncoder.getInstance();
+        }
+        return new MySQLResultSetRowValuesPacket(mysqlRowEncoder, values);
+    }
+    
+    private QueryResponseRow getRowData(final Object[] row) {
+        List<QueryResponseCell> cells = new ArrayList<>(row.length);
+        for (int i = 0; i < row.length; i++) {
+            cells.add(new QueryResponseCell(COLUMN_TYPES[i], row[i], "columnTypeName"));
+        }
+        return new QueryResponseRow(cells);
+    }
+    
+    private Object[] getRowValues(final Object[] row) {
+        return Arrays.copyOf(row, row.length);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        byteBuf.release();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding;
+
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression.CompiledInlineExpression;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.expression.InlineExpressionCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for inline expression evaluation, which compares Groovy closure with compiled inline expression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InlineExpressionBenchmark {
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${Math.abs(order_id.hashCode()) % 16}", "t_order_${order_id.substring(0, 6)}"})
+    private String algorithmExpression;
+    
+    @Param({"787694822390497281", "202403150001"})
+    private String shardingValue;
+    
+    private CompiledInlineExpression compiledInlineExpression;
+    
+    private Map<String, Comparable<?>> args;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        compiledInlineExpression = InlineExpressionCompiler.compile(algorithmExpression);
+        args = Collections.singletonMap("order_id", algorithmExpression.contains("substring") ? shardingValue : Long.parseLong(shardingValue));
+    }
+    
+    /**
+     * Evaluate with Groovy closure.
+     *
+     * @return evaluated result
+     */
+    @Benchmark
+    public String groovy() {
+        return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(args);
+    }
+    
+    /**
+     * Evaluate with compiled inline expression.
+     *
+     * @return evaluated result
+     */
+    @Benchmark
+    public String compiled() {
+        return compiledInlineExpression.evaluate(args);
+    }
+}
@@ -41,6 +41,8 @@ class ShardingPreparedStatementTest extends AbstractShardingDriverTest {
     
     private static final String INSERT_MULTI_VALUES_WITH_GENERATE_SHARDING_KEY_SQL = "INSERT INTO t_user (name) VALUES (?),(?),(?),(?)";
     
+    private static final String INSERT_LITERAL_VALUES_WITH_GENERATE_SHARDING_KEY_SQL = "INSERT INTO t_user (name) VALUES ('BATCH_LITERAL')";
+    
     private static final String SELECT_FOR_INSERT_MULTI_VALUES_WITH_GENERATE_SHARDING_KEY_SQL = "SELECT name FROM t_user WHERE id=%d";
     
     private static final String INSERT_WITH_GENERATE_KEY_SQL = "INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (?, ?, ?, ?)";
@@ -233,6 +235,34 @@ class ShardingPreparedStatementTest extends AbstractShardingDriverTest {
         }
     }
     
+    @Test
+    void assertAddBatchLiteralValuesWithGenerateShardingKeyColumn() throws SQLException {
+        try (
+                Connection connection = getShardingSphereDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_LITERAL_VALUES_WITH_GENERATE_SHARDING_KEY_SQL, Statement.RETURN_GENERATED_KEYS);
+                Statement queryStatement = connection.createStatement()) {
+            ResetIncrementKeyGenerateAlgorithmFixture.getCOUNT().set(10);
+            for (int i = 0; i < 4; i++) {
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+            ResultSet generateKeyResultSet = preparedStatement.getGeneratedKeys();
+            for (long i = 11L; i <= 14L; i++) {
+                assertTrue(generateKeyResultSet.next());
+                assertThat(generateKeyResultSet.getLong(1), is(i));
+                try (ResultSet resultSet = queryStatement.executeQuery(String.format(SELECT_FOR_INSERT_MULTI_VALUES_WITH_GENERATE_SHARDING_KEY_SQL, i))) {
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getString(1), is("BATCH_LITERAL"));
+                    assertFalse(resultSet.next());
+                }
+            }
+            assertFalse(generateKeyResultSet.next());
+        }
+    }
+    
     @Test
     void assertAddBatchWithoutGenerateKeyColumn() throws SQLException {
         try (
@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDa
 import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
 
+import java.util.Properties;
+
 public final class DialectDatabaseMetaDataFixture implements DialectDatabaseMetaData {
     
     @Override
@@ -33,6 +35,11 @@ public final class DialectDatabaseMetaDataFixture implements DialectDatabaseMeta
         return NullsOrderType.FIRST;
     }
     
+    @Override
+    public boolean isSupportMultiStatements(final Properties queryProps) {
+        return Boolean.parseBoolean(queryProps.getProperty("allowMultiQueries"));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "FIXTURE";
@@ -45,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -56,6 +57,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -148,6 +150,27 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertBatchUpdateDataRecordsGroupedByUpdatedColumns() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(getUpdateDataRecord(1, true), getUpdateDataRecord(2, false), getUpdateDataRecord(3, true)));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        importer.run();
+        verify(connection, times(2)).prepareStatement(any());
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    private DataRecord getUpdateDataRecord(final int id, final boolean userUpdated) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        result.addColumn(new Column("id", id, id, false, true));
+        result.addColumn(new Column("user", 10, userUpdated ? 20 : 10, userUpdated, false));
+        result.addColumn(new Column("status", null, PipelineSQLOperationType.UPDATE, true, false));
+        return result;
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
         result.addColumn(new Column("id", 1, 2, true, true));
@@ -156,9 +179,8 @@ class PipelineDataSourceSinkTest {
         return result;
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new IngestFinishedPosition()));
         return result;
     }